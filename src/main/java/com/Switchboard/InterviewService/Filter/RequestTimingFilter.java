@@ -0,0 +1,259 @@
+package com.Switchboard.InterviewService.Filter;
+
+import com.Switchboard.InterviewService.logging.TraceSamplingFilter;
+import com.Switchboard.InterviewService.metrics.RequestTimings;
+import com.Switchboard.InterviewService.metrics.RequestTimings.Phase;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects {@link RequestTimings} for each request and reports them twice:
+ * <ul>
+ *     <li>as a {@code Server-Timing} header, added just before the body starts so it covers database,
+ *     S3 and mapping time; serialization is still running at that point and is left out</li>
+ *     <li>as MDC fields on one summary log line once the response is written, serialization included</li>
+ * </ul>
+ * The heap bytes the request thread allocated are logged too and recorded in
+ * {@code interview.request.allocated}, tagged by HTTP method and route pattern, since allocation rate is what
+ * drives GC pauses and it differs a lot between uploads, list pages and single reads.
+ * <p>
+ * Requests issuing more than {@code request-timing.query-threshold} statements are logged at WARN,
+ * which is how an N+1 regression first shows up. Requests slower than {@code request-timing.slow-ms} or
+ * answered with a 5xx are marked {@link TraceSamplingFilter#KEEP}, so their summary survives log sampling.
+ * <p>
+ * Requests that go async are reported when the response completes rather than when the servlet thread
+ * returns, so the summary covers the offloaded work. Their allocation is the request thread's share up to
+ * going async plus what the offload pools counted for their tasks; writing the response on the async
+ * dispatch is left out.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestTimingFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestTimingFilter.class);
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    // One summary per method and route, registered on first use rather than on every request
+    private final Map<String, DistributionSummary> allocationSummaries = new ConcurrentHashMap<>();
+    private final int queryThreshold;
+    private final long slowNanos;
+
+    public RequestTimingFilter(MeterRegistry meterRegistry,
+                               @Value("${request-timing.query-threshold:20}") int queryThreshold,
+                               @Value("${request-timing.slow-ms:1000}") long slowMillis) {
+        this.meterRegistry = meterRegistry;
+        this.queryThreshold = queryThreshold;
+        this.slowNanos = slowMillis * 1_000_000;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.begin();
+        TimingResponse timed = new TimingResponse(response, timings);
+        try {
+            filterChain.doFilter(request, timed);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // The handler returned a future: the work and the response finish on other threads
+                long requestThreadAllocated = timings.allocatedBytes();
+                RequestTimings.end();
+                request.getAsyncContext().addListener(new AsyncCompletion(request, response, timed, timings,
+                        requestThreadAllocated, MDC.getCopyOfContextMap()));
+            } else {
+                finish(timed);
+                report(request, response, timings, timings.allocatedBytes());
+            }
+        }
+    }
+
+    private static void finish(TimingResponse timed) {
+        timed.addServerTiming();
+        if (timed.bodyStartNanos != 0) {
+            RequestTimings.record(Phase.SERIALIZATION, System.nanoTime() - timed.bodyStartNanos);
+        }
+        RequestTimings.end();
+    }
+
+    /** {@code allocated} is -1 when the JVM does not count allocation for the request thread. */
+    private void report(HttpServletRequest request, HttpServletResponse response, RequestTimings timings, long allocated) {
+        MDC.put("totalMs", millis(timings.elapsedNanos()));
+        MDC.put("dbQueries", Integer.toString(timings.queries()));
+        if (allocated >= 0) {
+            MDC.put("allocBytes", Long.toString(allocated));
+            recordAllocation(request, allocated);
+        }
+        for (Phase phase : Phase.values()) {
+            MDC.put(phase.metric() + "Ms", millis(timings.nanos(phase)));
+        }
+        try {
+            if (timings.queries() > queryThreshold) {
+                log.warn("RequestTimingFilter :: report :: {} {} issued {} queries, threshold is {}",
+                        request.getMethod(), request.getRequestURI(), timings.queries(), queryThreshold);
+            } else if (mustKeep(response, timings)) {
+                log.info(TraceSamplingFilter.KEEP, "RequestTimingFilter :: report :: {} {} -> {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus());
+            } else {
+                log.info("RequestTimingFilter :: report :: {} {} -> {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus());
+            }
+        } finally {
+            MDC.remove("totalMs");
+            MDC.remove("dbQueries");
+            MDC.remove("allocBytes");
+            for (Phase phase : Phase.values()) {
+                MDC.remove(phase.metric() + "Ms");
+            }
+        }
+    }
+
+    boolean mustKeep(HttpServletResponse response, RequestTimings timings) {
+        return response.getStatus() >= 500 || timings.elapsedNanos() > slowNanos;
+    }
+
+    private void recordAllocation(HttpServletRequest request, long allocated) {
+        // The route pattern, not the raw URI, so ids in the path do not create a series each
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        String uri = route != null ? route.toString() : "UNKNOWN";
+        allocationSummaries.computeIfAbsent(method + ' ' + uri, key -> DistributionSummary.builder("interview.request.allocated")
+                        .baseUnit("bytes")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(meterRegistry))
+                .record(allocated);
+    }
+
+    private static String millis(long nanos) {
+        StringBuilder value = new StringBuilder(8);
+        RequestTimings.appendMillis(value, nanos);
+        return value.toString();
+    }
+
+    /**
+     * Reports an async request once its response is complete, on the container thread that completes it,
+     * with the MDC the request had when it went async.
+     */
+    private final class AsyncCompletion implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final TimingResponse timed;
+        private final RequestTimings timings;
+        private final long requestThreadAllocated;
+        private final Map<String, String> context;
+
+        AsyncCompletion(HttpServletRequest request, HttpServletResponse response, TimingResponse timed,
+                        RequestTimings timings, long requestThreadAllocated, Map<String, String> context) {
+            this.request = request;
+            this.response = response;
+            this.timed = timed;
+            this.timings = timings;
+            this.requestThreadAllocated = requestThreadAllocated;
+            this.context = context;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                RequestTimings.attach(timings);
+                finish(timed);
+                report(request, response, timings, requestThreadAllocated < 0
+                        ? -1 : requestThreadAllocated + timings.offloadedAllocatedBytes());
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listeners are dropped when async processing restarts; stay registered until the final completion
+            event.getAsyncContext().addListener(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+    }
+
+    /** Adds the header at the last moment it can still be sent: when the body is first requested. */
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+        private final RequestTimings timings;
+        private long bodyStartNanos;
+        private boolean headerAdded;
+
+        TimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        void addServerTiming() {
+            if (!headerAdded && !isCommitted()) {
+                headerAdded = true;
+                setHeader(SERVER_TIMING, timings.serverTiming());
+            }
+        }
+
+        private void startBody() {
+            if (bodyStartNanos == 0) {
+                addServerTiming();
+                bodyStartNanos = System.nanoTime();
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            startBody();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            startBody();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+    }
+}
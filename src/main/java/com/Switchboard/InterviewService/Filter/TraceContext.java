@@ -0,0 +1,112 @@
+package com.Switchboard.InterviewService.Filter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C trace context ({@code traceparent}) parsing and formatting, and the ids {@link TraceFilter} hands out.
+ * <p>
+ * Ids only have to be unique enough to find a request in the logs, not unguessable, so they come from
+ * {@link ThreadLocalRandom} instead of {@code UUID.randomUUID()}: no shared {@code SecureRandom} to contend
+ * on and no intermediate objects, just the hex string.
+ *
+ * @param traceId  32 lowercase hex digits
+ * @param parentId 16 lowercase hex digits, the caller's span
+ * @param sampled  the caller's sampled flag
+ */
+public record TraceContext(String traceId, String parentId, boolean sampled) {
+
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** A random 128-bit trace id, never all zeros (which W3C reserves as invalid). */
+    public static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        if (high == 0 && low == 0) {
+            low = 1;
+        }
+        char[] id = new char[32];
+        writeHex(id, 0, high);
+        writeHex(id, 16, low);
+        return new String(id);
+    }
+
+    /** A random 64-bit span id, never zero. */
+    public static String newSpanId() {
+        long value = ThreadLocalRandom.current().nextLong();
+        char[] id = new char[16];
+        writeHex(id, 0, value != 0 ? value : 1);
+        return new String(id);
+    }
+
+    /**
+     * Parses a version-00 {@code traceparent}; returns {@code null} for anything missing or malformed, in which
+     * case the caller starts a new trace, as the spec asks. Later versions are read by their first four fields.
+     */
+    public static TraceContext parse(String traceparent) {
+        if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-'
+                || traceparent.startsWith("ff")
+                || traceparent.length() > TRACEPARENT_LENGTH && (traceparent.startsWith("00") || traceparent.charAt(55) != '-')) {
+            return null;
+        }
+        if (!isHex(traceparent, 0, 2) || !isHex(traceparent, 3, 35) || !isHex(traceparent, 36, 52) || !isHex(traceparent, 53, 55)) {
+            return null;
+        }
+        String traceId = traceparent.substring(3, 35);
+        String parentId = traceparent.substring(36, 52);
+        if (isZero(traceId) || isZero(parentId)) {
+            return null;
+        }
+        boolean sampled = (Character.digit(traceparent.charAt(54), 16) & 1) == 1;
+        return new TraceContext(traceId, parentId, sampled);
+    }
+
+    /**
+     * The id in W3C form when {@code traceId} can be expressed as one: 32 hex digits as they are, or a UUID
+     * (the format older callers send as {@code X-Trace-Id}) without its dashes. {@code null} otherwise.
+     */
+    public static String toW3cTraceId(String traceId) {
+        if (traceId.length() == 32 && isHex(traceId, 0, 32)) {
+            return isZero(traceId) ? null : traceId.toLowerCase();
+        }
+        if (traceId.length() == 36 && traceId.charAt(8) == '-' && traceId.charAt(13) == '-'
+                && traceId.charAt(18) == '-' && traceId.charAt(23) == '-') {
+            return toW3cTraceId(traceId.replace("-", ""));
+        }
+        return null;
+    }
+
+    public static String format(String traceId, String spanId, boolean sampled) {
+        return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    private static void writeHex(char[] target, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            target[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static boolean isHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String hex) {
+        for (int i = 0; i < hex.length(); i++) {
+            if (hex.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -5,33 +5,61 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Optional;
-import java.util.UUID;
 
+/**
+ * Puts the request's trace ids in the MDC and echoes them on the response.
+ * <p>
+ * The trace id comes from a valid W3C {@code traceparent}, else from {@code X-Trace-Id}, else a new one is
+ * generated; {@code X-Correlation-Id} is taken as given or generated. Each request also gets its own span id,
+ * which the response's {@code traceparent} carries so callers can link to this hop.
+ */
+// First in the chain, so the ids are in the MDC while every other filter runs, including the one timing http.server.requests
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class TraceFilter extends OncePerRequestFilter {
 
+    static final String TRACE_ID_HEADER = "X-Trace-Id";
+    static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        String traceId = Optional.ofNullable(
-                        request.getHeader("X-Trace-Id"))
-                .orElse(UUID.randomUUID().toString());
+        TraceContext parent = TraceContext.parse(request.getHeader(TraceContext.TRACEPARENT));
+        String traceIdHeader = request.getHeader(TRACE_ID_HEADER);
+        String correlationId = request.getHeader(CORRELATION_ID_HEADER);
 
-        String correlationId = Optional.ofNullable(
-                        request.getHeader("X-Correlation-Id"))
-                .orElse(UUID.randomUUID().toString());
+        String traceId = parent != null ? parent.traceId()
+                : traceIdHeader != null ? traceIdHeader
+                : TraceContext.newTraceId();
+        if (correlationId == null) {
+            correlationId = TraceContext.newTraceId();
+        }
+        String spanId = TraceContext.newSpanId();
 
         try {
             MDC.put("traceId", traceId);
             MDC.put("correlationId", correlationId);
+            MDC.put("spanId", spanId);
+            if (parent != null) {
+                MDC.put("parentSpanId", parent.parentId());
+            }
+
+            response.setHeader(TRACE_ID_HEADER, traceId);
+            response.setHeader(CORRELATION_ID_HEADER, correlationId);
+            String w3cTraceId = TraceContext.toW3cTraceId(traceId);
+            if (w3cTraceId != null) {
+                response.setHeader(TraceContext.TRACEPARENT,
+                        TraceContext.format(w3cTraceId, spanId, parent == null || parent.sampled()));
+            }
 
             filterChain.doFilter(request, response);
         } finally {
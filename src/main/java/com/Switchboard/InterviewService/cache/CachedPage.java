@@ -0,0 +1,14 @@
+package com.Switchboard.InterviewService.cache;
+
+import java.util.Arrays;
+
+/**
+ * A cached result and the generations of its scopes at the moment it was read from the database. It is current
+ * while those generations are unchanged.
+ */
+public record CachedPage(Object value, long[] generations, long cachedAtMillis) {
+
+    public boolean isCurrent(long[] currentGenerations) {
+        return Arrays.equals(generations, currentGenerations);
+    }
+}
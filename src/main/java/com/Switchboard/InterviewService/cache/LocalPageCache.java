@@ -0,0 +1,61 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link PageCache} in this instance's heap. Results are shared as they are, not copied. Entries expire
+ * {@code ttlMs} after they were cached. The cache holds at most {@code maxEntries}: once full, Caffeine evicts
+ * the entries least likely to be read again in constant time, so new pages keep being cached. Invalidation
+ * covers writes made through this instance only.
+ */
+public class LocalPageCache implements PageCache {
+
+    private final Cache<String, CachedPage> entries;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public LocalPageCache(long ttlMs, int maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                // Counted from the page's own timestamp, so an entry handed in already aged expires on time
+                .expireAfter(Expiry.<String, CachedPage>writing((key, page) ->
+                        Duration.ofMillis(Math.max(0, ttlMs - (System.currentTimeMillis() - page.cachedAtMillis())))))
+                .build();
+    }
+
+    @Override
+    public Lookup lookup(String key, List<String> scopes, JavaType type) {
+        long[] current = new long[scopes.size()];
+        for (int i = 0; i < current.length; i++) {
+            AtomicLong generation = generations.get(scopes.get(i));
+            current[i] = generation == null ? 0 : generation.get();
+        }
+        return new Lookup(entries.getIfPresent(key), current);
+    }
+
+    @Override
+    public void put(String key, CachedPage page) {
+        entries.put(key, page);
+    }
+
+    @Override
+    public void bump(Collection<String> scopes) {
+        for (String scope : scopes) {
+            generations.computeIfAbsent(scope, s -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+}
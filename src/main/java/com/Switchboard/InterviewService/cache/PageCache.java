@@ -0,0 +1,40 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Storage for {@link PageCached} results and the generation counters that invalidate them. Every result is tagged
+ * with the generations of its scopes when it was read: the global scope for pages over all companies, or one
+ * company's scope. A write bumps the scopes it touched, and a result whose tags no longer match is only served in
+ * place of a failed read, so invalidation costs one increment per scope however many pages were cached. Results are
+ * stored under their arguments alone, so a recomputed page replaces its outdated entry.
+ */
+public interface PageCache {
+
+    String GLOBAL_SCOPE = "global";
+
+    static String companyScope(String companyTag) {
+        return "company:" + companyTag;
+    }
+
+    /**
+     * Returns the entry cached under {@code key}, if any, with the current generation of each of {@code scopes}.
+     * The generations are null when they could not be read; the result must then not be cached.
+     */
+    Lookup lookup(String key, List<String> scopes, JavaType type);
+
+    void put(String key, CachedPage page);
+
+    /** Moves each scope to a new generation, so every result cached under the old one is outdated. */
+    void bump(Collection<String> scopes);
+
+    record Lookup(CachedPage page, long[] generations) {
+
+        public boolean hit() {
+            return page != null && generations != null && page.isCurrent(generations);
+        }
+    }
+}
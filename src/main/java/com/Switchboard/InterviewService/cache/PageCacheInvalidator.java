@@ -0,0 +1,35 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.Switchboard.InterviewService.service.InterviewExperienceChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bumps the global generation and the generation of every affected company when interview experiences change.
+ * Runs after the writing transaction commits, or straight away for writes made outside one, so a page read again
+ * after the bump sees the change.
+ */
+public class PageCacheInvalidator {
+    private static final Logger log = LoggerFactory.getLogger(PageCacheInvalidator.class);
+
+    private final PageCache cache;
+
+    public PageCacheInvalidator(PageCache cache) {
+        this.cache = cache;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(InterviewExperienceChangedEvent event) {
+        List<String> scopes = new ArrayList<>(event.companyTags().size() + 1);
+        scopes.add(PageCache.GLOBAL_SCOPE);
+        for (String companyTag : event.companyTags()) {
+            scopes.add(PageCache.companyScope(companyTag));
+        }
+        log.debug("PageCacheInvalidator :: onChanged :: bumping {}", scopes);
+        cache.bump(scopes);
+    }
+}
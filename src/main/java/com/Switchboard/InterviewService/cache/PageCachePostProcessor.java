@@ -0,0 +1,229 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.TransactionException;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves {@link PageCached} methods from the {@link PageCache}. The key is the method name and the arguments'
+ * {@code toString()}, i.e. the query, sort and page; a result is served while the generation of its scope is the
+ * one it was read under, and otherwise read again and re-tagged. Pages from {@code maxPages} on are not cached.
+ * <p>
+ * Entries are fresh for {@code softTtlMs} and kept until the cache's hard TTL:
+ * <ul>
+ *     <li>past the soft TTL an entry is still served at once, while one background refresh per key reads it
+ *     again, so no caller waits for a refill (stale-while-revalidate)</li>
+ *     <li>when reading an outdated or soft-expired page fails in the database, its transaction or the request
+ *     deadline, the entry is served instead of the error (stale-if-error)</li>
+ * </ul>
+ * Either way the response is marked with {@code Age} and {@code Warning} headers (see {@link StaleResponse}).
+ * <p>
+ * The proxy goes around the single-flight and transactional ones: a hit takes no pooled connection, and
+ * concurrent misses for the same page still share one query. Lookups are counted in
+ * {@code interview.pagecache.requests}, tagged by method and {@code result=hit|stale|miss|outdated|fallback},
+ * where {@code fallback} is a stale entry served for a failed read.
+ */
+public class PageCachePostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(PageCachePostProcessor.class);
+
+    private final ObjectProvider<PageCache> cacheProvider;
+    private final ObjectProvider<ObjectMapper> objectMapperProvider;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final int maxPages;
+    private final long softTtlMs;
+    private final ThreadPoolExecutor refresher;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<Method, JavaType> resultTypes = new ConcurrentHashMap<>();
+    // Registered once per method name rather than looked up on every lookup
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private volatile PageCache cache;
+
+    /**
+     * The cache, mapper and registry are resolved on first use; post-processors are created before the beans they
+     * would need. Background refreshes run on {@code refreshThreads} threads; once {@code refreshQueueCapacity}
+     * are waiting, further ones are skipped and the entry is refreshed on a later read.
+     */
+    public PageCachePostProcessor(ObjectProvider<PageCache> cacheProvider,
+                                  ObjectProvider<ObjectMapper> objectMapperProvider,
+                                  ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                  int maxPages, long softTtlMs, int refreshThreads, int refreshQueueCapacity) {
+        this.cacheProvider = cacheProvider;
+        this.objectMapperProvider = objectMapperProvider;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.maxPages = maxPages;
+        this.softTtlMs = softTtlMs;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("page-refresh-");
+        threadFactory.setDaemon(true);
+        // Not a Spring executor bean, so it does not displace the task executor Boot configures
+        this.refresher = new ThreadPoolExecutor(refreshThreads, refreshThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(refreshQueueCapacity), threadFactory);
+    }
+
+    /** Wraps after the single-flight proxy and before the metrics proxy, so hits are timed too. */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Map<Method, PageCached> annotated = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<PageCached>) method -> AnnotatedElementUtils.findMergedAnnotation(method, PageCached.class));
+        if (annotated.isEmpty()) {
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory();
+        factory.setTarget(bean);
+        factory.setInterfaces(ClassUtils.getAllInterfacesForClass(targetClass));
+        factory.addAdvice(interceptor(targetClass, annotated));
+        return factory.getProxy(targetClass.getClassLoader());
+    }
+
+    private MethodInterceptor interceptor(Class<?> targetClass, Map<Method, PageCached> annotated) {
+        return invocation -> {
+            Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+            PageCached settings = annotated.get(method);
+            Object[] args = invocation.getArguments();
+            if (settings == null || beyondCachedPages(settings, args)) {
+                return invocation.proceed();
+            }
+            String name = method.getName();
+            String key = name + Arrays.toString(args);
+            List<String> scopes = settings.companyArg() < 0
+                    ? List.of(PageCache.GLOBAL_SCOPE)
+                    : List.of(PageCache.companyScope(String.valueOf(args[settings.companyArg()])));
+            JavaType resultType = resultTypes.computeIfAbsent(method,
+                    m -> objectMapperProvider.getObject().getTypeFactory().constructType(m.getGenericReturnType()));
+
+            Meters methodMeters = meters(name);
+            PageCache.Lookup lookup = cache().lookup(key, scopes, resultType);
+            CachedPage page = lookup.page();
+            if (lookup.hit()) {
+                long ageMillis = System.currentTimeMillis() - page.cachedAtMillis();
+                if (ageMillis < softTtlMs) {
+                    methodMeters.hit.increment();
+                    return page.value();
+                }
+                methodMeters.stale.increment();
+                refresh(name, key, invocation, lookup.generations());
+                StaleResponse.mark(ageMillis, false);
+                return page.value();
+            }
+            (page == null ? methodMeters.miss : methodMeters.outdated).increment();
+            Object result;
+            try {
+                result = invocation.proceed();
+            } catch (DataAccessException | TransactionException | DeadlineExceededException e) {
+                if (page == null) {
+                    throw e;
+                }
+                long ageMillis = System.currentTimeMillis() - page.cachedAtMillis();
+                log.warn("PageCachePostProcessor :: {} :: read failed, serving a page cached {} ms ago: {}", name, ageMillis, e.getMessage());
+                methodMeters.fallback.increment();
+                StaleResponse.mark(ageMillis, true);
+                return page.value();
+            }
+            store(key, result, lookup.generations());
+            return result;
+        };
+    }
+
+    /** Reads the page again in the background unless a refresh of {@code key} is already running or queued. */
+    private void refresh(String name, String key, MethodInvocation invocation, long[] generations) {
+        if (!(invocation instanceof ProxyMethodInvocation proxied) || !refreshing.add(key)) {
+            return;
+        }
+        MethodInvocation detached = proxied.invocableClone();
+        try {
+            refresher.execute(() -> {
+                try {
+                    store(key, detached.proceed(), generations);
+                } catch (Throwable e) {
+                    // The stale entry stays; the next read past the soft TTL tries again
+                    log.debug("PageCachePostProcessor :: refresh :: {} failed: {}", name, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("PageCachePostProcessor :: refresh :: queue full, not refreshing {}", key);
+        }
+    }
+
+    // Tagged with the generations read before the query, so a write committed meanwhile outdates it
+    private void store(String key, Object result, long[] generations) {
+        if (result != null && generations != null) {
+            cache().put(key, new CachedPage(result, generations, System.currentTimeMillis()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    boolean refreshing(String key) {
+        return refreshing.contains(key);
+    }
+
+    private boolean beyondCachedPages(PageCached settings, Object[] args) {
+        return settings.pageArg() >= 0 && args[settings.pageArg()] instanceof Integer page && page >= maxPages;
+    }
+
+    private PageCache cache() {
+        PageCache current = cache;
+        if (current == null) {
+            current = cacheProvider.getObject();
+            cache = current;
+        }
+        return current;
+    }
+
+    private Meters meters(String name) {
+        return meters.computeIfAbsent(name, method -> {
+            MeterRegistry registry = meterRegistryProvider.getObject();
+            return new Meters(counter(registry, method, "hit"), counter(registry, method, "stale"),
+                    counter(registry, method, "miss"), counter(registry, method, "outdated"),
+                    counter(registry, method, "fallback"));
+        });
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String result) {
+        return Counter.builder("interview.pagecache.requests").tag("method", name).tag("result", result).register(registry);
+    }
+
+    private record Meters(Counter hit, Counter stale, Counter miss, Counter outdated, Counter fallback) {
+    }
+}
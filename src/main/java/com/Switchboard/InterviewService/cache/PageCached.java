@@ -0,0 +1,27 @@
+package com.Switchboard.InterviewService.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only method whose results are cached by their arguments (see {@link PageCachePostProcessor}) until
+ * a write to the rows they list bumps the generation they were cached under. Like {@link
+ * com.Switchboard.InterviewService.coalesce.SingleFlight}, every caller receives the same instance.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PageCached {
+
+    /**
+     * Index of the argument naming the company the result lists; its result is then invalidated only by writes to
+     * that company. -1 for results spanning all companies, which every write invalidates.
+     */
+    int companyArg() default -1;
+
+    /** Index of the zero-based page number argument, if any; only the first pages are cached. */
+    int pageArg() default -1;
+}
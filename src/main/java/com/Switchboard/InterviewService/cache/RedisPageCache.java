@@ -0,0 +1,139 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link PageCache} shared by all instances through Redis. A lookup reads the scope generations and the entry in
+ * one {@code MGET}; a bump is an {@code INCR} per scope, so a write through any instance invalidates the pages
+ * every instance cached. Entries are JSON and expire {@code ttlMs} after they were cached. Generation keys do not
+ * expire; were one lost, the entries tagged with its old values still expire with their TTL.
+ * <p>
+ * When Redis is unreachable results are computed without caching, logged once per outage and counted in
+ * {@code interview.pagecache.redis.fallbacks}. A bump that fails is logged every time, since pages cached before
+ * that write may be served until they expire.
+ */
+public class RedisPageCache implements PageCache {
+    private static final Logger log = LoggerFactory.getLogger(RedisPageCache.class);
+
+    static final String KEY_PREFIX = "pagecache:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final long ttlMs;
+    private final Counter fallbacks;
+    private volatile boolean degraded;
+
+    public RedisPageCache(StringRedisTemplate redis, ObjectMapper objectMapper, MeterRegistry meterRegistry, long ttlMs) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.ttlMs = ttlMs;
+        this.fallbacks = Counter.builder("interview.pagecache.redis.fallbacks").register(meterRegistry);
+    }
+
+    @Override
+    public Lookup lookup(String key, List<String> scopes, JavaType type) {
+        List<String> keys = new ArrayList<>(scopes.size() + 1);
+        for (String scope : scopes) {
+            keys.add(generationKey(scope));
+        }
+        keys.add(entryKey(key));
+        List<String> values;
+        try {
+            values = redis.opsForValue().multiGet(keys);
+        } catch (DataAccessException e) {
+            unavailable("lookup", e);
+            return new Lookup(null, null);
+        }
+        if (values == null) {
+            return new Lookup(null, null);
+        }
+        recovered();
+        long[] generations = new long[scopes.size()];
+        for (int i = 0; i < generations.length; i++) {
+            String generation = values.get(i);
+            generations[i] = generation == null ? 0 : Long.parseLong(generation);
+        }
+        return new Lookup(read(key, values.get(scopes.size()), type), generations);
+    }
+
+    @Override
+    public void put(String key, CachedPage page) {
+        try {
+            redis.opsForValue().set(entryKey(key), objectMapper.writeValueAsString(page), Duration.ofMillis(ttlMs));
+        } catch (JsonProcessingException e) {
+            log.warn("RedisPageCache :: put :: could not serialize result for {}: {}", key, e.getMessage());
+        } catch (DataAccessException e) {
+            unavailable("put", e);
+        }
+    }
+
+    @Override
+    public void bump(Collection<String> scopes) {
+        for (String scope : scopes) {
+            try {
+                redis.opsForValue().increment(generationKey(scope));
+            } catch (DataAccessException e) {
+                fallbacks.increment();
+                log.warn("RedisPageCache :: bump :: could not invalidate {}, its pages are served until they expire: {}", scope, e.getMessage());
+            }
+        }
+    }
+
+    private CachedPage read(String key, String json, JavaType type) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            long[] generations = objectMapper.treeToValue(node.get("generations"), long[].class);
+            Object value = objectMapper.readerFor(type).readValue(node.get("value"));
+            return new CachedPage(value, generations, node.get("cachedAtMillis").asLong());
+        } catch (IOException | RuntimeException e) {
+            // Written by an older version, or truncated; recomputing overwrites it
+            log.debug("RedisPageCache :: read :: unreadable entry for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void unavailable(String operation, DataAccessException e) {
+        fallbacks.increment();
+        // Once per outage rather than once per call
+        if (!degraded) {
+            degraded = true;
+            log.warn("RedisPageCache :: {} :: Redis unavailable, pages are read without caching: {}", operation, e.getMessage());
+        }
+    }
+
+    private void recovered() {
+        if (degraded) {
+            degraded = false;
+            log.info("RedisPageCache :: lookup :: Redis reachable again, caching pages");
+        }
+    }
+
+    static String generationKey(String scope) {
+        return KEY_PREFIX + "gen:" + scope;
+    }
+
+    // Hashed, so the arguments (company names, sort fields) are not spelled out in Redis
+    static String entryKey(String key) {
+        return KEY_PREFIX + "page:" + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.Switchboard.InterviewService.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Records on the current request that its body comes from a cache entry past its freshness, so
+ * {@link StaleResponseAdvice} can mark the response. Does nothing outside a request, e.g. for a background refresh.
+ *
+ * @param ageMillis          how long ago the entry was read from the database
+ * @param revalidationFailed true when the entry stands in for a read that failed, false while it is being refreshed
+ */
+public record StaleResponse(long ageMillis, boolean revalidationFailed) {
+
+    static final String ATTRIBUTE = StaleResponse.class.getName();
+
+    static void mark(long ageMillis, boolean revalidationFailed) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, new StaleResponse(ageMillis, revalidationFailed), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /** The RFC 7234 warning for this response. */
+    String warning() {
+        return revalidationFailed ? "111 - \"Revalidation Failed\"" : "110 - \"Response is Stale\"";
+    }
+}
@@ -0,0 +1,37 @@
+package com.Switchboard.InterviewService.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code Age} and {@code Warning} headers to responses whose body was served from a stale page cache entry
+ * (see {@link StaleResponse}), just before the body is written. Clients and dashboards can tell a stale page from a
+ * fresh one without any change to the body.
+ */
+@ControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(StaleResponse.ATTRIBUTE) instanceof StaleResponse stale) {
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(stale.ageMillis() / 1000));
+            response.getHeaders().set(HttpHeaders.WARNING, stale.warning());
+        }
+        return body;
+    }
+}
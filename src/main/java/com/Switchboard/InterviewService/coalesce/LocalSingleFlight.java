@@ -0,0 +1,125 @@
+package com.Switchboard.InterviewService.coalesce;
+
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
+import com.Switchboard.InterviewService.deadline.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lets concurrent calls with the same key share one execution. The first caller for a key runs the call; callers
+ * arriving while it runs wait for its result, or rethrow its exception, instead of running it again. Nothing is
+ * kept once the call returns, so this is not a cache: a call arriving a moment later runs again.
+ * <p>
+ * A follower waits no longer than its own request's deadline. If the leader failed because <i>its</i> deadline ran
+ * out, followers with time left run the call themselves rather than inherit a timeout that was not theirs.
+ * <p>
+ * Calls are counted in {@code interview.singleflight.calls}, tagged by method and {@code role=leader|follower};
+ * the coalescing ratio is followers over all calls. {@code interview.singleflight.callers} records how many
+ * callers each execution served.
+ */
+public class LocalSingleFlight {
+
+    /** A call that may throw whatever the intercepted method throws. */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+    // Registered once per method name rather than looked up on every call
+    private final ConcurrentHashMap<String, Meters> meters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public LocalSingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs {@code call} unless a call with the same {@code key} is already running, in which case its outcome
+     * is returned. {@code name} tags the metrics and must come from code, not from request data.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, String key, Call<T> call) throws Throwable {
+        while (true) {
+            Flight flight = new Flight();
+            Flight running = flights.putIfAbsent(key, flight);
+            if (running == null) {
+                return (T) lead(name, key, flight, call);
+            }
+            running.followers.incrementAndGet();
+            meters(name).follower.increment();
+            try {
+                return (T) await(running);
+            } catch (DeadlineExceededException | QueryTimeoutException e) {
+                if (RequestDeadline.current() != null && RequestDeadline.current().expired()) {
+                    throw e;
+                }
+                // The leader ran out of its own time; take over with ours
+            }
+        }
+    }
+
+    private Object lead(String name, String key, Flight flight, Call<?> call) throws Throwable {
+        Meters methodMeters = meters(name);
+        methodMeters.leader.increment();
+        try {
+            Object result = call.call();
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+            methodMeters.callers.record(flight.followers.get() + 1);
+        }
+    }
+
+    private static Object await(Flight flight) throws Throwable {
+        try {
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline == null) {
+                return flight.result.get();
+            }
+            return flight.result.get(Math.max(0, deadline.remainingMillis()), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("Gave up waiting for a shared call, the request deadline has passed");
+        }
+    }
+
+    private Meters meters(String name) {
+        return meters.computeIfAbsent(name, method -> new Meters(
+                counter(method, "leader"),
+                counter(method, "follower"),
+                DistributionSummary.builder("interview.singleflight.callers").tag("method", method).register(meterRegistry)));
+    }
+
+    private Counter counter(String name, String role) {
+        return Counter.builder("interview.singleflight.calls").tag("method", name).tag("role", role).register(meterRegistry);
+    }
+
+    /** Callers currently waiting on the running call for {@code key}. */
+    int followers(String key) {
+        Flight flight = flights.get(key);
+        return flight == null ? 0 : flight.followers.get();
+    }
+
+    private record Meters(Counter leader, Counter follower, DistributionSummary callers) {
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+}
@@ -0,0 +1,190 @@
+package com.Switchboard.InterviewService.coalesce;
+
+import com.Switchboard.InterviewService.deadline.RequestDeadline;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extends single-flight across instances: of all instances calling with the same key, the one that takes a short
+ * Redis lock runs the call and publishes the result as JSON; the others poll for it instead of running the call.
+ * This is what keeps a popular page from reaching Postgres once per instance the moment it stops being served
+ * from cache. Only the leader of each instance's {@link LocalSingleFlight} gets here, so Redis sees at most one
+ * waiter per instance and key.
+ * <p>
+ * The lock holds a token unique to the flight and the result is stored under that token, so a waiter never
+ * picks up the result of an earlier flight. A waiter that outlives the lock without finding a result (the
+ * leader failed or returned null) tries to lead itself; one that reaches the lock TTL or its request deadline
+ * runs the call on its own. When Redis is unreachable every call runs locally, logged once per outage.
+ * <p>
+ * Counted in {@code interview.singleflight.remote}, tagged by method and
+ * {@code outcome=leader|shared|fallback}. Keys are hashed, so emails and other arguments do not reach Redis.
+ */
+public class RedisSingleFlight {
+    private static final Logger log = LoggerFactory.getLogger(RedisSingleFlight.class);
+
+    static final String KEY_PREFIX = "singleflight:";
+
+    // Deletes the lock only while it still holds this flight's token
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    // Registered once per method name rather than looked up on every call
+    private final ConcurrentHashMap<String, Meters> meters = new ConcurrentHashMap<>();
+    private final long lockTtlMs;
+    private final long pollIntervalMs;
+    private final long resultTtlMs;
+    private volatile boolean degraded;
+
+    public RedisSingleFlight(StringRedisTemplate redis, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             long lockTtlMs, long pollIntervalMs, long resultTtlMs) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.lockTtlMs = lockTtlMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.resultTtlMs = resultTtlMs;
+    }
+
+    /** Runs {@code call} here or returns the result another instance published for the same key. */
+    public <T> T execute(String name, String key, JavaType resultType, LocalSingleFlight.Call<T> call) throws Throwable {
+        String lockKey = KEY_PREFIX + name + ":" + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+        long waitUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RequestDeadline.remainingMillis(lockTtlMs));
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            boolean leader;
+            String shared = null;
+            // Only Redis failures are caught here; the call's own exceptions must reach the caller
+            try {
+                leader = Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMs)));
+                if (!leader) {
+                    String holder = redis.opsForValue().get(lockKey);
+                    shared = holder == null ? null : awaitResult(lockKey, holder, waitUntil);
+                }
+            } catch (InterruptedException e) {
+                // Keep the interrupt for the caller; letting it escape would surface as UndeclaredThrowableException
+                Thread.currentThread().interrupt();
+                meters(name).fallback.increment();
+                return call.call();
+            } catch (DataAccessException e) {
+                meters(name).fallback.increment();
+                // Once per outage rather than once per call
+                if (!degraded) {
+                    degraded = true;
+                    log.warn("RedisSingleFlight :: execute :: Redis unavailable, calls are coalesced per instance only: {}", e.getMessage());
+                }
+                return call.call();
+            }
+            if (leader) {
+                recovered();
+                return lead(name, lockKey, token, call);
+            }
+            if (shared != null) {
+                try {
+                    T result = objectMapper.readValue(shared, resultType);
+                    meters(name).shared.increment();
+                    return result;
+                } catch (JsonProcessingException e) {
+                    log.warn("RedisSingleFlight :: execute :: unreadable shared result for {}: {}", lockKey, e.getMessage());
+                    meters(name).fallback.increment();
+                    return call.call();
+                }
+            }
+            if (System.nanoTime() - waitUntil >= 0) {
+                meters(name).fallback.increment();
+                return call.call();
+            }
+        }
+    }
+
+    private <T> T lead(String name, String lockKey, String token, LocalSingleFlight.Call<T> call) throws Throwable {
+        meters(name).leader.increment();
+        try {
+            T result = call.call();
+            if (result != null) {
+                publish(lockKey, token, result);
+            }
+            return result;
+        } finally {
+            try {
+                redis.execute(RELEASE, List.of(lockKey), token);
+            } catch (DataAccessException e) {
+                // Expires with its TTL
+                log.debug("RedisSingleFlight :: lead :: could not release {}: {}", lockKey, e.getMessage());
+            }
+        }
+    }
+
+    private void publish(String lockKey, String token, Object result) {
+        try {
+            redis.opsForValue().set(resultKey(lockKey, token), objectMapper.writeValueAsString(result), Duration.ofMillis(resultTtlMs));
+        } catch (DataAccessException | JsonProcessingException e) {
+            // Waiters time out and run the call themselves
+            log.warn("RedisSingleFlight :: publish :: could not share result for {}: {}", lockKey, e.getMessage());
+        }
+    }
+
+    /**
+     * Polls, one round trip each time, until the flight {@code token} has published its result, the lock has
+     * moved on without one, or {@code waitUntil} passes. Returns the result JSON or null.
+     */
+    private String awaitResult(String lockKey, String token, long waitUntil) throws InterruptedException {
+        String resultKey = resultKey(lockKey, token);
+        while (System.nanoTime() - waitUntil < 0) {
+            Thread.sleep(pollIntervalMs);
+            List<String> values = redis.opsForValue().multiGet(List.of(resultKey, lockKey));
+            if (values == null) {
+                return null;
+            }
+            if (values.get(0) != null) {
+                return values.get(0);
+            }
+            if (!token.equals(values.get(1))) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static String resultKey(String lockKey, String token) {
+        return lockKey + ":" + token;
+    }
+
+    private void recovered() {
+        if (degraded) {
+            degraded = false;
+            log.info("RedisSingleFlight :: execute :: Redis reachable again, coalescing across instances");
+        }
+    }
+
+    private Meters meters(String name) {
+        return meters.computeIfAbsent(name, method -> new Meters(
+                counter(method, "leader"), counter(method, "shared"), counter(method, "fallback")));
+    }
+
+    private Counter counter(String name, String outcome) {
+        return Counter.builder("interview.singleflight.remote").tag("method", name).tag("outcome", outcome).register(meterRegistry);
+    }
+
+    private record Meters(Counter leader, Counter shared, Counter fallback) {
+    }
+}
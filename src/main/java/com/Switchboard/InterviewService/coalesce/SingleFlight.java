@@ -0,0 +1,18 @@
+package com.Switchboard.InterviewService.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only method whose concurrent calls with equal arguments may share one execution and its
+ * result (see {@link SingleFlightPostProcessor}). Only for methods without side effects whose result
+ * callers do not modify: every caller in a flight receives the same instance.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+}
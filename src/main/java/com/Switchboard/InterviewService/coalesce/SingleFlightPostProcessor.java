@@ -0,0 +1,93 @@
+package com.Switchboard.InterviewService.coalesce;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces concurrent calls to {@link SingleFlight} methods with equal arguments. The key is the method name and
+ * the arguments' {@code toString()}, which suits the ids, strings and numbers the service takes. Calls are
+ * coalesced within the instance by {@link LocalSingleFlight} and, when a {@link RedisSingleFlight} bean exists,
+ * across instances as well.
+ * <p>
+ * The proxy goes around the transactional one, so a caller waiting for a shared result holds no pooled connection.
+ */
+public class SingleFlightPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<LocalSingleFlight> localProvider;
+    private final ObjectProvider<RedisSingleFlight> redisProvider;
+    private final ObjectProvider<ObjectMapper> objectMapperProvider;
+    private final Map<Method, JavaType> resultTypes = new ConcurrentHashMap<>();
+    private volatile LocalSingleFlight local;
+
+    /** Resolved on first use; post-processors are created before the beans they would need. */
+    public SingleFlightPostProcessor(ObjectProvider<LocalSingleFlight> localProvider,
+                                     ObjectProvider<RedisSingleFlight> redisProvider,
+                                     ObjectProvider<ObjectMapper> objectMapperProvider) {
+        this.localProvider = localProvider;
+        this.redisProvider = redisProvider;
+        this.objectMapperProvider = objectMapperProvider;
+    }
+
+    /** Wraps before the page cache and metrics proxies, so only misses are coalesced and timed as long as their callers waited. */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 2;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Map<Method, SingleFlight> annotated = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<SingleFlight>) method -> AnnotatedElementUtils.findMergedAnnotation(method, SingleFlight.class));
+        if (annotated.isEmpty()) {
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory();
+        factory.setTarget(bean);
+        factory.setInterfaces(ClassUtils.getAllInterfacesForClass(targetClass));
+        factory.addAdvice(interceptor(targetClass, annotated.keySet()));
+        return factory.getProxy(targetClass.getClassLoader());
+    }
+
+    private MethodInterceptor interceptor(Class<?> targetClass, Set<Method> annotated) {
+        return invocation -> {
+            Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+            if (!annotated.contains(method)) {
+                return invocation.proceed();
+            }
+            String name = method.getName();
+            String key = name + Arrays.toString(invocation.getArguments());
+            RedisSingleFlight redis = redisProvider.getIfAvailable();
+            if (redis == null) {
+                return local().execute(name, key, invocation::proceed);
+            }
+            JavaType resultType = resultTypes.computeIfAbsent(method,
+                    m -> objectMapperProvider.getObject().getTypeFactory().constructType(m.getGenericReturnType()));
+            return local().execute(name, key, () -> redis.execute(name, key, resultType, invocation::proceed));
+        };
+    }
+
+    private LocalSingleFlight local() {
+        LocalSingleFlight current = local;
+        if (current == null) {
+            current = localProvider.getObject();
+            local = current;
+        }
+        return current;
+    }
+}
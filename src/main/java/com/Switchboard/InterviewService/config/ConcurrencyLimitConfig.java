@@ -0,0 +1,52 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.limit.AimdLimit;
+import com.Switchboard.InterviewService.limit.ConcurrencyLimitFilter;
+import com.Switchboard.InterviewService.limit.EndpointClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limits for the interview API (see {@link ConcurrencyLimitFilter}). Each endpoint class
+ * reads {@code concurrency-limit.<read|write|upload>.initial}, {@code .min}, {@code .max} and
+ * {@code .latency-target-ms}; unset values fall back to the defaults below. On unless
+ * {@code concurrency-limit.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    private record Settings(int initial, int min, int max, long latencyTargetMs) {
+    }
+
+    private static final Map<EndpointClass, Settings> DEFAULTS = Map.of(
+            EndpointClass.READ, new Settings(100, 10, 400, 250),
+            EndpointClass.WRITE, new Settings(20, 2, 100, 500),
+            EndpointClass.UPLOAD, new Settings(16, 2, 64, 3000));
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(Environment environment, MeterRegistry meterRegistry) {
+        double backoffRatio = environment.getProperty("concurrency-limit.backoff-ratio", Double.class, 0.9);
+        Map<EndpointClass, AimdLimit> limits = new EnumMap<>(EndpointClass.class);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "concurrency-limit." + endpointClass.tag() + ".";
+            Settings defaults = DEFAULTS.get(endpointClass);
+            limits.put(endpointClass, new AimdLimit(
+                    environment.getProperty(prefix + "initial", Integer.class, defaults.initial()),
+                    environment.getProperty(prefix + "min", Integer.class, defaults.min()),
+                    environment.getProperty(prefix + "max", Integer.class, defaults.max()),
+                    environment.getProperty(prefix + "latency-target-ms", Long.class, defaults.latencyTargetMs()),
+                    backoffRatio));
+        }
+        return new ConcurrencyLimitFilter("/api/v1/interview",
+                limits,
+                environment.getProperty("concurrency-limit.shed-writes-above", Double.class, 0.8),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.deadline.DeadlineFilter;
+import com.Switchboard.InterviewService.deadline.DeadlineJpaTransactionManager;
+import com.Switchboard.InterviewService.limit.EndpointClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Request deadlines (see {@link DeadlineFilter}). Each endpoint class reads {@code deadline.<read|write|upload>.default-ms};
+ * the transaction manager replaces the one Boot would create so database work is bounded by the same deadline.
+ * On unless {@code deadline.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    private static final Map<EndpointClass, Long> DEFAULTS = Map.of(
+            EndpointClass.READ, 3000L,
+            EndpointClass.WRITE, 5000L,
+            EndpointClass.UPLOAD, 15000L);
+
+    @Bean
+    public DeadlineFilter deadlineFilter(Environment environment, MeterRegistry meterRegistry) {
+        Map<EndpointClass, Long> budgets = new EnumMap<>(EndpointClass.class);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            budgets.put(endpointClass, environment.getProperty("deadline." + endpointClass.tag() + ".default-ms",
+                    Long.class, DEFAULTS.get(endpointClass)));
+        }
+        return new DeadlineFilter("/api/v1/interview", budgets, meterRegistry);
+    }
+
+    // Same as Boot's JPA transaction manager, which backs off when this bean exists
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        DeadlineJpaTransactionManager transactionManager = new DeadlineJpaTransactionManager();
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
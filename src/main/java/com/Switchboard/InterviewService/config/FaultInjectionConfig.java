@@ -0,0 +1,59 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.fault.FaultInjectionEndpoint;
+import com.Switchboard.InterviewService.fault.FaultInjectionPostProcessor;
+import com.Switchboard.InterviewService.fault.FaultInjector;
+import com.Switchboard.InterviewService.fault.FaultSpec;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.TransientDataAccessResourceException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Fault and latency injection for S3 ({@code s3}) and the database ({@code db}). Only active with
+ * {@code fault-injection.enabled=true}, which no deployed profile sets. Initial faults come from
+ * {@code fault-injection.s3} / {@code fault-injection.db} specs (see {@link FaultSpec}); they can be
+ * changed at runtime through {@code /actuator/faults}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "fault-injection.enabled", havingValue = "true")
+public class FaultInjectionConfig {
+
+    static final String S3 = "s3";
+    static final String DB = "db";
+
+    // Static: post-processors are created before regular beans, so nothing here may depend on them
+    @Bean
+    public static FaultInjector faultInjector(Environment environment) {
+        Map<String, Function<String, RuntimeException>> failures = Map.of(
+                S3, message -> S3Exception.builder().statusCode(503).message(message + ": Slow Down").build(),
+                DB, TransientDataAccessResourceException::new);
+        FaultInjector injector = new FaultInjector(failures);
+        for (String target : failures.keySet()) {
+            String spec = environment.getProperty("fault-injection." + target);
+            if (spec != null && !spec.isBlank()) {
+                injector.set(target, FaultSpec.parse(spec));
+            }
+        }
+        return injector;
+    }
+
+    @Bean
+    public static FaultInjectionPostProcessor faultInjectionPostProcessor(FaultInjector faultInjector) {
+        return new FaultInjectionPostProcessor(faultInjector, Map.of(
+                FileService.class, S3,
+                InterviewExperienceRepository.class, DB));
+    }
+
+    @Bean
+    public FaultInjectionEndpoint faultInjectionEndpoint(FaultInjector faultInjector) {
+        return new FaultInjectionEndpoint(faultInjector);
+    }
+}
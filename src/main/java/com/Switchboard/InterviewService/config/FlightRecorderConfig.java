@@ -0,0 +1,37 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.jfr.ContinuousRecording;
+import com.Switchboard.InterviewService.jfr.FlightRecorderEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Continuous flight recording, on unless {@code jfr.enabled=false}. Dumps are written to {@code jfr.dump-dir}
+ * through {@code /actuator/jfr} (see {@link FlightRecorderEndpoint}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ContinuousRecording continuousRecording(@Value("${jfr.settings:default}") String settings,
+                                                   @Value("${jfr.max-age:30m}") Duration maxAge,
+                                                   @Value("${jfr.max-size:250MB}") DataSize maxSize,
+                                                   @Value("${jfr.dump-dir:${java.io.tmpdir}/jfr}") Path dumpDirectory)
+            throws IOException, ParseException {
+        return new ContinuousRecording(settings, maxAge, maxSize.toBytes(), dumpDirectory);
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(ContinuousRecording continuousRecording) {
+        return new FlightRecorderEndpoint(continuousRecording);
+    }
+}
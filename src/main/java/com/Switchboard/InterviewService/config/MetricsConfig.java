@@ -0,0 +1,33 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.metrics.MdcSpanContext;
+import com.Switchboard.InterviewService.metrics.MeteredProxyPostProcessor;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.InterviewExperienceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.prometheus.metrics.tracer.common.SpanContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class MetricsConfig {
+
+    // Static: post-processors are created before regular beans, so the registry is only looked up on first call
+    @Bean
+    public static MeteredProxyPostProcessor meteredProxyPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MeteredProxyPostProcessor(meterRegistry, Map.of(
+                InterviewExperienceService.class, MeteredProxyPostProcessor.SERVICE,
+                FileService.class, MeteredProxyPostProcessor.S3,
+                InterviewExperienceRepository.class, MeteredProxyPostProcessor.DB));
+    }
+
+    /** Picked up by the Prometheus registry auto-configuration to attach trace ids as exemplars. */
+    @Bean
+    public SpanContext mdcSpanContext() {
+        return new MdcSpanContext();
+    }
+}
@@ -0,0 +1,58 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.cache.LocalPageCache;
+import com.Switchboard.InterviewService.cache.PageCache;
+import com.Switchboard.InterviewService.cache.PageCacheInvalidator;
+import com.Switchboard.InterviewService.cache.PageCachePostProcessor;
+import com.Switchboard.InterviewService.cache.RedisPageCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Caching of feed and company pages (see {@link PageCachePostProcessor}), invalidated through generation counters
+ * that writes bump. With {@code page-cache.mode=redis} pages and generations are shared by all instances; the
+ * default {@code local} keeps them in this instance. Entries are fresh for {@code page-cache.soft-ttl-ms} and are
+ * kept, to be served while they refresh or when the database fails, until {@code page-cache.hard-ttl-ms}. On unless
+ * {@code page-cache.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "page-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class PageCacheConfig {
+
+    // Static: post-processors are created before regular beans, so the cache is only looked up on first call
+    @Bean
+    public static PageCachePostProcessor pageCachePostProcessor(ObjectProvider<PageCache> cache,
+                                                                ObjectProvider<ObjectMapper> objectMapper,
+                                                                ObjectProvider<MeterRegistry> meterRegistry,
+                                                                @Value("${page-cache.max-pages:5}") int maxPages,
+                                                                @Value("${page-cache.soft-ttl-ms:30000}") long softTtlMs,
+                                                                @Value("${page-cache.refresh.threads:2}") int refreshThreads,
+                                                                @Value("${page-cache.refresh.queue-capacity:32}") int refreshQueueCapacity) {
+        return new PageCachePostProcessor(cache, objectMapper, meterRegistry, maxPages, softTtlMs, refreshThreads, refreshQueueCapacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "page-cache.mode", havingValue = "local", matchIfMissing = true)
+    public LocalPageCache localPageCache(@Value("${page-cache.hard-ttl-ms:600000}") long ttlMs,
+                                         @Value("${page-cache.local.max-entries:10000}") int maxEntries) {
+        return new LocalPageCache(ttlMs, maxEntries);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "page-cache.mode", havingValue = "redis")
+    public RedisPageCache redisPageCache(StringRedisTemplate redis, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                         @Value("${page-cache.hard-ttl-ms:600000}") long ttlMs) {
+        return new RedisPageCache(redis, objectMapper, meterRegistry, ttlMs);
+    }
+
+    @Bean
+    public PageCacheInvalidator pageCacheInvalidator(PageCache pageCache) {
+        return new PageCacheInvalidator(pageCache);
+    }
+}
@@ -0,0 +1,45 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.profiler.ProfilerAttributionInterceptor;
+import com.Switchboard.InterviewService.profiler.ProfilerEndpoint;
+import com.Switchboard.InterviewService.profiler.SamplingProfiler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.regex.Pattern;
+
+/**
+ * In-process sampling profiler for containers where no external profiler can be attached. Only active with
+ * {@code profiler.enabled=true}; the profile is served by {@code /actuator/profile} (see {@link ProfilerEndpoint}).
+ * At the default 20 ms interval it costs one stack walk of the matching threads 50 times a second.
+ */
+@Configuration
+@ConditionalOnProperty(name = "profiler.enabled", havingValue = "true")
+public class ProfilerConfig implements WebMvcConfigurer {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public SamplingProfiler samplingProfiler(@Value("${profiler.interval-ms:20}") long intervalMs,
+                                             @Value("${profiler.window-seconds:60}") long windowSeconds,
+                                             @Value("${profiler.windows:30}") int windows,
+                                             @Value("${profiler.max-depth:128}") int maxDepth,
+                                             @Value("${profiler.max-stacks-per-window:10000}") int maxStacks,
+                                             @Value("${profiler.threads:.*-exec-\\d+|(s3|db)-offload-\\d+|upload-spool-.*}") String threadNames) {
+        // Request workers, the offload pools and the spool drainer; Tomcat's acceptor and poller sit in native
+        // calls and only add noise
+        return new SamplingProfiler(intervalMs, windowSeconds * 1000, windows, maxDepth, maxStacks, Pattern.compile(threadNames));
+    }
+
+    @Bean
+    public ProfilerEndpoint profilerEndpoint(SamplingProfiler samplingProfiler) {
+        return new ProfilerEndpoint(samplingProfiler);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ProfilerAttributionInterceptor());
+    }
+}
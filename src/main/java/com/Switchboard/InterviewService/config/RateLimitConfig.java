@@ -0,0 +1,62 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.limit.EndpointClass;
+import com.Switchboard.InterviewService.limit.LocalRateLimiter;
+import com.Switchboard.InterviewService.limit.RateLimit;
+import com.Switchboard.InterviewService.limit.RateLimiter;
+import com.Switchboard.InterviewService.limit.RedisRateLimiter;
+import com.Switchboard.InterviewService.limit.UserRateLimitFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-user rate limits (see {@link UserRateLimitFilter}). Each endpoint class reads
+ * {@code rate-limit.<read|write|upload>.per-second} and {@code .burst}. With {@code rate-limit.mode=redis}
+ * the buckets are shared through Redis, with the local buckets as the fallback; the default {@code local}
+ * keeps them in this instance. On unless {@code rate-limit.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private static final Map<EndpointClass, RateLimit> DEFAULTS = Map.of(
+            EndpointClass.READ, new RateLimit(20, 40),
+            EndpointClass.WRITE, new RateLimit(5, 10),
+            EndpointClass.UPLOAD, new RateLimit(1, 5));
+
+    @Bean
+    public LocalRateLimiter localRateLimiter(@Value("${rate-limit.sweep-interval-ms:10000}") long sweepIntervalMs,
+                                             MeterRegistry meterRegistry) {
+        LocalRateLimiter limiter = new LocalRateLimiter(sweepIntervalMs);
+        Gauge.builder("interview.ratelimit.buckets", limiter, LocalRateLimiter::size).register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public UserRateLimitFilter userRateLimitFilter(Environment environment, LocalRateLimiter localRateLimiter,
+                                                   ObjectProvider<StringRedisTemplate> redis, MeterRegistry meterRegistry) {
+        RateLimiter limiter = localRateLimiter;
+        if ("redis".equalsIgnoreCase(environment.getProperty("rate-limit.mode", "local"))) {
+            limiter = new RedisRateLimiter(redis.getObject(), localRateLimiter, meterRegistry);
+        }
+        Map<EndpointClass, RateLimit> limits = new EnumMap<>(EndpointClass.class);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "rate-limit." + endpointClass.tag() + ".";
+            RateLimit defaults = DEFAULTS.get(endpointClass);
+            limits.put(endpointClass, new RateLimit(
+                    environment.getProperty(prefix + "per-second", Double.class, defaults.permitsPerSecond()),
+                    environment.getProperty(prefix + "burst", Integer.class, defaults.burst())));
+        }
+        return new UserRateLimitFilter("/api/v1/interview", limiter, limits, meterRegistry);
+    }
+}
@@ -0,0 +1,46 @@
+package com.Switchboard.InterviewService.config;
+
+import com.Switchboard.InterviewService.coalesce.LocalSingleFlight;
+import com.Switchboard.InterviewService.coalesce.RedisSingleFlight;
+import com.Switchboard.InterviewService.coalesce.SingleFlightPostProcessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Coalescing of identical concurrent reads (see {@link SingleFlightPostProcessor}). With
+ * {@code single-flight.mode=redis} calls are also coalesced across instances through a Redis lock held for at most
+ * {@code single-flight.redis.lock-ttl-ms}; the default {@code local} coalesces within this instance. On unless
+ * {@code single-flight.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "single-flight.enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightConfig {
+
+    // Static: post-processors are created before regular beans, so the flights are only looked up on first call
+    @Bean
+    public static SingleFlightPostProcessor singleFlightPostProcessor(ObjectProvider<LocalSingleFlight> local,
+                                                                      ObjectProvider<RedisSingleFlight> redis,
+                                                                      ObjectProvider<ObjectMapper> objectMapper) {
+        return new SingleFlightPostProcessor(local, redis, objectMapper);
+    }
+
+    @Bean
+    public LocalSingleFlight localSingleFlight(MeterRegistry meterRegistry) {
+        return new LocalSingleFlight(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "single-flight.mode", havingValue = "redis")
+    public RedisSingleFlight redisSingleFlight(StringRedisTemplate redis, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                               @Value("${single-flight.redis.lock-ttl-ms:5000}") long lockTtlMs,
+                                               @Value("${single-flight.redis.poll-interval-ms:20}") long pollIntervalMs,
+                                               @Value("${single-flight.redis.result-ttl-ms:2000}") long resultTtlMs) {
+        return new RedisSingleFlight(redis, objectMapper, meterRegistry, lockTtlMs, pollIntervalMs, resultTtlMs);
+    }
+}
@@ -1,11 +1,15 @@
 package com.Switchboard.InterviewService.controller;
 
 import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.config.ValidImage;
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.executor.OffloadExecutors;
 import com.Switchboard.InterviewService.service.FileService;
 import com.Switchboard.InterviewService.service.InterviewExperienceService;
+import com.Switchboard.InterviewService.spool.UploadSpool;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,14 +21,26 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/api/v1/interview")
@@ -33,36 +49,46 @@ import java.util.UUID;
 public class InterviewExperienceController {
     private static final Logger log = LoggerFactory.getLogger(InterviewExperienceController.class);
 
+    /** RFC 7396 media type; plain JSON is accepted too since most clients do not set it. */
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final InterviewExperienceService interviewService;
     private final FileService fileService;
+    private final UploadSpool uploadSpool;
+    private final OffloadExecutors offloadExecutors;
 
 
     @Operation(summary = "Create a new interview experience", description = "Creates a new interview experience with optional image upload")
     @PostMapping(value = "/", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<InterviewExperienceResponse> createInterviewExperience(
-            @Valid @ModelAttribute InterviewExperienceRequest request,@RequestHeader("X-User-Email") String userEmailHeader) throws IOException {
-        log.info("InterviewExperienceController :: createInterviewExperience :: starting request processing");
+    public CompletableFuture<ResponseEntity<InterviewExperienceResponse>> createInterviewExperience(
+            @Valid @ModelAttribute InterviewExperienceRequest request,@RequestHeader("X-User-Email") String userEmailHeader) {
+        log.debug("InterviewExperienceController :: createInterviewExperience :: starting request processing");
 
-        try {
-            String imageUrl = null;
-            if (request.getImage() != null && !request.getImage().isEmpty()) {
-                log.info("InterviewExperienceController :: createInterviewExperience :: processing image: {} of type: {}",
-                        request.getImage().getOriginalFilename(), request.getImage().getContentType());
-
-                imageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, request.getImage());
-            }
-            request.setUserEmail(userEmailHeader);
-            InterviewExperienceResponse response = interviewService.createInterviewExperience(request, imageUrl);
-            log.info("InterviewExperienceController :: createInterviewExperience :: completed successfully");
-            return ResponseEntity.ok(response);
+        boolean hasImage = request.getImage() != null && !request.getImage().isEmpty();
+        // In spool mode the image is written locally after the row exists and uploaded to S3 in the background
+        boolean spoolImage = hasImage && uploadSpool.isEnabled();
+        request.setUserEmail(userEmailHeader);
 
-        } catch (MultipartException e) {
-            log.error("InterviewExperienceController :: createInterviewExperience :: multipart error: {}", e.getMessage());
-            throw new RuntimeException("Error processing multipart request: " + e.getMessage());
-        } catch (Exception e) {
-            log.error("InterviewExperienceController :: createInterviewExperience :: error: {}", e.getMessage());
-            throw e;
+        // The servlet thread returns here; the upload and the insert run on the offload pools
+        CompletableFuture<String> imageUrl = CompletableFuture.completedFuture(null);
+        if (hasImage && !spoolImage) {
+            log.debug("InterviewExperienceController :: createInterviewExperience :: processing image: {} of type: {}",
+                    request.getImage().getOriginalFilename(), request.getImage().getContentType());
+
+            imageUrl = offloadExecutors.s3().supply(() -> fileService.uploadImage(AppConstants.PATH_VARIABLE, request.getImage()));
         }
+        return imageUrl
+                .thenCompose(url -> offloadExecutors.db().supply(() -> spoolImage
+                        ? interviewService.createInterviewExperienceWithSpooledImage(request)
+                        : interviewService.createInterviewExperience(request, url)))
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.error("InterviewExperienceController :: createInterviewExperience :: error: {}", rootMessage(e));
+                    } else {
+                        log.debug("InterviewExperienceController :: createInterviewExperience :: completed successfully");
+                    }
+                })
+                .thenApply(ResponseEntity::ok);
     }
 
     @ExceptionHandler(MultipartException.class)
@@ -76,9 +102,9 @@ public class InterviewExperienceController {
     public ResponseEntity<List<InterviewExperienceResponse>> searchByEmail(
             @Parameter(description = "User email to search for", required = true)
             @RequestParam String email) {
-        log.info("InterviewExperienceController :: searchByEmail :: searching :: interviews for email: {}", email);
+        log.debug("InterviewExperienceController :: searchByEmail :: searching :: interviews for email: {}", email);
         List<InterviewExperienceResponse> response = interviewService.searchByEmail(email);
-        log.info("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.size());
+        log.debug("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.size());
         return ResponseEntity.ok(response);
     }
 
@@ -87,9 +113,9 @@ public class InterviewExperienceController {
     public ResponseEntity<List<InterviewExperienceResponse>> searchByEmailHeader(
             @Parameter(description = "User email to search for", required = true)
             @RequestHeader("X-User-Email") String userEmailHeader) {
-        log.info("InterviewExperienceController :: searchByEmail :: searching :: interviews for email: {}", userEmailHeader);
+        log.debug("InterviewExperienceController :: searchByEmail :: searching :: interviews for email: {}", userEmailHeader);
         List<InterviewExperienceResponse> response = interviewService.searchByEmail(userEmailHeader);
-        log.info("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.size());
+        log.debug("InterviewExperienceController :: searchByEmail :: found :: {} interviews", response.size());
         return ResponseEntity.ok(response);
     }
 
@@ -99,9 +125,9 @@ public class InterviewExperienceController {
     public ResponseEntity<List<InterviewExperienceResponse>> searchByCompany(
             @Parameter(description = "Company name to search for", required = true)
             @RequestParam String company) {
-        log.info("InterviewExperienceController :: searchByCompany :: searching :: interviews for company: {}", company);
+        log.debug("InterviewExperienceController :: searchByCompany :: searching :: interviews for company: {}", company);
         List<InterviewExperienceResponse> response = interviewService.searchByCompany(company);
-        log.info("InterviewExperienceController :: searchByCompany :: found :: {} interviews", response.size());
+        log.debug("InterviewExperienceController :: searchByCompany :: found :: {} interviews", response.size());
         return ResponseEntity.ok(interviewService.searchByCompany(company));
     }
 
@@ -117,9 +143,9 @@ public class InterviewExperienceController {
             @Parameter(description = "Sort direction (asc/desc)")
             @RequestParam(value = "sortDir", defaultValue = AppConstants.SORT_DIR, required = false) String sortDir
     ) {
-        log.info("InterviewExperienceController :: getAllInterviews :: fetching :: all interviews");
+        log.debug("InterviewExperienceController :: getAllInterviews :: fetching :: all interviews");
         PageResponseDTO response = interviewService.getAllInterviews(pageNumber, pageSize, sortBy, sortDir);
-        log.info("InterviewExperienceController :: getAllInterviews :: fetched :: {} interviews", response.getContent().size());
+        log.debug("InterviewExperienceController :: getAllInterviews :: fetched :: {} interviews", response.getContent().size());
         return ResponseEntity.ok(response);
     }
 
@@ -128,28 +154,136 @@ public class InterviewExperienceController {
     public ResponseEntity<InterviewExperienceResponse> getInterviewById(
             @Parameter(description = "Interview UUID", required = true)
             @PathVariable UUID id) {
-        log.info("InterviewExperienceController :: getInterviewById :: fetching :: interview with id: {}", id);
+        log.debug("InterviewExperienceController :: getInterviewById :: fetching :: interview with id: {}", id);
         InterviewExperienceResponse response = interviewService.getInterviewById(id);
-        log.info("InterviewExperienceController :: getInterviewById :: fetched :: interview with id: {}", id);
-        return ResponseEntity.ok(response);
+        log.debug("InterviewExperienceController :: getInterviewById :: fetched :: interview with id: {}", id);
+        return withETag(response);
     }
 
-    @Operation(summary = "Update an interview experience", description = "Updates an existing interview experience with optional new image")
+    @Operation(summary = "Update an interview experience", description = "Updates the supplied fields of an interview experience with optional new image. Send the ETag from a previous read as If-Match to reject concurrent edits.")
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<InterviewExperienceResponse> updateInterviewExperience(
+    public CompletableFuture<ResponseEntity<InterviewExperienceResponse>> updateInterviewExperience(
             @Parameter(description = "Interview UUID", required = true)
             @PathVariable UUID id,
-            @Valid @ModelAttribute InterviewExperienceRequest request) throws IOException {
-        log.info("InterviewExperienceController :: updateInterviewExperience :: updating :: interview experience with id: {}", id);
+            @Valid @ModelAttribute InterviewExperienceRequest request,
+            @Parameter(description = "ETag of the version being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("InterviewExperienceController :: updateInterviewExperience :: updating :: interview experience with id: {}", id);
 
-        try {
-            InterviewExperienceResponse response = interviewService.updateInterviewExperience(
-                    id, request, request.getImage());
-            log.info("InterviewExperienceController :: updateInterviewExperience :: updated :: interview experience with id: {}", id);
+        Long expectedVersion = parseIfMatch(ifMatch);
+        // The service interleaves reads, the upload and the write; a new image makes S3 the slow part
+        boolean hasImage = request.getImage() != null && !request.getImage().isEmpty();
+        OffloadExecutors.Pool pool = hasImage ? offloadExecutors.s3() : offloadExecutors.db();
+        return pool.supply(() -> interviewService.updateInterviewExperience(id, request, request.getImage(), expectedVersion))
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.error("InterviewExperienceController :: updateInterviewExperience :: error :: {}", rootMessage(e));
+                    } else {
+                        log.debug("InterviewExperienceController :: updateInterviewExperience :: updated :: interview experience with id: {}", id);
+                    }
+                })
+                .thenApply(InterviewExperienceController::withETag);
+    }
+
+    @Operation(summary = "Patch an interview experience", description = "Applies a JSON Merge Patch to the text fields of an interview experience. Only the members present in the body are written. Send the ETag from a previous read as If-Match to reject concurrent edits.")
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<InterviewExperienceResponse> patchInterviewExperience(
+            @Parameter(description = "Interview UUID", required = true)
+            @PathVariable UUID id,
+            @RequestBody Map<String, Object> patch,
+            @Parameter(description = "ETag of the version being patched")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("InterviewExperienceController :: patchInterviewExperience :: patching :: interview experience with id: {}", id);
+        InterviewExperienceResponse response = interviewService.patchInterviewExperience(id, patch, parseIfMatch(ifMatch));
+        log.debug("InterviewExperienceController :: patchInterviewExperience :: patched :: interview experience with id: {}", id);
+        return withETag(response);
+    }
+
+    @Operation(summary = "Replace the image of an interview experience", description = "Uploads a new image and points the interview experience at it. Re-sending the current image is a no-op.")
+    @PutMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<InterviewExperienceResponse> replaceImage(
+            @Parameter(description = "Interview UUID", required = true)
+            @PathVariable UUID id,
+            @ValidImage @RequestPart("image") MultipartFile image,
+            @Parameter(description = "ETag of the version being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws IOException {
+        log.debug("InterviewExperienceController :: replaceImage :: replacing :: image of interview experience with id: {}", id);
+        InterviewExperienceResponse response = interviewService.replaceImage(id, image, parseIfMatch(ifMatch));
+        log.debug("InterviewExperienceController :: replaceImage :: replaced :: image of interview experience with id: {}", id);
+        return withETag(response);
+    }
+
+    @Operation(summary = "Remove the image of an interview experience", description = "Clears the image of an interview experience and removes it from S3")
+    @DeleteMapping("/{id}/image")
+    public ResponseEntity<InterviewExperienceResponse> removeImage(
+            @Parameter(description = "Interview UUID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the version being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("InterviewExperienceController :: removeImage :: removing :: image of interview experience with id: {}", id);
+        InterviewExperienceResponse response = interviewService.removeImage(id, parseIfMatch(ifMatch));
+        log.debug("InterviewExperienceController :: removeImage :: removed :: image of interview experience with id: {}", id);
+        return withETag(response);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleVersionConflict(ObjectOptimisticLockingFailureException e) {
+        log.warn("InterviewExperienceController :: handleVersionConflict :: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("Interview experience was modified by another request; reload and retry");
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleOverload(RejectedExecutionException e) {
+        log.warn("InterviewExperienceController :: handleOverload :: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body("Service is busy; retry shortly");
+    }
+
+    // The task may still be running and commit, so no Retry-After: a blind retry of a create would duplicate it
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<String> handleTimeout(TimeoutException e) {
+        log.warn("InterviewExperienceController :: handleTimeout :: offloaded work did not finish in time");
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body("Request timed out; the change may still be applied");
+    }
+
+    // The request's deadline ran out in our code, in a JDBC statement or in an S3 call
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class,
+            TransactionTimedOutException.class, ApiCallTimeoutException.class})
+    public ResponseEntity<String> handleDeadlineExceeded(Exception e) {
+        log.warn("InterviewExperienceController :: handleDeadlineExceeded :: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body("Request deadline exceeded");
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        log.warn("InterviewExperienceController :: handleBadRequest :: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private static ResponseEntity<InterviewExperienceResponse> withETag(InterviewExperienceResponse response) {
+        if (response == null || response.getVersion() == null) {
             return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("InterviewExperienceController :: updateInterviewExperience :: error :: {}", e.getMessage());
-            throw e;
+        }
+        return ResponseEntity.ok().eTag("\"" + response.getVersion() + "\"").body(response);
+    }
+
+    private static String rootMessage(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+    }
+
+    /** Extracts the version from an If-Match value such as {@code "3"} or {@code W/"3"}; null or {@code *} means unconditional. */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed If-Match header: " + ifMatch);
         }
     }
 
@@ -158,9 +292,9 @@ public class InterviewExperienceController {
     public ResponseEntity<String> deleteInterviewExperience(
             @Parameter(description = "Interview UUID", required = true)
             @PathVariable UUID id) {
-        log.info("InterviewExperienceController :: deleteInterviewExperience :: deleting :: interview experience with id: {}", id);
+        log.debug("InterviewExperienceController :: deleteInterviewExperience :: deleting :: interview experience with id: {}", id);
         interviewService.deleteInterviewExperience(id);
-        log.info("InterviewExperienceController :: deleteInterviewExperience :: deleted :: interview experience with id: {}", id);
+        log.debug("InterviewExperienceController :: deleteInterviewExperience :: deleted :: interview experience with id: {}", id);
         return ResponseEntity.ok("Interview experience deleted successfully, image removed from S3");
     }
 }
@@ -0,0 +1,9 @@
+package com.Switchboard.InterviewService.deadline;
+
+/** Work for a request was stopped or skipped because the request's deadline passed; the API answers 504. */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package com.Switchboard.InterviewService.deadline;
+
+import com.Switchboard.InterviewService.limit.EndpointClass;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Starts the {@link RequestDeadline} for each interview API request. The budget is the endpoint class's
+ * default, shortened by the caller's own: {@code X-Request-Timeout-Ms} as milliseconds from now, or
+ * {@code X-Request-Deadline} as epoch milliseconds when the gateway forwards an absolute deadline. A caller
+ * can ask for less time than the default but not more; malformed values are ignored.
+ * <p>
+ * A request whose deadline has already passed when it arrives, typically one that sat in a gateway or load
+ * balancer queue, is answered 504 without touching the service, and counted in {@code interview.deadline.expired}.
+ */
+// After the trace and timing filters, and before the rate and concurrency limits so an expired request uses neither
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class DeadlineFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(DeadlineFilter.class);
+
+    static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    private final String pathPrefix;
+    private final Map<EndpointClass, Long> defaultBudgetMs;
+    private final Map<EndpointClass, Counter> expired = new EnumMap<>(EndpointClass.class);
+
+    public DeadlineFilter(String pathPrefix, Map<EndpointClass, Long> defaultBudgetMs, MeterRegistry meterRegistry) {
+        this.pathPrefix = pathPrefix;
+        this.defaultBudgetMs = new EnumMap<>(defaultBudgetMs);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            if (!this.defaultBudgetMs.containsKey(endpointClass)) {
+                throw new IllegalArgumentException("No default deadline configured for " + endpointClass);
+            }
+            expired.put(endpointClass, Counter.builder("interview.deadline.expired")
+                    .tag("class", endpointClass.tag()).register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(pathPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointClass endpointClass = EndpointClass.of(request);
+        long budgetMs = defaultBudgetMs.get(endpointClass);
+        Long timeoutMs = parse(request, TIMEOUT_HEADER);
+        if (timeoutMs != null) {
+            budgetMs = Math.min(budgetMs, timeoutMs);
+        }
+        Long deadlineEpochMs = parse(request, DEADLINE_HEADER);
+        if (deadlineEpochMs != null) {
+            budgetMs = Math.min(budgetMs, deadlineEpochMs - System.currentTimeMillis());
+        }
+        if (budgetMs <= 0) {
+            expired.get(endpointClass).increment();
+            log.debug("DeadlineFilter :: doFilterInternal :: {} {} arrived {} ms past its deadline",
+                    request.getMethod(), request.getRequestURI(), -budgetMs);
+            response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Request deadline has already passed");
+            return;
+        }
+
+        // Offloaded work carries the deadline with it, so this thread can drop it as soon as the chain returns
+        RequestDeadline.begin(budgetMs);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.end();
+        }
+    }
+
+    private static Long parse(HttpServletRequest request, String header) {
+        String value = request.getHeader(header);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.debug("DeadlineFilter :: parse :: ignoring malformed {}: {}", header, value);
+            return null;
+        }
+    }
+}
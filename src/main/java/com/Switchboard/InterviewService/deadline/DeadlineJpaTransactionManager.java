@@ -0,0 +1,34 @@
+package com.Switchboard.InterviewService.deadline;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Gives every transaction begun for a request the time left on its {@link RequestDeadline} as its timeout.
+ * Hibernate turns the transaction timeout into a JDBC query timeout on each statement, so a query still
+ * running when the caller has given up is cancelled by the driver and its connection returns to the pool.
+ * A transaction that would begin after the deadline is not begun at all.
+ * <p>
+ * JDBC timeouts are whole seconds, so the remaining time is rounded up; a declared {@code @Transactional}
+ * timeout still applies when it is shorter.
+ */
+public class DeadlineJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        // Before an EntityManager or connection is taken; super would wrap the exception
+        RequestDeadline.check("Transaction");
+        super.doBegin(transaction, definition);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int declared = super.determineTimeout(definition);
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return declared;
+        }
+        int remainingSeconds = (int) Math.max(1, (deadline.remainingMillis() + 999) / 1000);
+        return declared == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(declared, remainingSeconds);
+    }
+}
@@ -0,0 +1,71 @@
+package com.Switchboard.InterviewService.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time after which nobody is waiting for the current request's answer, held in a thread local
+ * like {@code RequestTimings} and {@link #attach(RequestDeadline) attached} to worker threads that take over
+ * part of the request. Database and S3 calls size their timeouts from {@link #remainingMillis()}, so work
+ * for a caller that has given up stops instead of holding a connection.
+ * <p>
+ * The static methods do nothing outside a request (startup, scheduled jobs, the spool drainer).
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /** Starts a deadline {@code budgetMs} from now for the request on this thread. */
+    public static RequestDeadline begin(long budgetMs) {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /** The deadline of the request this thread is working on, or null outside a request. */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /** Makes this thread work against {@code deadline} until {@link #end()}. */
+    public static void attach(RequestDeadline deadline) {
+        if (deadline != null) {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Throws {@link DeadlineExceededException} if the current request's deadline has passed; call before
+     * starting work that would otherwise run for nobody.
+     */
+    public static void check(String operation) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.expired()) {
+            throw new DeadlineExceededException(operation + " skipped, the request deadline has passed");
+        }
+    }
+
+    /** Milliseconds left on the current request's deadline, at most {@code limitMs}; {@code limitMs} outside a request. */
+    public static long remainingMillis(long limitMs) {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline == null ? limitMs : Math.min(limitMs, deadline.remainingMillis());
+    }
+
+    /** Rounded up, so waiting this long always reaches the deadline; zero or less once it has passed. */
+    public long remainingMillis() {
+        return Math.ceilDiv(deadlineNanos - System.nanoTime(), 1_000_000L);
+    }
+
+    public boolean expired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
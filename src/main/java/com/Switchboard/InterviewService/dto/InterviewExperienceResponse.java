@@ -20,4 +20,5 @@ public class InterviewExperienceResponse {
     private String companyTag;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
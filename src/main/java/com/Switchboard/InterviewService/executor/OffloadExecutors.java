@@ -0,0 +1,197 @@
+package com.Switchboard.InterviewService.executor;
+
+import com.Switchboard.InterviewService.config.MdcTaskDecorator;
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
+import com.Switchboard.InterviewService.deadline.RequestDeadline;
+import com.Switchboard.InterviewService.metrics.RequestTimings;
+import com.Switchboard.InterviewService.profiler.ThreadAttribution;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded pools that upload and write endpoints hand their S3 and database work to, so the servlet thread
+ * is released as soon as the multipart body is parsed and stays free for reads.
+ * <p>
+ * Each pool has a fixed number of threads and a fixed queue. A full queue rejects straight away with
+ * {@link RejectedExecutionException}, which the controller answers with 503, rather than letting waiting
+ * uploads pile up in memory. Each task has a timeout: the future fails with {@code TimeoutException}, or with
+ * {@link DeadlineExceededException} when the request's deadline comes first, and a task still queued by
+ * then is skipped instead of run for a caller that has been answered. A task already running is interrupted,
+ * but may have committed before it noticed, so the controller answers both with 504 and no {@code Retry-After}.
+ * <p>
+ * A task records into its own copy of the request timings, merged back only when the task rather than a
+ * timeout completes the future, so a task outliving its request never writes into timings the request
+ * thread is reading.
+ * <p>
+ * Queue depth, active threads and completions are published as the Micrometer {@code executor.*} meters,
+ * tagged {@code name=s3} or {@code name=db}, and rejections as {@code interview.executor.rejected}.
+ * These are plain {@code ThreadPoolExecutor}s rather than Spring {@code Executor} beans, so they do not
+ * displace the task executor Boot configures for {@code @Async} and MVC.
+ */
+@Component
+public class OffloadExecutors {
+
+    static final String REJECTED_METRIC = "interview.executor.rejected";
+
+    private final ScheduledThreadPoolExecutor timeouts;
+    private final Pool s3;
+    private final Pool db;
+
+    public OffloadExecutors(MeterRegistry meterRegistry, MdcTaskDecorator decorator,
+                            @Value("${offload.s3.threads:16}") int s3Threads,
+                            @Value("${offload.s3.queue-capacity:64}") int s3QueueCapacity,
+                            @Value("${offload.s3.timeout-ms:10000}") long s3TimeoutMs,
+                            @Value("${offload.db.threads:10}") int dbThreads,
+                            @Value("${offload.db.queue-capacity:100}") int dbQueueCapacity,
+                            @Value("${offload.db.timeout-ms:5000}") long dbTimeoutMs) {
+        CustomizableThreadFactory timeoutThreads = new CustomizableThreadFactory("offload-timeout-");
+        timeoutThreads.setDaemon(true);
+        this.timeouts = new ScheduledThreadPoolExecutor(1, timeoutThreads);
+        // Most tasks finish well inside their timeout; drop their timers instead of keeping them queued
+        this.timeouts.setRemoveOnCancelPolicy(true);
+        this.s3 = new Pool("s3", s3Threads, s3QueueCapacity, s3TimeoutMs, decorator, meterRegistry, timeouts);
+        this.db = new Pool("db", dbThreads, dbQueueCapacity, dbTimeoutMs, decorator, meterRegistry, timeouts);
+    }
+
+    /** Work whose slowest step is an S3 call. */
+    public Pool s3() {
+        return s3;
+    }
+
+    /** Work that only talks to the database. */
+    public Pool db() {
+        return db;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        s3.executor.shutdown();
+        db.executor.shutdown();
+        timeouts.shutdownNow();
+    }
+
+    public static final class Pool {
+        private final String name;
+        private final long timeoutMs;
+        private final TaskDecorator decorator;
+        private final ThreadPoolExecutor executor;
+        private final ScheduledThreadPoolExecutor timeouts;
+        private final Counter rejected;
+
+        Pool(String name, int threads, int queueCapacity, long timeoutMs, TaskDecorator decorator, MeterRegistry meterRegistry,
+             ScheduledThreadPoolExecutor timeouts) {
+            this.name = name;
+            this.timeouts = timeouts;
+            this.timeoutMs = timeoutMs;
+            this.decorator = decorator;
+            this.rejected = Counter.builder(REJECTED_METRIC).tag("name", name).register(meterRegistry);
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-offload-");
+            threadFactory.setDaemon(true);
+            this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+                    (task, pool) -> {
+                        rejected.increment();
+                        throw new RejectedExecutionException(name + " executor is saturated");
+                    });
+            new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+        }
+
+        /**
+         * Runs {@code task} on this pool with the caller's MDC, request timings, deadline and profiler endpoint
+         * tag, and adds what the task records, including the heap bytes it allocates, to the request's timings.
+         * Throws {@link RejectedExecutionException} when the queue is full; otherwise the returned future
+         * completes with the task's result, its exception, a {@code TimeoutException} or a
+         * {@link DeadlineExceededException}, in the last two cases interrupting the task if it is running.
+         */
+        public <T> CompletableFuture<T> supply(Callable<T> task) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            // Whoever sets this first, the task or its timeout, is the one that completes the future
+            AtomicBoolean settled = new AtomicBoolean();
+            RequestTimings timings = RequestTimings.current();
+            RequestDeadline deadline = RequestDeadline.current();
+            String endpoint = ThreadAttribution.of(Thread.currentThread().threadId());
+            Future<?> submitted = executor.submit(decorator.decorate(() -> {
+                if (settled.get()) {
+                    return;
+                }
+                RequestTimings worker = timings == null ? null : timings.fork();
+                RequestTimings.attach(worker);
+                RequestDeadline.attach(deadline);
+                if (endpoint != null) {
+                    ThreadAttribution.tag(endpoint);
+                }
+                long allocatedBefore = RequestTimings.threadAllocatedBytes();
+                try {
+                    T result = task.call();
+                    if (settle(settled, timings, worker, allocatedBefore)) {
+                        future.complete(result);
+                    }
+                } catch (Throwable e) {
+                    if (settle(settled, timings, worker, allocatedBefore)) {
+                        future.completeExceptionally(e);
+                    }
+                } finally {
+                    RequestTimings.end();
+                    RequestDeadline.end();
+                    ThreadAttribution.clear();
+                }
+            }));
+
+            boolean deadlineFirst = deadline != null && deadline.remainingMillis() < timeoutMs;
+            ScheduledFuture<?> timer = timeouts.schedule(() -> {
+                if (settled.compareAndSet(false, true)) {
+                    future.completeExceptionally(deadlineFirst
+                            ? new DeadlineExceededException(name + " work did not finish before the request deadline")
+                            : new TimeoutException(name + " work did not finish within " + timeoutMs + " ms"));
+                    submitted.cancel(true);
+                }
+            }, deadlineFirst ? deadline.remainingMillis() : timeoutMs, TimeUnit.MILLISECONDS);
+            future.whenComplete((result, failure) -> timer.cancel(false));
+            return future;
+        }
+
+        /**
+         * Claims completion for the task and, if it got there before the timeout, merges what it recorded into
+         * the request's timings. Merged before completing, since completion lets the request report them.
+         */
+        private static boolean settle(AtomicBoolean settled, RequestTimings timings, RequestTimings worker, long allocatedBefore) {
+            if (!settled.compareAndSet(false, true)) {
+                return false;
+            }
+            if (worker != null) {
+                if (allocatedBefore >= 0) {
+                    worker.addOffloadedAllocation(RequestTimings.threadAllocatedBytes() - allocatedBefore);
+                }
+                timings.merge(worker);
+            }
+            return true;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        int queued() {
+            return executor.getQueue().size();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.Switchboard.InterviewService.fault;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/faults}: GET lists the active faults, POST {@code /actuator/faults/{target}} with
+ * {@code {"spec": "latency-ms=200,error-rate=0.1"}} replaces one, DELETE removes all.
+ */
+@Endpoint(id = "faults")
+public class FaultInjectionEndpoint {
+
+    private final FaultInjector injector;
+
+    public FaultInjectionEndpoint(FaultInjector injector) {
+        this.injector = injector;
+    }
+
+    @ReadOperation
+    public Map<String, Object> faults() {
+        Map<String, Object> faults = new LinkedHashMap<>();
+        injector.active().forEach((target, spec) -> faults.put(target, spec.describe()));
+        return faults;
+    }
+
+    @WriteOperation
+    public Map<String, Object> setFault(@Selector String target, String spec) {
+        injector.set(target, FaultSpec.parse(spec));
+        return faults();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> clearFaults() {
+        injector.clear();
+        return faults();
+    }
+}
@@ -0,0 +1,53 @@
+package com.Switchboard.InterviewService.fault;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+
+/**
+ * Puts a {@link FaultInjector} in front of every bean of the given types, e.g. {@code FileService} as
+ * {@code s3} and the repository as {@code db}. Beans are wrapped in an interface proxy of the matched type,
+ * which also works for Spring Data repositories whose target class does not implement the interface.
+ */
+public class FaultInjectionPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final FaultInjector injector;
+    private final Map<Class<?>, String> targets;
+
+    public FaultInjectionPostProcessor(FaultInjector injector, Map<Class<?>, String> targets) {
+        this.injector = injector;
+        this.targets = Map.copyOf(targets);
+    }
+
+    /** Wraps before the metrics proxy does, so injected latency and failures are measured like real ones. */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Map.Entry<Class<?>, String> target : targets.entrySet()) {
+            if (target.getKey().isInstance(bean)) {
+                return wrap(bean, target.getKey(), target.getValue());
+            }
+        }
+        return bean;
+    }
+
+    private Object wrap(Object bean, Class<?> type, String target) {
+        ProxyFactory factory = new ProxyFactory();
+        factory.setTarget(bean);
+        factory.addInterface(type);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            if (invocation.getMethod().getDeclaringClass() != Object.class) {
+                injector.apply(target, invocation.getMethod().getName());
+            }
+            return invocation.proceed();
+        });
+        return factory.getProxy(type.getClassLoader());
+    }
+}
@@ -0,0 +1,74 @@
+package com.Switchboard.InterviewService.fault;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Holds the active {@link FaultSpec} per target ({@code s3}, {@code db}) and applies it before a call.
+ * Specs can be replaced at runtime; each call reads the current one once.
+ */
+public class FaultInjector {
+    private static final Logger log = LoggerFactory.getLogger(FaultInjector.class);
+
+    private final Map<String, FaultSpec> specs = new ConcurrentHashMap<>();
+    private final Map<String, Function<String, RuntimeException>> failures;
+
+    /**
+     * @param failures per target, builds the exception a real outage of that dependency would surface
+     */
+    public FaultInjector(Map<String, Function<String, RuntimeException>> failures) {
+        this.failures = Map.copyOf(failures);
+    }
+
+    public boolean isKnownTarget(String target) {
+        return failures.containsKey(target);
+    }
+
+    public void set(String target, FaultSpec spec) {
+        if (!isKnownTarget(target)) {
+            throw new IllegalArgumentException("Unknown fault target: " + target);
+        }
+        log.warn("FaultInjector :: set :: target {} now {}", target, spec.describe());
+        specs.put(target, spec);
+    }
+
+    public void clear() {
+        log.info("FaultInjector :: clear :: removing all injected faults");
+        specs.clear();
+    }
+
+    public FaultSpec get(String target) {
+        return specs.getOrDefault(target, FaultSpec.NONE);
+    }
+
+    public Map<String, FaultSpec> active() {
+        return new TreeMap<>(specs);
+    }
+
+    /** Sleeps, stalls or throws according to the target's spec; returns normally when the call should proceed. */
+    public void apply(String target, String method) throws InterruptedException {
+        FaultSpec spec = specs.get(target);
+        if (spec == null || !spec.appliesTo(method)) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (spec.stallRate() > 0 && random.nextDouble() < spec.stallRate()) {
+            log.debug("FaultInjector :: apply :: stalling {}.{} for {} ms", target, method, spec.stallMs());
+            Thread.sleep(spec.stallMs());
+        }
+        long latency = spec.sampleLatencyMs(random);
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+        if (spec.errorRate() > 0 && random.nextDouble() < spec.errorRate()) {
+            log.debug("FaultInjector :: apply :: failing {}.{}", target, method);
+            throw failures.get(target).apply("Injected fault in " + target + "." + method);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.Switchboard.InterviewService.fault;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * How one dependency misbehaves, parsed from a compact spec such as
+ * {@code latency-ms=50,sigma=0.8,error-rate=0.02,stall-rate=0.001,stall-ms=30000,methods=deleteImage|uploadBytes}.
+ * <ul>
+ *     <li>{@code latency-ms}: median added latency; {@code sigma} spreads it log-normally (0 means constant)</li>
+ *     <li>{@code error-rate}: probability that a call fails instead of running</li>
+ *     <li>{@code stall-rate}, {@code stall-ms}: probability and length of a hang, the tail case timeouts must cover</li>
+ *     <li>{@code methods}: restricts the faults to these method names; all methods when absent</li>
+ * </ul>
+ */
+public record FaultSpec(long latencyMs, double sigma, double errorRate, double stallRate, long stallMs, Set<String> methods) {
+
+    public static final FaultSpec NONE = new FaultSpec(0, 0, 0, 0, 0, Set.of());
+
+    public FaultSpec {
+        if (latencyMs < 0 || sigma < 0 || stallMs < 0) {
+            throw new IllegalArgumentException("Latencies and sigma must not be negative");
+        }
+        if (errorRate < 0 || errorRate > 1 || stallRate < 0 || stallRate > 1) {
+            throw new IllegalArgumentException("Rates must be between 0 and 1");
+        }
+        methods = Set.copyOf(methods);
+    }
+
+    public static FaultSpec parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return NONE;
+        }
+        long latencyMs = 0;
+        double sigma = 0;
+        double errorRate = 0;
+        double stallRate = 0;
+        long stallMs = 30_000;
+        Set<String> methods = Set.of();
+
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value in fault spec but got: " + part);
+            }
+            String value = pair[1].trim();
+            switch (pair[0].trim()) {
+                case "latency-ms" -> latencyMs = Long.parseLong(value);
+                case "sigma" -> sigma = Double.parseDouble(value);
+                case "error-rate" -> errorRate = Double.parseDouble(value);
+                case "stall-rate" -> stallRate = Double.parseDouble(value);
+                case "stall-ms" -> stallMs = Long.parseLong(value);
+                case "methods" -> methods = Arrays.stream(value.split("\\|"))
+                        .map(String::trim)
+                        .filter(m -> !m.isEmpty())
+                        .collect(Collectors.toSet());
+                default -> throw new IllegalArgumentException("Unknown fault spec key: " + pair[0].trim());
+            }
+        }
+        return new FaultSpec(latencyMs, sigma, errorRate, stallRate, stallMs, methods);
+    }
+
+    public boolean appliesTo(String method) {
+        return methods.isEmpty() || methods.contains(method);
+    }
+
+    /** Latency to add to one call, in milliseconds. */
+    long sampleLatencyMs(ThreadLocalRandom random) {
+        if (latencyMs == 0 || sigma == 0) {
+            return latencyMs;
+        }
+        return Math.round(latencyMs * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    /** Readable form for the actuator endpoint; parses back to an equal spec. */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("latency-ms", latencyMs);
+        description.put("sigma", sigma);
+        description.put("error-rate", errorRate);
+        description.put("stall-rate", stallRate);
+        description.put("stall-ms", stallMs);
+        description.put("methods", methods);
+        return description;
+    }
+}
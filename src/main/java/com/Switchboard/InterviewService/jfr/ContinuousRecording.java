@@ -0,0 +1,88 @@
+package com.Switchboard.InterviewService.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Always-on flight recording kept on disk for the last {@code maxAge} (bounded by {@code maxSize}), so the
+ * minutes before an incident can be dumped afterwards without restarting with {@code -XX:StartFlightRecording}.
+ * Uses the JDK's {@code default} settings (about 1% overhead) plus {@link OperationEvent}.
+ */
+public class ContinuousRecording {
+    private static final Logger log = LoggerFactory.getLogger(ContinuousRecording.class);
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Recording recording;
+    private final Path dumpDirectory;
+
+    public ContinuousRecording(String settings, Duration maxAge, long maxSizeBytes, Path dumpDirectory)
+            throws IOException, ParseException {
+        this.recording = new Recording(Configuration.getConfiguration(settings));
+        this.recording.setName("interview-service");
+        this.recording.setToDisk(true);
+        this.recording.setMaxAge(maxAge);
+        this.recording.setMaxSize(maxSizeBytes);
+        this.recording.enable(OperationEvent.class);
+        this.dumpDirectory = dumpDirectory;
+    }
+
+    public void start() {
+        recording.start();
+        log.info("ContinuousRecording :: start :: recording with max age {} and max size {} bytes",
+                recording.getMaxAge(), recording.getMaxSize());
+    }
+
+    public void stop() {
+        recording.close();
+    }
+
+    public RecordingState state() {
+        return recording.getState();
+    }
+
+    public Duration maxAge() {
+        return recording.getMaxAge();
+    }
+
+    /**
+     * Writes the last {@code window} of the recording to a new file in the dump directory and returns its path.
+     * Goes through the {@code JFR.dump} diagnostic command, which cuts the time range inside the JVM;
+     * {@code Recording.dump} would always write the whole retained recording.
+     */
+    public Path dump(Duration window) throws IOException {
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve("interview-service-" + LocalDateTime.now().format(FILE_TIME) + ".jfr").toAbsolutePath();
+        String[] arguments = {
+                "name=" + recording.getId(),
+                "filename=" + file,
+                "maxage=" + window.toSeconds() + "s"
+        };
+        try {
+            ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                    "jfrDump", new Object[]{arguments}, new String[]{String[].class.getName()});
+        } catch (JMException e) {
+            throw new IOException("JFR.dump failed: " + e.getMessage(), e);
+        }
+        if (!Files.exists(file)) {
+            throw new IOException("JFR.dump did not write " + file);
+        }
+        log.info("ContinuousRecording :: dump :: wrote last {} to {}", window, file);
+        return file;
+    }
+}
@@ -0,0 +1,57 @@
+package com.Switchboard.InterviewService.jfr;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/jfr}: GET shows the continuous recording; POST with {@code {"minutes": 15}} dumps the last
+ * 15 minutes (default 10) to a file on the instance and returns its path, to be copied off and opened in JMC.
+ */
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    static final int DEFAULT_MINUTES = 10;
+
+    private final ContinuousRecording recording;
+
+    public FlightRecorderEndpoint(ContinuousRecording recording) {
+        this.recording = recording;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recording() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording.state().name());
+        status.put("maxAge", recording.maxAge().toString());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> dump(@Nullable Integer minutes) {
+        int window = minutes != null ? minutes : DEFAULT_MINUTES;
+        if (window <= 0) {
+            throw new InvalidEndpointRequestException("minutes must be positive: " + window, "Invalid minutes");
+        }
+        try {
+            Path file = recording.dump(Duration.ofMinutes(window));
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("file", file.toString());
+            result.put("minutes", window);
+            result.put("bytes", Files.size(file));
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
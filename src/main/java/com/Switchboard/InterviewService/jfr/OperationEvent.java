@@ -0,0 +1,59 @@
+package com.Switchboard.InterviewService.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.slf4j.MDC;
+
+/**
+ * One call into the service, S3, the database or a cache, as seen in a flight recording. The duration comes
+ * from {@link #begin()}/{@link #end()}; the trace id ties the event to the request's log lines.
+ * Calls under the threshold are dropped by JFR before any field is filled in.
+ */
+@Name("com.Switchboard.InterviewService.Operation")
+@Label("Interview Service Operation")
+@Category("Interview Service")
+@Description("Service, S3, database and cache calls with their outcome and size")
+@StackTrace(false)
+@Threshold("1 ms")
+public class OperationEvent extends Event {
+
+    @Label("Component")
+    private String component;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Rows")
+    @Description("Rows returned or affected, -1 when not applicable")
+    private long rows;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Trace Id")
+    private String traceId;
+
+    /** Ends the event and commits it if JFR wants it; cheap when no recording is running. */
+    public void finish(String component, String operation, String outcome, long rows, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.component = component;
+            this.operation = operation;
+            this.outcome = outcome;
+            this.rows = rows;
+            this.bytes = bytes;
+            this.traceId = MDC.get("traceId");
+            commit();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.Switchboard.InterviewService.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to observed latency: additive increase while requests complete within the
+ * latency target and the limit is actually in use, multiplicative decrease when one is slower than the
+ * target or fails. When a dependency slows down the limit drops within a few target periods, so excess requests
+ * are rejected up front instead of queueing behind the slow ones.
+ * <p>
+ * Lock-free: in-flight count and limit are each a single atomic, and a request is admitted only while the
+ * in-flight count is below the limit.
+ */
+public class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong lastBackoffNanos;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, long latencyTargetMs, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("need 1 <= min <= initial <= max, got " + minLimit + " <= " + initialLimit + " <= " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff ratio must be between 0 and 1, was " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetMs * 1_000_000;
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(initialLimit);
+        this.lastBackoffNanos = new AtomicLong(System.nanoTime() - latencyTargetNanos);
+    }
+
+    /** Takes a slot if one is free; every successful call must be paired with {@link #release}. */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the outcome into the limit. {@code dropped} means the request failed in a way
+     * that signals overload (a 5xx or an exception), which backs off like a slow response does.
+     */
+    public void release(long elapsedNanos, boolean dropped) {
+        int inflightBefore = inflight.getAndDecrement();
+        if (dropped || elapsedNanos > latencyTargetNanos) {
+            backOff();
+        } else if (inflightBefore * 2 >= limit.get()) {
+            // Growing an idle limit would only let a later burst through unchecked
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * Responses that were slow because of the same stall arrive together; backing off for each of them would
+     * collapse the limit to its minimum after one hiccup, so it backs off at most once per latency target.
+     */
+    private void backOff() {
+        long now = System.nanoTime();
+        long last = lastBackoffNanos.get();
+        if (now - last >= latencyTargetNanos && lastBackoffNanos.compareAndSet(last, now)) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        }
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    /** In-flight requests as a fraction of the current limit. */
+    public double utilization() {
+        return (double) inflight.get() / limit.get();
+    }
+}
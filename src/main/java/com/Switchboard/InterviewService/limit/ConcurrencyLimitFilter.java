@@ -0,0 +1,151 @@
+package com.Switchboard.InterviewService.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limits in front of the interview API, one {@link AimdLimit} per {@link EndpointClass}.
+ * A request over its class's limit is answered 503 with {@code Retry-After} before the multipart body is
+ * read or a database connection is taken, so a slow Postgres or S3 shows up as fast rejections rather than
+ * as a growing queue of requests that all time out.
+ * <p>
+ * Writes and uploads are shed before reads: while reads are using {@code shedWritesAbove} of their own
+ * limit, other requests are rejected even if their own limit has room. All three compete for the same
+ * connection pool, and reads are most of the traffic.
+ * <p>
+ * A slot is held until the response completes, including work a handler finished asynchronously.
+ * Limits and in-flight counts are published as {@code interview.limiter.limit} and
+ * {@code interview.limiter.inflight}, rejections as {@code interview.limiter.rejected} tagged with the
+ * class and whether the class was full ({@code limit}) or shed for reads ({@code shed}).
+ */
+// After the trace and timing filters, so rejected requests are still traced and logged, and after the deadline and per-user rate limit
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    static final String REJECTED_METRIC = "interview.limiter.rejected";
+    static final String BUSY_MESSAGE = "Service is busy; retry shortly";
+
+    private final String pathPrefix;
+    private final Map<EndpointClass, AimdLimit> limits;
+    private final double shedWritesAbove;
+    private final Map<EndpointClass, Counter> rejectedAtLimit = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(String pathPrefix, Map<EndpointClass, AimdLimit> limits, double shedWritesAbove,
+                                  MeterRegistry meterRegistry) {
+        this.pathPrefix = pathPrefix;
+        this.limits = new EnumMap<>(limits);
+        this.shedWritesAbove = shedWritesAbove;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AimdLimit limit = this.limits.get(endpointClass);
+            if (limit == null) {
+                throw new IllegalArgumentException("No limit configured for " + endpointClass);
+            }
+            Gauge.builder("interview.limiter.limit", limit, AimdLimit::limit).tag("class", endpointClass.tag()).register(meterRegistry);
+            Gauge.builder("interview.limiter.inflight", limit, AimdLimit::inflight).tag("class", endpointClass.tag()).register(meterRegistry);
+            rejectedAtLimit.put(endpointClass, Counter.builder(REJECTED_METRIC)
+                    .tag("class", endpointClass.tag()).tag("reason", "limit").register(meterRegistry));
+            shed.put(endpointClass, Counter.builder(REJECTED_METRIC)
+                    .tag("class", endpointClass.tag()).tag("reason", "shed").register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(pathPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointClass endpointClass = EndpointClass.of(request);
+        if (endpointClass != EndpointClass.READ && limits.get(EndpointClass.READ).utilization() >= shedWritesAbove) {
+            reject(request, response, endpointClass, shed);
+            return;
+        }
+        AimdLimit limit = limits.get(endpointClass);
+        if (!limit.tryAcquire()) {
+            reject(request, response, endpointClass, rejectedAtLimit);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limit, start, response));
+            } else {
+                limit.release(System.nanoTime() - start, failed || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    private static void reject(HttpServletRequest request, HttpServletResponse response, EndpointClass endpointClass,
+                               Map<EndpointClass, Counter> counters) throws IOException {
+        counters.get(endpointClass).increment();
+        log.debug("ConcurrencyLimitFilter :: reject :: {} {} over the {} limit", request.getMethod(), request.getRequestURI(), endpointClass.tag());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(BUSY_MESSAGE);
+    }
+
+    AimdLimit limit(EndpointClass endpointClass) {
+        return limits.get(endpointClass);
+    }
+
+    private static final class ReleaseOnComplete implements AsyncListener {
+        private final AimdLimit limit;
+        private final long start;
+        private final HttpServletResponse response;
+
+        ReleaseOnComplete(AimdLimit limit, long start, HttpServletResponse response) {
+            this.limit = limit;
+            this.start = start;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.release(System.nanoTime() - start, response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+    }
+}
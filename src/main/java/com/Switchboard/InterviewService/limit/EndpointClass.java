@@ -0,0 +1,34 @@
+package com.Switchboard.InterviewService.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/** Groups the interview API by the kind of load a request puts on Postgres and S3; each group has its own limit. */
+public enum EndpointClass {
+    READ("read"),
+    WRITE("write"),
+    UPLOAD("upload");
+
+    private final String tag;
+
+    EndpointClass(String tag) {
+        this.tag = tag;
+    }
+
+    /** Property and metric tag name. */
+    public String tag() {
+        return tag;
+    }
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return READ;
+        }
+        String contentType = request.getContentType();
+        // Create, update and image replace are multipart and hold an S3 upload on top of the write
+        if (contentType != null && contentType.regionMatches(true, 0, "multipart/", 0, "multipart/".length())) {
+            return UPLOAD;
+        }
+        return WRITE;
+    }
+}
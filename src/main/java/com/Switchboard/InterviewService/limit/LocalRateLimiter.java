@@ -0,0 +1,86 @@
+package com.Switchboard.InterviewService.limit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process token buckets, implemented as GCRA: a bucket is a single {@code AtomicLong} holding the time
+ * at which it will be full again, and a request is one compare-and-set on it. Buckets live in a
+ * {@link ConcurrentHashMap}, whose per-bin locking is only taken when a new user's bucket is created, so
+ * users never contend with each other.
+ * <p>
+ * A bucket whose full-again time has passed is indistinguishable from a missing one, so a sweep every
+ * {@code sweepIntervalMs} removes those. The map holds only users seen within their burst window, however
+ * many distinct users there are over a day. A request racing the sweep on the same key can be admitted on
+ * the removed bucket, which at worst grants that user one extra permit.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final long sweepIntervalMs;
+    private ScheduledExecutorService sweeper;
+
+    public LocalRateLimiter(long sweepIntervalMs) {
+        this(System::nanoTime, sweepIntervalMs);
+    }
+
+    LocalRateLimiter(LongSupplier clock, long sweepIntervalMs) {
+        this.clock = clock;
+        this.sweepIntervalMs = sweepIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::evictIdle, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimit limit) {
+        long now = clock.getAsLong();
+        AtomicLong fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - limit.toleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, start + limit.intervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    /** Drops buckets that have refilled completely; returns how many were removed. */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
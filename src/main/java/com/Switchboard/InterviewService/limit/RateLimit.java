@@ -0,0 +1,23 @@
+package com.Switchboard.InterviewService.limit;
+
+/**
+ * A sustained rate with a burst allowance, in the form the GCRA limiters use: one request is earned every
+ * {@link #intervalNanos()}, and up to {@code burst} may be spent at once.
+ */
+public record RateLimit(double permitsPerSecond, int burst) {
+
+    public RateLimit {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("need a positive rate and a burst of at least 1, got " + permitsPerSecond + "/s burst " + burst);
+        }
+    }
+
+    public long intervalNanos() {
+        return (long) (1_000_000_000L / permitsPerSecond);
+    }
+
+    /** How far ahead of real time a user's schedule may run before requests are refused. */
+    public long toleranceNanos() {
+        return intervalNanos() * (burst - 1);
+    }
+}
@@ -0,0 +1,11 @@
+package com.Switchboard.InterviewService.limit;
+
+/** Token-bucket admission keyed by caller; implementations differ in where the bucket state lives. */
+public interface RateLimiter {
+
+    /**
+     * Spends one permit from {@code key}'s bucket. Returns 0 when the request is allowed, otherwise the
+     * nanoseconds until a permit will be available; a refused request spends nothing.
+     */
+    long tryAcquire(String key, RateLimit limit);
+}
@@ -0,0 +1,73 @@
+package com.Switchboard.InterviewService.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Token buckets shared by every instance through Redis, so a user's limit holds however the gateway spreads
+ * their requests. The same GCRA step as {@link LocalRateLimiter} runs as one Lua script, which makes it atomic
+ * and a single round trip; it reads the clock from Redis so instance clock skew does not matter. Keys expire
+ * once the bucket is full again, which is how idle users are evicted.
+ * <p>
+ * When Redis is unreachable the request is decided by the local buckets instead, so an outage degrades the
+ * limit to per instance rather than failing every request; fallbacks are counted in
+ * {@code interview.ratelimit.redis.fallbacks}.
+ */
+public class RedisRateLimiter implements RateLimiter {
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimiter.class);
+
+    static final String KEY_PREFIX = "ratelimit:";
+
+    // Times in microseconds; returns 0 when allowed, else the wait
+    static final RedisScript<Long> GCRA = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local full_at = tonumber(redis.call('GET', KEYS[1])) or now
+            if full_at < now then full_at = now end
+            local wait = full_at - now - tolerance
+            if wait > 0 then return wait end
+            local next_full_at = full_at + interval
+            redis.call('SET', KEYS[1], next_full_at, 'PX', math.ceil((next_full_at - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final RateLimiter fallback;
+    private final Counter fallbacks;
+    private volatile boolean degraded;
+
+    public RedisRateLimiter(StringRedisTemplate redis, RateLimiter fallback, MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.fallback = fallback;
+        this.fallbacks = Counter.builder("interview.ratelimit.redis.fallbacks").register(meterRegistry);
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimit limit) {
+        try {
+            Long waitMicros = redis.execute(GCRA, List.of(KEY_PREFIX + key),
+                    Long.toString(limit.intervalNanos() / 1000), Long.toString(limit.toleranceNanos() / 1000));
+            if (degraded) {
+                degraded = false;
+                log.info("RedisRateLimiter :: tryAcquire :: Redis reachable again, back to shared buckets");
+            }
+            return waitMicros == null ? 0 : waitMicros * 1000;
+        } catch (RuntimeException e) {
+            fallbacks.increment();
+            // Once per outage rather than once per request
+            if (!degraded) {
+                degraded = true;
+                log.warn("RedisRateLimiter :: tryAcquire :: Redis unavailable, using local buckets: {}", e.getMessage());
+            }
+            return fallback.tryAcquire(key, limit);
+        }
+    }
+}
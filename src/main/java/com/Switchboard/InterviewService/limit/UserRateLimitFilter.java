@@ -0,0 +1,87 @@
+package com.Switchboard.InterviewService.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-user rate limit on the interview API, keyed by the {@code X-User-Email} header the gateway sets and by
+ * {@link EndpointClass}, so one client looping over searches or bulk-posting cannot take the connection pool
+ * from everybody else. Requests without the header are not limited here.
+ * <p>
+ * Over the limit the answer is 429 with a {@code Retry-After} of the whole seconds until the next permit.
+ * Decisions are counted in {@code interview.ratelimit.requests}, tagged by class and outcome.
+ */
+// After the deadline check, and before the concurrency limit so a user over quota never takes one of its slots
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class UserRateLimitFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(UserRateLimitFilter.class);
+
+    static final String USER_HEADER = "X-User-Email";
+
+    private final String pathPrefix;
+    private final RateLimiter limiter;
+    private final Map<EndpointClass, RateLimit> limits;
+    private final Map<EndpointClass, Counter> allowed = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> limited = new EnumMap<>(EndpointClass.class);
+
+    public UserRateLimitFilter(String pathPrefix, RateLimiter limiter, Map<EndpointClass, RateLimit> limits,
+                               MeterRegistry meterRegistry) {
+        this.pathPrefix = pathPrefix;
+        this.limiter = limiter;
+        this.limits = new EnumMap<>(limits);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            if (!this.limits.containsKey(endpointClass)) {
+                throw new IllegalArgumentException("No rate limit configured for " + endpointClass);
+            }
+            allowed.put(endpointClass, Counter.builder("interview.ratelimit.requests")
+                    .tag("class", endpointClass.tag()).tag("outcome", "allowed").register(meterRegistry));
+            limited.put(endpointClass, Counter.builder("interview.ratelimit.requests")
+                    .tag("class", endpointClass.tag()).tag("outcome", "limited").register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String user = request.getHeader(USER_HEADER);
+        return user == null || user.isBlank() || !request.getRequestURI().startsWith(pathPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointClass endpointClass = EndpointClass.of(request);
+        String user = request.getHeader(USER_HEADER).trim().toLowerCase(Locale.ROOT);
+        long waitNanos = limiter.tryAcquire(endpointClass.tag() + ":" + user, limits.get(endpointClass));
+        if (waitNanos > 0) {
+            limited.get(endpointClass).increment();
+            long retryAfter = Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+            log.debug("UserRateLimitFilter :: doFilterInternal :: {} over the {} rate limit", user, endpointClass.tag());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Too many requests; retry in " + retryAfter + " s");
+            return;
+        }
+        allowed.get(endpointClass).increment();
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.Switchboard.InterviewService.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Publishes the per-logger event counts of {@link TraceSamplingFilter} and the fill level of every
+ * {@link AsyncAppender} queue on the root logger. A queue sitting near its capacity means INFO lines are
+ * being discarded and WARN lines are about to block request threads.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TraceSamplingFilter.bindTo(registry);
+
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext context)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof AsyncAppender async) {
+                Gauge.builder("logging.async.queue.size", async, AsyncAppender::getNumberOfElementsInQueue)
+                        .tag("appender", async.getName())
+                        .register(registry);
+                Gauge.builder("logging.async.queue.capacity", async, AsyncAppender::getQueueSize)
+                        .tag("appender", async.getName())
+                        .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.Switchboard.InterviewService.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps routine INFO lines for a fixed fraction of traces and drops the rest, so log volume stops growing
+ * linearly with traffic. The decision is a hash of the MDC {@code traceId}, which makes it the same for
+ * every line of a request: a sampled request is logged completely, an unsampled one not at all.
+ * <p>
+ * WARN and ERROR are never sampled, nor are lines carrying the {@link #KEEP} marker, which is how the
+ * request summary of a slow or failed request gets through. Lines logged outside a request (startup,
+ * schedulers) have no trace id and are kept too.
+ * <p>
+ * Every event that passes the logger's level is counted in {@code logging.events}, tagged by logger, level
+ * and whether it was written or sampled out, so a chatty logger shows up on a dashboard before it shows up
+ * on the log bill. Logback is configured before the application context exists, so the registry is
+ * attached later by {@link LoggingMetrics}; events before that are not counted.
+ */
+public class TraceSamplingFilter extends TurboFilter {
+
+    /** Marks a line that must be written whatever the sampling decision for its trace. */
+    public static final Marker KEEP = MarkerFactory.getMarker("KEEP");
+
+    static final String METRIC = "logging.events";
+    private static final int BUCKETS = 10_000;
+    private static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+
+    private static volatile MeterRegistry registry;
+    private static final Map<String, Counter[]> COUNTERS = new ConcurrentHashMap<>();
+
+    private int threshold = BUCKETS;
+    private String prefix = "com.Switchboard";
+
+    /** Fraction of traces whose routine lines are written, between 0 and 1. */
+    public void setRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("rate must be between 0 and 1, was " + rate);
+        }
+        this.threshold = (int) Math.round(rate * BUCKETS);
+    }
+
+    /** Only loggers below this prefix are sampled; framework loggers are left alone. */
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    static void bindTo(MeterRegistry meterRegistry) {
+        COUNTERS.clear();
+        registry = meterRegistry;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Turbo filters run before the level check; leave disabled statements to it so they stay cheap
+        if (logger == null || level == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        boolean written = keep(marker, logger, level);
+        count(logger, level, written);
+        return written ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean keep(Marker marker, Logger logger, Level level) {
+        if (threshold >= BUCKETS || level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(prefix)) {
+            return true;
+        }
+        if (marker != null && (marker == KEEP || marker.contains(KEEP))) {
+            return true;
+        }
+        String traceId = MDC.get("traceId");
+        return traceId == null || sampled(traceId, threshold);
+    }
+
+    static boolean sampled(String traceId, int threshold) {
+        int h = traceId.hashCode();
+        // Spread the bits so ids differing only in their last characters do not land in neighbouring buckets
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return Integer.remainderUnsigned(h, BUCKETS) < threshold;
+    }
+
+    private static void count(Logger logger, Level level, boolean written) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        int index = levelIndex(level) * 2 + (written ? 0 : 1);
+        Counter[] counters = COUNTERS.computeIfAbsent(logger.getName(), name -> new Counter[LEVELS.length * 2]);
+        Counter counter = counters[index];
+        if (counter == null) {
+            counter = Counter.builder(METRIC)
+                    .tag("logger", logger.getName())
+                    .tag("level", level.toString())
+                    .tag("outcome", written ? "written" : "sampled_out")
+                    .register(meterRegistry);
+            counters[index] = counter;
+        }
+        counter.increment();
+    }
+
+    private static int levelIndex(Level level) {
+        for (int i = LEVELS.length - 1; i > 0; i--) {
+            if (level.isGreaterOrEqual(LEVELS[i])) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.Switchboard.InterviewService.mapper;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.metrics.RequestTimings;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain field-by-field mapping between the entity and its DTOs. Runs for every row of every response,
+ * so it avoids reflection and allocates nothing beyond the target objects. Time spent here is reported
+ * per request as the {@code map} phase of {@link RequestTimings}.
+ */
+@Component
+public class InterviewExperienceMapper {
+
+    /** Copies the client-editable fields; id, image, timestamps and version are owned by the service and JPA. */
+    public InterviewExperience toEntity(InterviewExperienceRequest request) {
+        if (request == null) {
+            return null;
+        }
+        InterviewExperience experience = new InterviewExperience();
+        experience.setUserName(request.getUserName());
+        experience.setUserEmail(request.getUserEmail());
+        experience.setTitle(request.getTitle());
+        experience.setContent(request.getContent());
+        experience.setCompanyTag(request.getCompanyTag());
+        return experience;
+    }
+
+    public InterviewExperienceResponse toResponse(InterviewExperience experience) {
+        long start = System.nanoTime();
+        InterviewExperienceResponse response = map(experience);
+        RequestTimings.record(RequestTimings.Phase.MAPPING, System.nanoTime() - start);
+        return response;
+    }
+
+    /** Times the whole list once; two clock reads per row cost several times the mapping itself. */
+    public List<InterviewExperienceResponse> toResponses(List<InterviewExperience> experiences) {
+        long start = System.nanoTime();
+        List<InterviewExperienceResponse> responses = new ArrayList<>(experiences.size());
+        for (InterviewExperience experience : experiences) {
+            responses.add(map(experience));
+        }
+        RequestTimings.record(RequestTimings.Phase.MAPPING, System.nanoTime() - start);
+        return responses;
+    }
+
+    private static InterviewExperienceResponse map(InterviewExperience experience) {
+        if (experience == null) {
+            return null;
+        }
+        return new InterviewExperienceResponse(
+                experience.getId(),
+                experience.getUserName(),
+                experience.getUserEmail(),
+                experience.getTitle(),
+                experience.getImageName(),
+                experience.getContent(),
+                experience.getCompanyTag(),
+                experience.getCreatedAt(),
+                experience.getUpdatedAt(),
+                experience.getVersion());
+    }
+}
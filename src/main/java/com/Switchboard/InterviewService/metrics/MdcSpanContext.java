@@ -0,0 +1,32 @@
+package com.Switchboard.InterviewService.metrics;
+
+import io.prometheus.metrics.tracer.common.SpanContext;
+import org.slf4j.MDC;
+
+/**
+ * Lets the Prometheus registry attach the current request's trace id to histogram buckets as an exemplar,
+ * so a slow bucket links straight to the logs of a request that landed in it.
+ * Reads the ids {@code TraceFilter} puts in the MDC; without a request there is no exemplar.
+ */
+public class MdcSpanContext implements SpanContext {
+
+    @Override
+    public String getCurrentTraceId() {
+        return MDC.get("traceId");
+    }
+
+    @Override
+    public String getCurrentSpanId() {
+        return MDC.get("spanId");
+    }
+
+    @Override
+    public boolean isCurrentSpanSampled() {
+        return MDC.get("traceId") != null;
+    }
+
+    @Override
+    public void markCurrentSpanAsExemplar() {
+        // Nothing to mark: spans are not exported, the trace id in the logs is the link
+    }
+}
@@ -0,0 +1,240 @@
+package com.Switchboard.InterviewService.metrics;
+
+import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.jfr.OperationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call into the service, S3 and database beans and records what flowed through them:
+ * <ul>
+ *     <li>{@code interview.service.calls}, {@code interview.s3.requests}, {@code interview.db.queries}:
+ *     timers tagged {@code method}, {@code outcome} and {@code exception}</li>
+ *     <li>{@code interview.db.rows}: rows returned or affected per repository method</li>
+ *     <li>{@code interview.s3.bytes} and {@code interview.s3.objects}: uploaded bytes, uploaded and deleted objects</li>
+ * </ul>
+ * Database and S3 time also goes into the current request's {@link RequestTimings}, and every call slower than
+ * a millisecond becomes an {@link OperationEvent} in the flight recording.
+ * <p>
+ * Tags only ever hold method names, outcomes and exception class names, never request data such as
+ * company or email, so cardinality is bounded by the code. Histograms and SLO buckets are configured
+ * through {@code management.metrics.distribution.*}.
+ * <p>
+ * Runs after fault injection, so injected latency and failures show up in these timers.
+ * <p>
+ * Meters are registered on a method's first call and then kept per {@link Method}, so the hot path records
+ * without building meter ids or looking them up in the registry.
+ */
+public class MeteredProxyPostProcessor implements BeanPostProcessor, Ordered {
+
+    public static final String SERVICE = "service";
+    public static final String S3 = "s3";
+    public static final String DB = "db";
+
+    private static final Map<String, String> TIMER_NAMES = Map.of(
+            SERVICE, "interview.service.calls",
+            S3, "interview.s3.requests",
+            DB, "interview.db.queries");
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final Map<Class<?>, String> targets;
+    private final Map<Method, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    /**
+     * @param registryProvider resolved on first use; post-processors are created before the registry exists
+     * @param targets          bean types to instrument, mapped to {@link #SERVICE}, {@link #S3} or {@link #DB}
+     */
+    public MeteredProxyPostProcessor(ObjectProvider<MeterRegistry> registryProvider, Map<Class<?>, String> targets) {
+        this.registryProvider = registryProvider;
+        this.targets = Map.copyOf(targets);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Map.Entry<Class<?>, String> target : targets.entrySet()) {
+            if (target.getKey().isInstance(bean)) {
+                ProxyFactory factory = new ProxyFactory();
+                factory.setTarget(bean);
+                factory.addInterface(target.getKey());
+                factory.addAdvice(interceptor(target.getValue()));
+                return factory.getProxy(target.getKey().getClassLoader());
+            }
+        }
+        return bean;
+    }
+
+    private MethodInterceptor interceptor(String component) {
+        return invocation -> {
+            if (invocation.getMethod().getDeclaringClass() == Object.class
+                    || S3.equals(component) && !isS3Request(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+            MethodMeters meters = methodMeters.computeIfAbsent(invocation.getMethod(),
+                    m -> new MethodMeters(registry(), component, m));
+            String method = invocation.getMethod().getName();
+            long bytes = payloadBytes(invocation.getArguments());
+            OperationEvent event = new OperationEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invocation.proceed();
+            } catch (Throwable failure) {
+                long elapsed = System.nanoTime() - start;
+                meters.failure(failure).record(elapsed, TimeUnit.NANOSECONDS);
+                recordForRequest(component, elapsed);
+                event.finish(component, method, failure.getClass().getSimpleName(), -1, bytes);
+                throw failure;
+            }
+            long elapsed = System.nanoTime() - start;
+            meters.success.record(elapsed, TimeUnit.NANOSECONDS);
+            recordForRequest(component, elapsed);
+
+            long rows = rowCount(result);
+            if (DB.equals(component) && rows >= 0) {
+                meters.rows().record(rows);
+            } else if (S3.equals(component)) {
+                meters.recordTransfer(bytes);
+            }
+            event.finish(component, method, "SUCCESS", rows, bytes);
+            return result;
+        };
+    }
+
+    private static void recordForRequest(String component, long elapsedNanos) {
+        if (DB.equals(component)) {
+            RequestTimings.record(RequestTimings.Phase.DB, elapsedNanos);
+        } else if (S3.equals(component)) {
+            RequestTimings.record(RequestTimings.Phase.S3, elapsedNanos);
+        }
+    }
+
+    // Key building and URL formatting are local string work; only uploads and deletes reach S3
+    private static boolean isS3Request(String method) {
+        return method.startsWith("upload") || method.startsWith("delete");
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry current = registry;
+        if (current == null) {
+            current = registryProvider.getObject();
+            registry = current;
+        }
+        return current;
+    }
+
+    private static Timer timer(MeterRegistry meters, String component, Method method, Throwable failure) {
+        return Timer.builder(TIMER_NAMES.get(component))
+                .tag("method", method.getName())
+                .tag("outcome", failure == null ? "SUCCESS" : "ERROR")
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(meters);
+    }
+
+    /**
+     * The meters one instrumented method records into. Row and transfer meters are registered on first use, so
+     * methods that never report rows or transfers add no empty series; registering twice in a race is harmless.
+     */
+    private static final class MethodMeters {
+        private final MeterRegistry registry;
+        private final String component;
+        private final Method method;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+        private volatile DistributionSummary rows;
+        private volatile Counter objects;
+        private volatile Counter bytes;
+
+        MethodMeters(MeterRegistry registry, String component, Method method) {
+            this.registry = registry;
+            this.component = component;
+            this.method = method;
+            this.success = timer(registry, component, method, null);
+        }
+
+        Timer failure(Throwable failure) {
+            return failures.computeIfAbsent(failure.getClass(), type -> timer(registry, component, method, failure));
+        }
+
+        DistributionSummary rows() {
+            DistributionSummary current = rows;
+            if (current == null) {
+                current = DistributionSummary.builder("interview.db.rows")
+                        .baseUnit("rows")
+                        .tag("method", method.getName())
+                        .register(registry);
+                rows = current;
+            }
+            return current;
+        }
+
+        void recordTransfer(long uploaded) {
+            boolean upload = method.getName().startsWith("upload");
+            Counter objectCounter = objects;
+            if (objectCounter == null) {
+                objectCounter = Counter.builder("interview.s3.objects").tag("direction", upload ? "uploaded" : "deleted").register(registry);
+                objects = objectCounter;
+            }
+            objectCounter.increment();
+            if (upload) {
+                Counter byteCounter = bytes;
+                if (byteCounter == null) {
+                    byteCounter = Counter.builder("interview.s3.bytes").baseUnit("bytes").tag("direction", "uploaded").register(registry);
+                    bytes = byteCounter;
+                }
+                byteCounter.increment(uploaded);
+            }
+        }
+    }
+
+    /** Rows returned or affected, or {@code -1} for void calls and single-entity results. */
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        } else if (result instanceof PageResponseDTO page) {
+            return page.getContent() != null ? page.getContent().size() : 0;
+        } else if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        } else if (result instanceof Number affected) {
+            return affected.longValue();
+        }
+        return -1;
+    }
+
+    /** Size of the uploaded content among the arguments, 0 when there is none. */
+    private static long payloadBytes(Object[] arguments) {
+        long bytes = 0;
+        for (Object argument : arguments) {
+            if (argument instanceof byte[] content) {
+                bytes += content.length;
+            } else if (argument instanceof MultipartFile file) {
+                bytes += file.getSize();
+            }
+        }
+        return bytes;
+    }
+}
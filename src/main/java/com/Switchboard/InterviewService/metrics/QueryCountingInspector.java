@@ -0,0 +1,17 @@
+package com.Switchboard.InterviewService.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the current request, including lazy loads and
+ * flushes that never show up as a repository call, so N+1 patterns are visible per request.
+ * Registered through {@code hibernate.session_factory.statement_inspector}; leaves the SQL untouched.
+ */
+public class QueryCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTimings.countQuery();
+        return sql;
+    }
+}
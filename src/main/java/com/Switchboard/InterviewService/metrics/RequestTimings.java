@@ -0,0 +1,189 @@
+package com.Switchboard.InterviewService.metrics;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Per-request breakdown of where the time went, held in a thread local for the duration of one request
+ * and {@link #attach(RequestTimings) attached} to worker threads that take over part of it.
+ * Instrumentation records into it through the static methods, which do nothing outside a request
+ * (startup, scheduled jobs, the spool drainer), so callers never need to check.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        DB("db", "Database"),
+        S3("s3", "S3"),
+        MAPPING("map", "DTO mapping"),
+        SERIALIZATION("ser", "Serialize and write");
+
+        private final String metric;
+        private final String description;
+
+        Phase(String metric, String description) {
+            this.metric = metric;
+            this.description = description;
+        }
+
+        public String metric() {
+            return metric;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final ThreadMXBean THREADS = allocationCounter();
+
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = currentThreadAllocatedBytes();
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] calls = new int[Phase.values().length];
+    private int queries;
+    private long offloadedAllocatedBytes;
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /** The timings of the request this thread is working on, or null outside a request. */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes this thread record into {@code timings} until {@link #end()}, for work a request hands to another
+     * thread. The counters are not synchronized: hand work over in sequence, never to two threads at once.
+     */
+    public static void attach(RequestTimings timings) {
+        if (timings != null) {
+            CURRENT.set(timings);
+        }
+    }
+
+    /**
+     * Empty timings for a worker to record into instead of attaching this instance, so a worker that outlives
+     * the request never writes into timings the request thread is reading. {@link #merge} it back on handover.
+     */
+    public RequestTimings fork() {
+        return new RequestTimings();
+    }
+
+    /** Adds everything a {@link #fork() forked} worker recorded to these timings. */
+    public void merge(RequestTimings worker) {
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] += worker.nanos[i];
+            calls[i] += worker.calls[i];
+        }
+        queries += worker.queries;
+        offloadedAllocatedBytes += worker.offloadedAllocatedBytes;
+    }
+
+    public static void record(Phase phase, long elapsedNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos[phase.ordinal()] += elapsedNanos;
+            timings.calls[phase.ordinal()]++;
+        }
+    }
+
+    /** Counts one SQL statement sent by Hibernate, whether or not it went through the repository. */
+    public static void countQuery() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.queries++;
+        }
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int calls(Phase phase) {
+        return calls[phase.ordinal()];
+    }
+
+    public int queries() {
+        return queries;
+    }
+
+    /**
+     * Bytes the request thread has allocated on the heap since {@link #begin()}, or {@code -1} when the JVM
+     * does not keep per-thread allocation counters, which includes virtual threads on Java 21. Only meaningful
+     * on the thread that began the request.
+     */
+    public long allocatedBytes() {
+        return startAllocatedBytes < 0 ? -1 : currentThreadAllocatedBytes() - startAllocatedBytes;
+    }
+
+    /** Bytes worker threads allocated on this request's behalf, as added by {@link #addOffloadedAllocation(long)}. */
+    public long offloadedAllocatedBytes() {
+        return offloadedAllocatedBytes;
+    }
+
+    /** Adds heap bytes a worker thread allocated while running part of this request; negative values are ignored. */
+    public void addOffloadedAllocation(long bytes) {
+        if (bytes > 0) {
+            offloadedAllocatedBytes += bytes;
+        }
+    }
+
+    /** Heap bytes the calling thread has allocated so far, or {@code -1} when the JVM does not count them. */
+    public static long threadAllocatedBytes() {
+        return currentThreadAllocatedBytes();
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Formats the phases seen so far as a {@code Server-Timing} header value, e.g.
+     * {@code db;dur=12.4;desc="Database, 3 queries", map;dur=0.3;desc="DTO mapping", app;dur=15.1}.
+     * Phases that never ran are left out; {@code app} is the time from the start of the request until now.
+     */
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            if (calls[phase.ordinal()] == 0 && (phase != Phase.DB || queries == 0)) {
+                continue;
+            }
+            header.append(phase.metric).append(";dur=");
+            appendMillis(header, nanos[phase.ordinal()]);
+            header.append(";desc=\"").append(phase.description);
+            if (phase == Phase.DB) {
+                header.append(", ").append(queries).append(queries == 1 ? " query" : " queries");
+            }
+            header.append("\", ");
+        }
+        header.append("app;dur=");
+        appendMillis(header, elapsedNanos());
+        return header.toString();
+    }
+
+    /** Milliseconds with one decimal, without going through String.format on every request. */
+    public static void appendMillis(StringBuilder target, long nanos) {
+        long tenths = nanos / 100_000;
+        target.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+}
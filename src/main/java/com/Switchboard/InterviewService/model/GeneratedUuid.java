@@ -0,0 +1,20 @@
+package com.Switchboard.InterviewService.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code UUID} id that is generated in the application before insert.
+ * The {@link UuidVersion} decides the layout; the column type and API contract stay a plain {@code UUID}.
+ */
+@IdGeneratorType(UuidIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GeneratedUuid {
+
+    UuidVersion value() default UuidVersion.V7;
+}
@@ -2,6 +2,7 @@ package com.Switchboard.InterviewService.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -19,8 +20,9 @@ import java.util.UUID;
 @Builder
 public class InterviewExperience {
 
+    // Time-ordered so inserts append to the primary key index instead of splitting random pages
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuid
     private UUID id;
 
     @Column(nullable = false, length = 100)
@@ -47,6 +49,12 @@ public class InterviewExperience {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; exposed to clients as the ETag. The default keeps pre-existing rows valid
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,37 @@
+package com.Switchboard.InterviewService.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * Hibernate id generator behind {@link GeneratedUuid}. Delegates to the configured {@link UuidVersion}.
+ * <p>
+ * Hibernate creates generators through the Spring bean container, so this keeps a no-arg constructor
+ * and reads the annotation in {@link #initialize}.
+ */
+public class UuidIdGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<GeneratedUuid> {
+
+    private UuidVersion version = UuidVersion.V7;
+
+    @Override
+    public void initialize(GeneratedUuid annotation, Member member, GeneratorCreationContext context) {
+        this.version = annotation.value();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return version.generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,47 @@
+package com.Switchboard.InterviewService.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUID layouts available to {@link GeneratedUuid}.
+ */
+public enum UuidVersion {
+
+    /** Fully random (RFC 9562 version 4). Scatters inserts across the primary key index. */
+    V4 {
+        @Override
+        public UUID generate() {
+            return UUID.randomUUID();
+        }
+    },
+
+    /**
+     * Unix-millisecond prefix followed by random bits (RFC 9562 version 7). Consecutive inserts land on
+     * the right-most index page, which keeps the B-tree compact and its hot pages in cache.
+     */
+    V7 {
+        @Override
+        public UUID generate() {
+            return timeOrdered(System.currentTimeMillis());
+        }
+    };
+
+    // Last issued (millis << 12 | counter); the 12 rand_a bits carry a counter so ids from this JVM are strictly increasing
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    public abstract UUID generate();
+
+    static UUID timeOrdered(long epochMillis) {
+        long candidate = epochMillis << 12;
+        // A clock step backwards or more than 4096 ids in one millisecond keep counting from the last stamp
+        long stamp = LAST_STAMP.updateAndGet(last -> candidate > last ? candidate : last + 1);
+
+        long mostSigBits = ((stamp >>> 12) << 16) | 0x7000L | (stamp & 0xFFFL);
+        // Uniqueness within this JVM comes from the stamp, and the random bits only separate instances. An id is
+        // not a secret, so a per-thread generator does instead of a shared SecureRandom that every insert contends on
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
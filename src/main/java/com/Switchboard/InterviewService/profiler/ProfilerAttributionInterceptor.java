@@ -0,0 +1,32 @@
+package com.Switchboard.InterviewService.profiler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Tags the request thread with {@code METHOD route} once the handler is known, so samples taken while the
+ * request runs are attributed to that endpoint. The route pattern keeps the number of roots bounded.
+ * Work offloaded to the executor pools carries the tag along.
+ */
+public class ProfilerAttributionInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        ThreadAttribution.tag(request.getMethod() + " " + (route != null ? route : "UNKNOWN"));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ThreadAttribution.clear();
+    }
+
+    // afterCompletion runs later on the async dispatch thread; the servlet thread is free from here on
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ThreadAttribution.clear();
+    }
+}
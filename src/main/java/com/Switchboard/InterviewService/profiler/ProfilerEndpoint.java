@@ -0,0 +1,50 @@
+package com.Switchboard.InterviewService.profiler;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * {@code /actuator/profile}: GET lists the retained windows and their sample counts;
+ * GET {@code /actuator/profile/collapsed?from=2025-01-01T10:00:00Z&to=...} returns the samples in that
+ * range in collapsed-stack format, ready for {@code flamegraph.pl} or speedscope. Both bounds are optional.
+ */
+@Endpoint(id = "profile")
+public class ProfilerEndpoint {
+
+    private final SamplingProfiler profiler;
+
+    public ProfilerEndpoint(SamplingProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public Map<Instant, Long> windows() {
+        return profiler.windows();
+    }
+
+    @ReadOperation(produces = "text/plain")
+    public String collapsed(@Selector String format, @Nullable String from, @Nullable String to) {
+        if (!"collapsed".equals(format)) {
+            throw new InvalidEndpointRequestException("Unsupported profile format: " + format, "Use /collapsed");
+        }
+        return profiler.collapsed(parse(from), parse(to));
+    }
+
+    private static Instant parse(String instant) {
+        if (instant == null || instant.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(instant);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException("Invalid instant: " + instant, "Expected ISO-8601, e.g. 2025-01-01T10:00:00Z");
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.Switchboard.InterviewService.profiler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Wall-clock sampling profiler for request and worker threads. Every {@code intervalMs} it takes the stacks
+ * of the threads whose names match {@code threadNames} and counts them in collapsed-stack form
+ * ({@code root;frame;frame count}, the input format of flame graph tools).
+ * <p>
+ * The root frame is the endpoint from {@link ThreadAttribution} for request threads, or the thread's pool
+ * name for workers. Idle threads (no request, not runnable) are skipped, so parked pool threads do not
+ * drown the profile. A thread that switched requests while its stack was being taken is skipped rather than
+ * charged to the wrong endpoint.
+ * <p>
+ * Samples go into a ring of {@code windowCount} windows of {@code windowMillis} each; the oldest window is
+ * reused once the ring wraps, and each window keeps at most {@code maxStacks} distinct stacks, so memory
+ * stays bounded however long the profiler runs.
+ * <p>
+ * Only platform threads are visible to {@code ThreadMXBean}; with {@code spring.threads.virtual.enabled}
+ * requests run on virtual threads and are not sampled, so use the JFR recording for that mode.
+ */
+public class SamplingProfiler {
+    private static final Logger log = LoggerFactory.getLogger(SamplingProfiler.class);
+
+    static final String TRUNCATED = "[truncated]";
+    private static final long THREAD_REFRESH_MILLIS = 1_000;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final long intervalMs;
+    private final long windowMillis;
+    private final int maxDepth;
+    private final int maxStacks;
+    private final Pattern threadNames;
+    private final Window[] windows;
+
+    private long[] candidates = new long[0];
+    private long candidatesRefreshDue = Long.MIN_VALUE;
+    private ScheduledExecutorService executor;
+
+    public SamplingProfiler(long intervalMs, long windowMillis, int windowCount, int maxDepth, int maxStacks,
+                            Pattern threadNames) {
+        this.intervalMs = intervalMs;
+        this.windowMillis = windowMillis;
+        this.maxDepth = maxDepth;
+        this.maxStacks = maxStacks;
+        this.threadNames = threadNames;
+        this.windows = new Window[windowCount];
+        for (int i = 0; i < windowCount; i++) {
+            windows[i] = new Window();
+        }
+    }
+
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sampling-profiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::sampleSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("SamplingProfiler :: start :: sampling {} every {} ms, keeping {} windows of {} s",
+                threadNames, intervalMs, windows.length, windowMillis / 1000);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void sampleSafely() {
+        try {
+            sample(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            // A failed sample must not cancel the schedule
+            log.warn("SamplingProfiler :: sample :: skipped a sample: {}", e.getMessage());
+        }
+    }
+
+    /** Takes one sample of all matching threads and files it under the window containing {@code nowMillis}. */
+    public void sample(long nowMillis) {
+        if (nowMillis >= candidatesRefreshDue) {
+            candidates = matchingThreads();
+            candidatesRefreshDue = nowMillis + THREAD_REFRESH_MILLIS;
+        }
+        Window window = windowFor(nowMillis);
+        long[] sampled = candidates;
+        String[] endpoints = new String[sampled.length];
+        for (int i = 0; i < sampled.length; i++) {
+            endpoints[i] = ThreadAttribution.of(sampled[i]);
+        }
+        ThreadInfo[] infos = threads.getThreadInfo(sampled, maxDepth);
+        for (int i = 0; i < infos.length; i++) {
+            ThreadInfo info = infos[i];
+            if (info == null || info.getStackTrace().length == 0) {
+                continue;
+            }
+            String endpoint = endpoints[i];
+            if (!Objects.equals(endpoint, ThreadAttribution.of(sampled[i]))
+                    || endpoint == null && info.getThreadState() != Thread.State.RUNNABLE) {
+                continue;
+            }
+            window.add(collapse(endpoint != null ? endpoint : poolName(info.getThreadName()), info.getStackTrace()), maxStacks);
+        }
+    }
+
+    /**
+     * Merges the windows overlapping {@code [from, to)} into collapsed-stack lines, one per distinct stack,
+     * most frequent first. Either bound may be {@code null} for an open range.
+     */
+    public String collapsed(Instant from, Instant to) {
+        long fromMillis = from != null ? from.toEpochMilli() : Long.MIN_VALUE;
+        long toMillis = to != null ? to.toEpochMilli() : Long.MAX_VALUE;
+        Map<String, Long> merged = new HashMap<>();
+        for (Window window : windows) {
+            window.mergeInto(merged, fromMillis, toMillis, windowMillis);
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, Long> entry : entries) {
+            result.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        return result.toString();
+    }
+
+    /** Start times of the windows that hold samples, oldest first, to help pick a range. */
+    public Map<Instant, Long> windows() {
+        Map<Instant, Long> summary = new TreeMap<>();
+        for (Window window : windows) {
+            window.summarizeInto(summary);
+        }
+        return summary;
+    }
+
+    private Window windowFor(long nowMillis) {
+        long start = nowMillis - Math.floorMod(nowMillis, windowMillis);
+        Window window = windows[(int) Math.floorMod(start / windowMillis, (long) windows.length)];
+        window.resetIfOlderThan(start);
+        return window;
+    }
+
+    private long[] matchingThreads() {
+        ThreadInfo[] all = threads.getThreadInfo(threads.getAllThreadIds(), 0);
+        long[] matching = new long[all.length];
+        int count = 0;
+        for (ThreadInfo info : all) {
+            if (info != null && threadNames.matcher(info.getThreadName()).matches()) {
+                matching[count++] = info.getThreadId();
+            }
+        }
+        long[] result = new long[count];
+        System.arraycopy(matching, 0, result, 0, count);
+        return result;
+    }
+
+    static String poolName(String threadName) {
+        int end = threadName.length();
+        while (end > 0 && Character.isDigit(threadName.charAt(end - 1))) {
+            end--;
+        }
+        if (end > 0 && end < threadName.length() && threadName.charAt(end - 1) == '-') {
+            end--;
+        }
+        return "[" + threadName.substring(0, end) + "]";
+    }
+
+    /** Root first, leaf last; no line numbers, so the same method merges into one frame. */
+    static String collapse(String root, StackTraceElement[] stack) {
+        StringBuilder collapsed = new StringBuilder(root.length() + stack.length * 48).append(root);
+        for (int i = stack.length - 1; i >= 0; i--) {
+            collapsed.append(';').append(stack[i].getClassName()).append('.').append(stack[i].getMethodName());
+        }
+        return collapsed.toString();
+    }
+
+    /** One time slice of samples; written by the sampling thread, read by the endpoint. */
+    private static final class Window {
+        private long startMillis = Long.MIN_VALUE;
+        private final Map<String, Long> counts = new HashMap<>();
+
+        synchronized void resetIfOlderThan(long start) {
+            if (startMillis != start) {
+                startMillis = start;
+                counts.clear();
+            }
+        }
+
+        synchronized void add(String stack, int maxStacks) {
+            String key = counts.size() < maxStacks || counts.containsKey(stack) ? stack : TRUNCATED;
+            counts.merge(key, 1L, Long::sum);
+        }
+
+        synchronized void mergeInto(Map<String, Long> merged, long fromMillis, long toMillis, long windowMillis) {
+            if (startMillis == Long.MIN_VALUE || startMillis + windowMillis <= fromMillis || startMillis >= toMillis) {
+                return;
+            }
+            counts.forEach((stack, count) -> merged.merge(stack, count, Long::sum));
+        }
+
+        synchronized void summarizeInto(Map<Instant, Long> summary) {
+            if (startMillis != Long.MIN_VALUE && !counts.isEmpty()) {
+                summary.put(Instant.ofEpochMilli(startMillis), counts.values().stream().mapToLong(Long::longValue).sum());
+            }
+        }
+    }
+}
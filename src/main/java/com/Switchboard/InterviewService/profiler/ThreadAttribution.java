@@ -0,0 +1,28 @@
+package com.Switchboard.InterviewService.profiler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which endpoint each request thread is serving right now. The MDC is thread-local and invisible to the
+ * sampling thread, so the endpoint is published here, keyed by thread id, while a request is in flight.
+ */
+public final class ThreadAttribution {
+
+    private static final Map<Long, String> ENDPOINTS = new ConcurrentHashMap<>();
+
+    private ThreadAttribution() {
+    }
+
+    public static void tag(String endpoint) {
+        ENDPOINTS.put(Thread.currentThread().threadId(), endpoint);
+    }
+
+    public static void clear() {
+        ENDPOINTS.remove(Thread.currentThread().threadId());
+    }
+
+    public static String of(long threadId) {
+        return ENDPOINTS.get(threadId);
+    }
+}
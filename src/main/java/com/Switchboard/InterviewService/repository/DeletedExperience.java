@@ -0,0 +1,8 @@
+package com.Switchboard.InterviewService.repository;
+
+/**
+ * What a delete needs to clean up after the row is gone: its image (an empty string when it had none) and the
+ * company whose cached pages listed it.
+ */
+public record DeletedExperience(String imageName, String companyTag) {
+}
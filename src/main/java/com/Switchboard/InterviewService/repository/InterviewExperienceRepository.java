@@ -2,13 +2,34 @@ package com.Switchboard.InterviewService.repository;
 
 import com.Switchboard.InterviewService.model.InterviewExperience;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface InterviewExperienceRepository extends JpaRepository<InterviewExperience, UUID> {
+public interface InterviewExperienceRepository extends JpaRepository<InterviewExperience, UUID>, InterviewExperienceRepositoryCustom {
 
     List<InterviewExperience> findByUserEmailOrderByCreatedAtDesc(String userEmail);
 
     List<InterviewExperience> findByCompanyTagOrderByCreatedAtDesc(String companyTag);
+
+    @Query("select e.imageName from InterviewExperience e where e.id = :id")
+    Optional<String> findImageNameById(@Param("id") UUID id);
+
+    @Query("select e.companyTag from InterviewExperience e where e.id = :id")
+    Optional<String> findCompanyTagById(@Param("id") UUID id);
+
+    /**
+     * Sets the image URL of a row that has none yet; returns 0 when the row has since been deleted or
+     * already carries an image, so a late upload never overwrites a newer one.
+     */
+    @Transactional
+    @Modifying
+    @Query("update InterviewExperience e set e.imageName = :imageName, e.updatedAt = :updatedAt, e.version = e.version + 1 where e.id = :id and e.imageName is null")
+    int updateImageName(@Param("id") UUID id, @Param("imageName") String imageName, @Param("updatedAt") LocalDateTime updatedAt);
 }
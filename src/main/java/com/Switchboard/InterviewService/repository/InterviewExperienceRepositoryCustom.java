@@ -0,0 +1,33 @@
+package com.Switchboard.InterviewService.repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Single-statement write paths that avoid the load-then-save round trips of the generic repository methods.
+ */
+public interface InterviewExperienceRepositoryCustom {
+
+    /**
+     * Issues one UPDATE that writes only the given columns and bumps {@code version} and {@code updatedAt}.
+     * The row matches only when it exists, its version equals {@code expectedVersion} (when not null) and at
+     * least one of the given columns actually differs, so no-op updates write nothing.
+     *
+     * @param changes entity attribute name to new value
+     * @return number of rows updated, 0 or 1
+     */
+    int updateChangedColumns(UUID id, Long expectedVersion, Map<String, Object> changes);
+
+    /**
+     * Runs the same conditional UPDATE as {@link #updateChangedColumns} and returns the updated row together with
+     * the image and company it replaced, so the caller needs no read before or after the write. Returns empty when no row matched.
+     */
+    Optional<UpdatedExperience> updateReturning(UUID id, Long expectedVersion, Map<String, Object> changes);
+
+    /**
+     * Deletes the row in one statement and returns its image name (an empty string when it had none) and company.
+     * Returns empty when no row matched.
+     */
+    Optional<DeletedExperience> deleteReturning(UUID id);
+}
@@ -0,0 +1,205 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class InterviewExperienceRepositoryImpl implements InterviewExperienceRepositoryCustom {
+
+    // Entity attributes updateReturning may write, mapped to their columns
+    private static final Map<String, String> COLUMNS = Map.of(
+            "userName", "user_name",
+            "userEmail", "user_email",
+            "title", "title",
+            "content", "content",
+            "companyTag", "company_tag",
+            "imageName", "image_name");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean supportsReturning;
+
+    @Override
+    @Transactional
+    public int updateChangedColumns(UUID id, Long expectedVersion, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<InterviewExperience> update = cb.createCriteriaUpdate(InterviewExperience.class);
+        Root<InterviewExperience> root = update.from(InterviewExperience.class);
+
+        List<Predicate> differs = new ArrayList<>();
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            Path<Object> column = root.get(change.getKey());
+            Object value = change.getValue();
+            update.set(change.getKey(), value);
+            differs.add(value == null
+                    ? cb.isNotNull(column)
+                    : cb.or(cb.isNull(column), cb.notEqual(column, value)));
+        }
+        Path<Long> version = root.get("version");
+        update.set(version, cb.sum(version, 1L));
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+
+        Predicate where = cb.and(cb.equal(root.get("id"), id), cb.or(differs.toArray(new Predicate[0])));
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(version, expectedVersion));
+        }
+        update.where(where);
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public Optional<UpdatedExperience> updateReturning(UUID id, Long expectedVersion, Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            return Optional.empty();
+        }
+        if (supportsReturning()) {
+            return updateReturningNative(id, expectedVersion, changes);
+        }
+
+        // Dialects without RETURNING (H2 in tests): read, update and reload inside this one transaction
+        InterviewExperience experience = entityManager.find(InterviewExperience.class, id);
+        if (experience == null) {
+            return Optional.empty();
+        }
+        String previousImageName = experience.getImageName();
+        String previousCompanyTag = experience.getCompanyTag();
+        if (updateChangedColumns(id, expectedVersion, changes) == 0) {
+            return Optional.empty();
+        }
+        entityManager.refresh(experience);
+        return Optional.of(new UpdatedExperience(experience, previousImageName, previousCompanyTag));
+    }
+
+    /**
+     * One statement on PostgreSQL: the CTE locks the row and keeps its old image and company, the UPDATE returns
+     * the new row.
+     * Mirrors the predicates of {@link #updateChangedColumns}.
+     */
+    private Optional<UpdatedExperience> updateReturningNative(UUID id, Long expectedVersion, Map<String, Object> changes) {
+        StringBuilder set = new StringBuilder();
+        List<String> differs = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            String column = COLUMNS.get(change.getKey());
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown column: " + change.getKey());
+            }
+            if (change.getValue() == null) {
+                set.append(column).append(" = NULL, ");
+                differs.add("e." + column + " IS NOT NULL");
+            } else {
+                String parameter = ":v" + values.size();
+                values.add(change.getValue());
+                set.append(column).append(" = ").append(parameter).append(", ");
+                differs.add("e." + column + " IS DISTINCT FROM " + parameter);
+            }
+        }
+        String sql = "WITH previous AS (SELECT id, image_name, company_tag FROM interview_experience WHERE id = :id FOR UPDATE)"
+                + " UPDATE interview_experience e SET " + set + "version = e.version + 1, updated_at = :updatedAt"
+                + " FROM previous WHERE e.id = previous.id"
+                + (expectedVersion != null ? " AND e.version = :expectedVersion" : "")
+                + " AND (" + String.join(" OR ", differs) + ")"
+                + " RETURNING e.id, e.user_name, e.user_email, e.title, e.content, e.company_tag, e.image_name,"
+                + " e.created_at, e.updated_at, e.version, previous.image_name AS previous_image_name,"
+                + " previous.company_tag AS previous_company_tag";
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("user_name", String.class)
+                .addScalar("user_email", String.class)
+                .addScalar("title", String.class)
+                .addScalar("content", String.class)
+                .addScalar("company_tag", String.class)
+                .addScalar("image_name", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class)
+                .addScalar("previous_image_name", String.class)
+                .addScalar("previous_company_tag", String.class);
+        query.setParameter("id", id);
+        query.setParameter("updatedAt", LocalDateTime.now());
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        for (int i = 0; i < values.size(); i++) {
+            query.setParameter("v" + i, values.get(i));
+        }
+
+        return query.getResultList().stream().findFirst().map(row -> {
+            Object[] columns = (Object[]) row;
+            InterviewExperience experience = InterviewExperience.builder()
+                    .id((UUID) columns[0])
+                    .userName((String) columns[1])
+                    .userEmail((String) columns[2])
+                    .title((String) columns[3])
+                    .content((String) columns[4])
+                    .companyTag((String) columns[5])
+                    .imageName((String) columns[6])
+                    .createdAt((LocalDateTime) columns[7])
+                    .updatedAt((LocalDateTime) columns[8])
+                    .version((Long) columns[9])
+                    .build();
+            return new UpdatedExperience(experience, (String) columns[10], (String) columns[11]);
+        });
+    }
+
+    @Override
+    @Transactional
+    public Optional<DeletedExperience> deleteReturning(UUID id) {
+        if (supportsReturning()) {
+            List<?> rows = entityManager
+                    .createNativeQuery("DELETE FROM interview_experience WHERE id = :id RETURNING COALESCE(image_name, ''), company_tag")
+                    .setParameter("id", id)
+                    .getResultList();
+            return rows.stream().findFirst().map(row -> {
+                Object[] columns = (Object[]) row;
+                return new DeletedExperience(String.valueOf(columns[0]), String.valueOf(columns[1]));
+            });
+        }
+
+        // Dialects without RETURNING (H2 in tests): read and delete inside this one transaction
+        List<DeletedExperience> rows = entityManager
+                .createQuery("select new com.Switchboard.InterviewService.repository.DeletedExperience(coalesce(e.imageName, ''), e.companyTag)"
+                        + " from InterviewExperience e where e.id = :id", DeletedExperience.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        entityManager.createQuery("delete from InterviewExperience e where e.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+        return Optional.of(rows.get(0));
+    }
+
+    private boolean supportsReturning() {
+        if (supportsReturning == null) {
+            supportsReturning = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return supportsReturning;
+    }
+}
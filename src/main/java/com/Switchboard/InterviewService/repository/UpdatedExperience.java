@@ -0,0 +1,10 @@
+package com.Switchboard.InterviewService.repository;
+
+import com.Switchboard.InterviewService.model.InterviewExperience;
+
+/**
+ * The row as an update left it, plus the image it replaced (null when it had none) for the caller to clean up
+ * and the company it was listed under before, whose cached pages the update also outdates.
+ */
+public record UpdatedExperience(InterviewExperience experience, String previousImageName, String previousCompanyTag) {
+}
@@ -5,11 +5,33 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.UUID;
 
 public interface FileService {
 
         String uploadImage(String path , MultipartFile file) throws IOException;
 
+        /** Builds a unique object key under {@code path} for the given original file name. */
+        String buildKey(String path, String originalFilename);
+
+        /**
+         * Builds the key prefix shared by every upload of the same bytes for the same owner, so a repeated upload
+         * can be recognised from the stored URL without touching S3.
+         */
+        String contentKeyPrefix(String path, UUID ownerId, byte[] content);
+
+        /**
+         * Builds a key under a content prefix that is unique to this upload, so deleting it can never remove an
+         * object another request has just pointed a row at.
+         */
+        String buildContentKey(String contentKeyPrefix, String originalFilename);
+
+        /** Public URL an object with the given key is served from. */
+        String publicUrl(String key);
+
+        /** Uploads raw bytes to an already-chosen key and returns the public URL. Re-uploading the same key is idempotent. */
+        String uploadBytes(String key, byte[] content, String contentType);
+
         InputStream getResource(String path , String fileName) throws FileNotFoundException;
 
          void deleteImage(String fileUrl);
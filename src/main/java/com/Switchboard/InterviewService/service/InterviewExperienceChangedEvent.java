@@ -0,0 +1,23 @@
+package com.Switchboard.InterviewService.service;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published after interview experiences were created, changed or deleted, naming the companies whose rows were
+ * affected: both the old and the new company when a row moved. Listeners that run after commit see the change
+ * in the database.
+ */
+public record InterviewExperienceChangedEvent(Set<String> companyTags) {
+
+    public InterviewExperienceChangedEvent {
+        companyTags = Set.copyOf(companyTags);
+    }
+
+    /** Ignores null tags, e.g. the old company of a row that was not found. */
+    public static InterviewExperienceChangedEvent of(String... companyTags) {
+        return new InterviewExperienceChangedEvent(Arrays.stream(companyTags).filter(Objects::nonNull).collect(Collectors.toSet()));
+    }
+}
@@ -7,12 +7,19 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface InterviewExperienceService {
 
     InterviewExperienceResponse createInterviewExperience(InterviewExperienceRequest request, String imageUrl);
 
+    /**
+     * Inserts the row and durably spools the request's image for a background upload in the same transaction,
+     * so a spool failure leaves no imageless row behind for the client's retry to duplicate.
+     */
+    InterviewExperienceResponse createInterviewExperienceWithSpooledImage(InterviewExperienceRequest request) throws IOException;
+
     PageResponseDTO getAllInterviews(Integer pageNumber, Integer pageSize, String sortBy, String sortDir);
 
     InterviewExperienceResponse  getInterviewById(UUID id);
@@ -21,7 +28,23 @@ public interface InterviewExperienceService {
 
    List<InterviewExperienceResponse> searchByCompany(String companyTag);
 
-   InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, MultipartFile newImage)  throws IOException;
+   /**
+    * Writes only the non-null request fields in one conditional UPDATE.
+    *
+    * @param expectedVersion version from the client's If-Match header, or null to skip the optimistic check
+    */
+   InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, MultipartFile newImage, Long expectedVersion)  throws IOException;
+
+   /**
+    * Applies a JSON Merge Patch (RFC 7396) to the scalar fields in one UPDATE of only the touched columns.
+    *
+    * @throws IllegalArgumentException when the patch names an unknown field, removes a required one or fails validation
+    */
+   InterviewExperienceResponse patchInterviewExperience(UUID id, Map<String, Object> patch, Long expectedVersion);
+
+   InterviewExperienceResponse replaceImage(UUID id, MultipartFile image, Long expectedVersion) throws IOException;
+
+   InterviewExperienceResponse removeImage(UUID id, Long expectedVersion);
 
    void deleteInterviewExperience(UUID id);
 
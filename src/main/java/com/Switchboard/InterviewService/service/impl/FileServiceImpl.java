@@ -1,23 +1,49 @@
 package com.Switchboard.InterviewService.service.impl;
 
+import com.Switchboard.InterviewService.deadline.RequestDeadline;
 import com.Switchboard.InterviewService.service.FileService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import java.util.UUID;
-
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 access for images. In-flight S3 calls are capped by {@code aws.s3.max-concurrency} whatever the
+ * request thread model: with virtual threads there is no Tomcat pool left to bound them, and without a cap
+ * a burst of uploads would queue inside the SDK's connection pool, holding request memory, instead of
+ * being turned away. A call that cannot get a permit within {@code aws.s3.acquire-timeout-ms} fails with
+ * {@link RejectedExecutionException}, which the API answers with 503.
+ * <p>
+ * Within a request, waiting for a permit and the S3 call itself are both bounded by the time left on the
+ * {@link RequestDeadline}; the SDK abandons a call that runs past it with {@code ApiCallTimeoutException}.
+ */
 @Service
 public class FileServiceImpl implements FileService {
     private static final Logger log = LoggerFactory.getLogger(FileServiceImpl.class);
 
+    // Below the SDK's default of 50 pooled connections, so waiting happens here and not in the HTTP client
+    static final int DEFAULT_MAX_CONCURRENCY = 32;
+
     private final S3Client s3Client;
+    private Semaphore permits = new Semaphore(DEFAULT_MAX_CONCURRENCY, true);
+
+    @Value("${aws.s3.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs = 2000;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -29,28 +55,66 @@ public class FileServiceImpl implements FileService {
         this.s3Client = s3Client;
     }
 
+    @Value("${aws.s3.max-concurrency:" + DEFAULT_MAX_CONCURRENCY + "}")
+    void setMaxConcurrency(int maxConcurrency) {
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
     @Override
     public String uploadImage(String path, MultipartFile file) throws IOException {
-        log.info("FileServiceImpl :: uploadImage :: uploading image: {}", file.getOriginalFilename());
+        log.debug("FileServiceImpl :: uploadImage :: uploading image: {}", file.getOriginalFilename());
+
+        String key = buildKey(path, file.getOriginalFilename());
+        return uploadBytes(key, file.getBytes(), file.getContentType());
+    }
 
+    @Override
+    public String buildKey(String path, String originalFilename) {
         // Random file name for uniqueness
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        String key = path + "/" + fileName;
+        String fileName = UUID.randomUUID() + "_" + originalFilename;
+        return path + "/" + fileName;
+    }
+
+    @Override
+    public String contentKeyPrefix(String path, UUID ownerId, byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return path + "/" + ownerId + "_" + HexFormat.of().formatHex(digest) + "_";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
+    @Override
+    public String buildContentKey(String contentKeyPrefix, String originalFilename) {
+        return contentKeyPrefix + UUID.randomUUID() + "_" + originalFilename;
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+
+    @Override
+    public String uploadBytes(String key, byte[] content, String contentType) {
         // Create put request with public-read ACL
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        PutObjectRequest.Builder putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
-                .contentType(file.getContentType())
-                .build();
+                .contentType(contentType);
 
-        log.info("FileServiceImpl :: uploadImage :: uploading to S3 with key: {}", key);
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+        log.debug("FileServiceImpl :: uploadBytes :: uploading to S3 with key: {}", key);
+        acquire("uploadBytes");
+        try {
+            s3Client.putObject(withDeadline(putObjectRequest).build(), RequestBody.fromBytes(content));
+        } finally {
+            permits.release();
+        }
 
         // Generate permanent public URL
-        String publicUrl = "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+        String publicUrl = publicUrl(key);
 
-        log.info("FileServiceImpl :: uploadImage :: completed. Public URL: {}", publicUrl);
+        log.info("FileServiceImpl :: uploadBytes :: completed. Public URL: {}", publicUrl);
         return publicUrl;
     }
 
@@ -62,12 +126,47 @@ public class FileServiceImpl implements FileService {
 
     @Override
     public void deleteImage(String fileUrl) {
-        log.info("FileServiceImpl :: deleteImage :: deleting image: {}", fileUrl);
+        log.debug("FileServiceImpl :: deleteImage :: deleting image: {}", fileUrl);
 
         // Extract key from URL
         String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
 
-        s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+        acquire("deleteImage");
+        try {
+            s3Client.deleteObject(builder -> withDeadline(builder.bucket(bucket).key(key)));
+        } finally {
+            permits.release();
+        }
         log.info("FileServiceImpl :: deleteImage :: deleted image from S3: {}", key);
     }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire(String operation) {
+        RequestDeadline.check("S3 " + operation);
+        long waitMs = RequestDeadline.remainingMillis(acquireTimeoutMs);
+        try {
+            if (permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Ran out of deadline rather than out of patience: the caller is gone, not the service busy
+        RequestDeadline.check("S3 " + operation);
+        log.warn("FileServiceImpl :: {} :: no S3 permit within {} ms", operation, waitMs);
+        throw new RejectedExecutionException("S3 concurrency limit reached");
+    }
+
+    /** Caps the SDK's whole call, retries included, at the time left on the request's deadline. */
+    private static <B extends AwsRequest.Builder> B withDeadline(B request) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null) {
+            Duration remaining = Duration.ofMillis(Math.max(1, deadline.remainingMillis()));
+            request.overrideConfiguration(o -> o.apiCallTimeout(remaining));
+        }
+        return request;
+    }
 }
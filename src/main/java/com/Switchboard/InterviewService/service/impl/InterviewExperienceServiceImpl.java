@@ -1,29 +1,48 @@
 package com.Switchboard.InterviewService.service.impl;
 
+import com.Switchboard.InterviewService.cache.PageCached;
+import com.Switchboard.InterviewService.coalesce.SingleFlight;
 import com.Switchboard.InterviewService.config.AppConstants;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
 import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.DeletedExperience;
 import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.repository.UpdatedExperience;
 import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.InterviewExperienceChangedEvent;
 import com.Switchboard.InterviewService.service.InterviewExperienceService;
+import com.Switchboard.InterviewService.spool.UploadSpool;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+/**
+ * Transactions cover database work only. Methods that talk to S3 are deliberately not transactional:
+ * each repository call runs in its own short transaction so no pooled connection is held across S3 I/O.
+ * Every write publishes an {@link InterviewExperienceChangedEvent} naming the companies it touched, which
+ * invalidates the cached pages listing them.
+ */
 @Service
 @RequiredArgsConstructor
 public class InterviewExperienceServiceImpl implements InterviewExperienceService {
@@ -31,57 +50,78 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
 
     private final InterviewExperienceRepository repository;
     private final FileService fileService;
+    private final UploadSpool uploadSpool;
 
-    private final ModelMapper modelMapper;
+    private final InterviewExperienceMapper mapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("userName", "userEmail", "title", "content", "companyTag");
 
     @Override
+    @Transactional
     public InterviewExperienceResponse createInterviewExperience(InterviewExperienceRequest request, String imageUrl) {
-        log.info("InterviewExperienceServiceImpl :: createInterviewExperience :: mapping :: request to entity");
-        InterviewExperience experience = modelMapper.map(request, InterviewExperience.class);
+        log.debug("InterviewExperienceServiceImpl :: createInterviewExperience :: mapping :: request to entity");
+        InterviewExperience experience = mapper.toEntity(request);
         
         // Set image URL if provided
         if (imageUrl != null) {
             experience.setImageName(imageUrl);
         }
 
-        log.info("InterviewExperienceServiceImpl :: createInterviewExperience :: saving :: interview experience");
+        log.debug("InterviewExperienceServiceImpl :: createInterviewExperience :: saving :: interview experience");
         InterviewExperience newExperience = repository.save(experience);
+        eventPublisher.publishEvent(InterviewExperienceChangedEvent.of(newExperience.getCompanyTag()));
+
+        log.debug("InterviewExperienceServiceImpl :: createInterviewExperience :: mapping :: entity to response");
+        return mapper.toResponse(newExperience);
 
-        log.info("InterviewExperienceServiceImpl :: createInterviewExperience :: mapping :: entity to response");
-        return modelMapper.map(newExperience, InterviewExperienceResponse.class);
+    }
 
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public InterviewExperienceResponse createInterviewExperienceWithSpooledImage(InterviewExperienceRequest request) throws IOException {
+        InterviewExperienceResponse response = createInterviewExperience(request, null);
+
+        // Fsynced before the insert commits; a failed append rolls the row back
+        MultipartFile image = request.getImage();
+        String key = fileService.buildKey(AppConstants.PATH_VARIABLE, image.getOriginalFilename());
+        uploadSpool.append(response.getId(), key, image.getContentType(), image.getBytes());
+        log.debug("InterviewExperienceServiceImpl :: createInterviewExperienceWithSpooledImage :: spooled image for experience: {}", response.getId());
+        return response;
     }
 
     @Override
+    @SingleFlight
+    @Transactional(readOnly = true)
     public List<InterviewExperienceResponse> searchByEmail(String userEmail) {
-        log.info("InterviewExperienceServiceImpl :: searchByEmail :: searching :: experiences for email: {}", userEmail);
+        log.debug("InterviewExperienceServiceImpl :: searchByEmail :: searching :: experiences for email: {}", userEmail);
         List<InterviewExperience> experiences = repository.findByUserEmailOrderByCreatedAtDesc(userEmail);
 
         log.info("InterviewExperienceServiceImpl :: searchByEmail :: found :: {} experiences", experiences.size());
-        return experiences.stream()
-                .map(experience -> {
-                    log.debug("InterviewExperienceServiceImpl :: searchByEmail :: mapping :: experience to response");
-                    return modelMapper.map(experience, InterviewExperienceResponse.class);
-                })
-                .collect(Collectors.toList());
+        return mapper.toResponses(experiences);
     }
 
 
     @Override
+    @PageCached(companyArg = 0)
+    @SingleFlight
+    @Transactional(readOnly = true)
     public List<InterviewExperienceResponse> searchByCompany(String companyTag) {
-        log.info("InterviewExperienceServiceImpl :: searchByCompany :: searching :: experiences for company: {}", companyTag);
+        log.debug("InterviewExperienceServiceImpl :: searchByCompany :: searching :: experiences for company: {}", companyTag);
         List<InterviewExperience> experiences = repository.findByCompanyTagOrderByCreatedAtDesc(companyTag);
 
         log.info("InterviewExperienceServiceImpl :: searchByCompany :: found :: {} experiences", experiences.size());
-        return experiences.stream()
-                .map(experience -> modelMapper.map(experience, InterviewExperienceResponse.class))
-                .collect(Collectors.toList());
+        return mapper.toResponses(experiences);
     }
 
 
     @Override
+    @PageCached(pageArg = 0)
+    @SingleFlight
+    @Transactional(readOnly = true)
     public PageResponseDTO getAllInterviews(Integer pageNumber, Integer pageSize, String sortBy, String sortDir) {
-        log.info("InterviewExperienceServiceImpl :: getAllInterviews :: fetching :: page {} with size {}", pageNumber, pageSize);
+        log.debug("InterviewExperienceServiceImpl :: getAllInterviews :: fetching :: page {} with size {}", pageNumber, pageSize);
         Sort sort = (sortDir.equalsIgnoreCase("asc")) ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable p = PageRequest.of(pageNumber, pageSize, sort);
 
@@ -89,9 +129,7 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
         List<InterviewExperience> experienceList = experiences.getContent();
         log.info("InterviewExperienceServiceImpl :: getAllInterviews :: found :: {} experiences", experienceList.size());
 
-        List<InterviewExperienceResponse> res = experienceList.stream()
-                .map(experience -> modelMapper.map(experience, InterviewExperienceResponse.class))
-                .collect(Collectors.toList());
+        List<InterviewExperienceResponse> res = mapper.toResponses(experienceList);
 
         return PageResponseDTO.builder()
                 .content(res)
@@ -104,87 +142,196 @@ public class InterviewExperienceServiceImpl implements InterviewExperienceServic
     }
 
     @Override
+    @SingleFlight
+    @Transactional(readOnly = true)
     public InterviewExperienceResponse getInterviewById(UUID id) {
-        log.info("InterviewExperienceServiceImpl :: getInterviewById :: fetching :: experience with id: {}", id);
+        log.debug("InterviewExperienceServiceImpl :: getInterviewById :: fetching :: experience with id: {}", id);
         InterviewExperience experience = repository.findById(id)
                 .orElseThrow(() -> {
                     log.error("InterviewExperienceServiceImpl :: getInterviewById :: not found :: experience with id: {}", id);
                     return new RuntimeException("Interview Experience not found");
                 });
 
-        log.info("InterviewExperienceServiceImpl :: getInterviewById :: mapping :: experience to response");
-        return modelMapper.map(experience, InterviewExperienceResponse.class);
+        log.debug("InterviewExperienceServiceImpl :: getInterviewById :: mapping :: experience to response");
+        return mapper.toResponse(experience);
     }
 
 
     @Override
     public void deleteInterviewExperience(UUID id) {
-        log.info("InterviewExperienceServiceImpl :: deleteInterviewExperience :: deleting :: experience with id: {}", id);
+        log.debug("InterviewExperienceServiceImpl :: deleteInterviewExperience :: deleting :: experience with id: {}", id);
 
-        // Fetch existing record
-        InterviewExperience experience = repository.findById(id)
+        // Single DELETE ... RETURNING; the S3 call below runs without a connection checked out
+        DeletedExperience deleted = repository.deleteReturning(id)
                 .orElseThrow(() -> {
                     log.error("InterviewExperienceServiceImpl :: deleteInterviewExperience :: not found :: experience with id: {}", id);
                     return new RuntimeException("Interview Experience not found");
                 });
-        //log.info("Deleting experience: {}, imageName: {}", experience.getId(), experience.getImageName());
+        log.info("InterviewExperienceServiceImpl :: deleteInterviewExperience :: deleted DB record with id: {}", id);
+        eventPublisher.publishEvent(InterviewExperienceChangedEvent.of(deleted.companyTag()));
+
+        String imageName = deleted.imageName();
 
         // Delete image from S3 if exists
-        if (experience.getImageName() != null && !experience.getImageName().isEmpty()) {
+        if (!imageName.isEmpty()) {
             try {
-                log.info("InterviewExperienceServiceImpl :: deleting image from S3: {}", experience.getImageName());
-                fileService.deleteImage(experience.getImageName());
-                log.info("InterviewExperienceServiceImpl :: deleted image from S3: {}", experience.getImageName());
+                log.debug("InterviewExperienceServiceImpl :: deleting image from S3: {}", imageName);
+                fileService.deleteImage(imageName);
+                log.info("InterviewExperienceServiceImpl :: deleted image from S3: {}", imageName);
             } catch (Exception e) {
                 log.error("InterviewExperienceServiceImpl :: failed to delete image from S3: {}", e.getMessage());
-                // Optional: you can throw exception if you want to fail delete if image deletion fails
+                // The row is already gone; an orphaned object is preferable to failing the delete
             }
         }
+    }
 
-        // Delete DB record
-        repository.delete(experience);
-        log.info("InterviewExperienceServiceImpl :: deleteInterviewExperience :: deleted DB record with id: {}", id);
+    @Override
+    public InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, MultipartFile newImage, Long expectedVersion) throws IOException {
+        log.debug("InterviewExperienceServiceImpl :: updateInterviewExperience :: updating :: experience with id: {}", id);
+
+        // Only fields the client sent are written; omitted fields keep their stored values
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "userName", request.getUserName());
+        putIfPresent(changes, "title", request.getTitle());
+        putIfPresent(changes, "companyTag", request.getCompanyTag());
+        putIfPresent(changes, "userEmail", request.getUserEmail());
+        putIfPresent(changes, "content", request.getContent());
+
+        String uploadedUrl = null;
+        if (newImage != null && !newImage.isEmpty()) {
+            uploadedUrl = prepareImage(id, newImage, changes);
+        }
+        return applyChanges(id, expectedVersion, changes, uploadedUrl, "updateInterviewExperience");
     }
 
     @Override
-    public InterviewExperienceResponse updateInterviewExperience(UUID id, InterviewExperienceRequest request, MultipartFile newImage) throws IOException {
-        log.info("InterviewExperienceServiceImpl :: updateInterviewExperience :: updating :: experience with id: {}", id);
+    public InterviewExperienceResponse patchInterviewExperience(UUID id, Map<String, Object> patch, Long expectedVersion) {
+        log.debug("InterviewExperienceServiceImpl :: patchInterviewExperience :: patching :: fields {} of experience with id: {}", patch.keySet(), id);
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        InterviewExperienceRequest candidate = new InterviewExperienceRequest();
+        for (Map.Entry<String, Object> member : patch.entrySet()) {
+            String field = member.getKey();
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field '" + field + "' cannot be patched");
+            }
+            // A null member means "remove" in merge patch, but every patchable column is required
+            if (!(member.getValue() instanceof String value)) {
+                throw new IllegalArgumentException("Field '" + field + "' must be a non-null string");
+            }
+            setCandidateField(candidate, field, value);
+            Set<ConstraintViolation<InterviewExperienceRequest>> violations = validator.validateProperty(candidate, field);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(violations.iterator().next().getMessage());
+            }
+            changes.put(field, value);
+        }
+        return applyChanges(id, expectedVersion, changes, null, "patchInterviewExperience");
+    }
 
-        // Fetch existing record
-        InterviewExperience experience = repository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("InterviewExperienceServiceImpl :: updateInterviewExperience :: not found :: experience with id: {}", id);
-                    return new RuntimeException("Interview Experience not found");
-                });
+    @Override
+    public InterviewExperienceResponse replaceImage(UUID id, MultipartFile image, Long expectedVersion) throws IOException {
+        log.debug("InterviewExperienceServiceImpl :: replaceImage :: replacing :: image of experience with id: {}", id);
+        if (image == null || image.isEmpty()) {
+            throw new IllegalArgumentException("Image must not be empty");
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        String uploadedUrl = prepareImage(id, image, changes);
+        return applyChanges(id, expectedVersion, changes, uploadedUrl, "replaceImage");
+    }
 
-        // Handle new image upload
-        if (newImage != null && !newImage.isEmpty()) {
-            // Delete old image from S3 if exists
-            if (experience.getImageName() != null && !experience.getImageName().isEmpty()) {
-                log.info("InterviewExperienceServiceImpl :: deleting old image from S3: {}", experience.getImageName());
-                fileService.deleteImage(experience.getImageName());
-            }
+    @Override
+    public InterviewExperienceResponse removeImage(UUID id, Long expectedVersion) {
+        log.debug("InterviewExperienceServiceImpl :: removeImage :: removing :: image of experience with id: {}", id);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("imageName", null);
+        return applyChanges(id, expectedVersion, changes, null, "removeImage");
+    }
+
+    /**
+     * Uploads the image and records the column change, returning the uploaded URL. Re-sending the bytes the row
+     * already shows is recognised from the key's content prefix and skips S3 entirely, returning {@code null}.
+     */
+    private String prepareImage(UUID id, MultipartFile image, Map<String, Object> changes) throws IOException {
+        byte[] content = image.getBytes();
+        String prefix = fileService.contentKeyPrefix(AppConstants.PATH_VARIABLE, id, content);
+        String currentImage = repository.findImageNameById(id).orElse(null);
+        if (currentImage != null && currentImage.startsWith(fileService.publicUrl(prefix))) {
+            log.info("InterviewExperienceServiceImpl :: image unchanged, skipping upload: {}", currentImage);
+            return null;
+        }
+        // Each upload gets its own key, so discarding it never removes an object another request points at
+        String key = fileService.buildContentKey(prefix, image.getOriginalFilename());
+        // Upload before the row points at the new key; the old object is removed only after the update
+        String uploadedImageUrl = fileService.uploadBytes(key, content, image.getContentType());
+        log.info("InterviewExperienceServiceImpl :: uploaded new image to S3: {}", uploadedImageUrl);
+        changes.put("imageName", uploadedImageUrl);
+        return uploadedImageUrl;
+    }
 
-            // Upload new image
-            String newImageUrl = fileService.uploadImage(AppConstants.PATH_VARIABLE, newImage);
-            log.info( "InterviewExperienceServiceImpl :: uploaded new image to S3: {}", newImageUrl);
-            experience.setImageName(newImageUrl);
+    /**
+     * Applies the column changes in one conditional UPDATE that also returns the row and the image it replaced.
+     * Only when nothing matched does a read tell apart a missing row, a version conflict and a no-op.
+     */
+    private InterviewExperienceResponse applyChanges(UUID id, Long expectedVersion, Map<String, Object> changes,
+                                                     String uploadedUrl, String operation) {
+        UpdatedExperience updated = repository.updateReturning(id, expectedVersion, changes).orElse(null);
+
+        if (updated == null) {
+            InterviewExperience experience = repository.findById(id).orElse(null);
+            if (experience == null) {
+                discardUpload(uploadedUrl, null);
+                log.error("InterviewExperienceServiceImpl :: {} :: not found :: experience with id: {}", operation, id);
+                throw new RuntimeException("Interview Experience not found");
+            }
+            discardUpload(uploadedUrl, experience.getImageName());
+            if (expectedVersion != null && !expectedVersion.equals(experience.getVersion())) {
+                log.warn("InterviewExperienceServiceImpl :: {} :: version conflict :: expected {} but was {}",
+                        operation, expectedVersion, experience.getVersion());
+                throw new ObjectOptimisticLockingFailureException(InterviewExperience.class, id);
+            }
+            log.info("InterviewExperienceServiceImpl :: {} :: no changes :: experience with id: {}", operation, id);
+            return mapper.toResponse(experience);
         }
 
-        // Update other fields
-        experience.setUserName(request.getUserName());
-        experience.setTitle(request.getTitle());
-        experience.setCompanyTag(request.getCompanyTag());
-        experience.setUserEmail(request.getUserEmail());
-        experience.setContent(request.getContent());
-        log.info("InterviewExperienceServiceImpl :: updateInterviewExperience :: updated fields from request {}" ,experience);
+        InterviewExperience experience = updated.experience();
+        log.info("InterviewExperienceServiceImpl :: {} :: saved :: updated columns {}", operation, changes.keySet());
+        // A row moving to another company leaves the old company's cached pages outdated as well
+        eventPublisher.publishEvent(InterviewExperienceChangedEvent.of(updated.previousCompanyTag(), experience.getCompanyTag()));
+        if (changes.containsKey("imageName")) {
+            discardUpload(updated.previousImageName(), experience.getImageName());
+        }
+        return mapper.toResponse(experience);
+    }
 
-        // Save updated entity
-        InterviewExperience updatedExperience = repository.save(experience);
+    private static void setCandidateField(InterviewExperienceRequest candidate, String field, String value) {
+        switch (field) {
+            case "userName" -> candidate.setUserName(value);
+            case "userEmail" -> candidate.setUserEmail(value);
+            case "title" -> candidate.setTitle(value);
+            case "content" -> candidate.setContent(value);
+            case "companyTag" -> candidate.setCompanyTag(value);
+            default -> throw new IllegalArgumentException("Field '" + field + "' cannot be patched");
+        }
+    }
 
-        log.info("InterviewExperienceServiceImpl :: updateInterviewExperience :: saved :: updated experience");
+    private static void putIfPresent(Map<String, Object> changes, String column, Object value) {
+        if (value != null) {
+            changes.put(column, value);
+        }
+    }
 
-        return modelMapper.map(updatedExperience, InterviewExperienceResponse.class);
+    /** Best-effort removal of an S3 object that no row references, unless it is {@code stillReferenced}. */
+    private void discardUpload(String imageUrl, String stillReferenced) {
+        if (imageUrl == null || imageUrl.isEmpty() || imageUrl.equals(stillReferenced)) {
+            return;
+        }
+        try {
+            log.info("InterviewExperienceServiceImpl :: deleting unreferenced image from S3: {}", imageUrl);
+            fileService.deleteImage(imageUrl);
+        } catch (Exception e) {
+            log.error("InterviewExperienceServiceImpl :: failed to delete image from S3: {}", e.getMessage());
+        }
     }
 
 }
@@ -0,0 +1,151 @@
+package com.Switchboard.InterviewService.spool;
+
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.InterviewExperienceChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background worker that uploads spooled images to S3 and patches {@code imageName} on the owning row.
+ * Entries are drained in append order. A failing entry is retried with exponential backoff while later entries
+ * keep draining; once it has failed {@code upload.spool.max-attempts} times it is moved to the spool's dead-letter
+ * directory and acknowledged, so a permanently broken entry cannot hold the spool open forever.
+ */
+@Component
+public class SpoolDrainer {
+    private static final Logger log = LoggerFactory.getLogger(SpoolDrainer.class);
+
+    private final UploadSpool spool;
+    private final FileService fileService;
+    private final InterviewExperienceRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxAttempts;
+    private final Counter quarantined;
+    // Only touched by the single drainer thread
+    private final Map<Long, Attempts> attempts = new HashMap<>();
+
+    @Value("${upload.spool.drain-interval-ms:200}")
+    private long drainIntervalMs;
+
+    private ScheduledExecutorService executor;
+
+    public SpoolDrainer(UploadSpool spool, FileService fileService, InterviewExperienceRepository repository,
+                        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                        @Value("${upload.spool.max-attempts:10}") int maxAttempts) {
+        this.spool = spool;
+        this.fileService = fileService;
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.quarantined = Counter.builder("interview.spool.quarantined")
+                .description("Spooled uploads given up on after exhausting their retries")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!spool.isEnabled()) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upload-spool-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, 0, drainIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("SpoolDrainer :: start :: draining upload spool every {} ms", drainIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Runs one drain pass and returns the number of entries acknowledged. */
+    public int drain() {
+        int drained = 0;
+        long now = System.nanoTime();
+        for (SpoolEntry entry : spool.pending()) {
+            Attempts previous = attempts.get(entry.getSequence());
+            if (previous != null && now - previous.nextAttemptNanos < 0) {
+                continue;
+            }
+            try {
+                drainEntry(entry);
+                attempts.remove(entry.getSequence());
+                drained++;
+            } catch (Exception e) {
+                failed(entry, previous == null ? 1 : previous.count + 1, e);
+            }
+        }
+        return drained;
+    }
+
+    private void failed(SpoolEntry entry, int count, Exception failure) {
+        if (count < maxAttempts) {
+            long backoffMs = Math.min(drainIntervalMs << Math.min(count, 16), TimeUnit.MINUTES.toMillis(1));
+            attempts.put(entry.getSequence(), new Attempts(count, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs)));
+            log.warn("SpoolDrainer :: drain :: attempt {} of {} for sequence {} failed, retrying in {} ms: {}",
+                    count, maxAttempts, entry.getSequence(), backoffMs, failure.getMessage());
+            return;
+        }
+        byte[] content = null;
+        try {
+            content = spool.read(entry);
+        } catch (IOException e) {
+            log.warn("SpoolDrainer :: drain :: sequence {} is unreadable, quarantining without its image: {}", entry.getSequence(), e.getMessage());
+        }
+        try {
+            spool.quarantine(entry, content);
+            attempts.remove(entry.getSequence());
+            quarantined.increment();
+            log.error("SpoolDrainer :: drain :: gave up on sequence {} for experience {} after {} attempts: {}",
+                    entry.getSequence(), entry.getExperienceId(), count, failure.getMessage());
+        } catch (IOException e) {
+            // Past its budget, so the next failed pass tries the quarantine again
+            attempts.put(entry.getSequence(), new Attempts(count, System.nanoTime()));
+            log.error("SpoolDrainer :: drain :: failed to quarantine sequence {}: {}", entry.getSequence(), e.getMessage());
+        }
+    }
+
+    private void drainEntry(SpoolEntry entry) throws IOException {
+        byte[] content = spool.read(entry);
+        // The key was fixed at append time, so a replay after a crash overwrites the same object
+        String imageUrl = fileService.uploadBytes(entry.getKey(), content, entry.getContentType());
+
+        int updated = repository.updateImageName(entry.getExperienceId(), imageUrl, LocalDateTime.now());
+        if (updated == 0) {
+            // A replay after a crash between update and ack finds its own URL already set and must keep the object
+            if (!repository.findImageNameById(entry.getExperienceId()).filter(imageUrl::equals).isPresent()) {
+                log.info("SpoolDrainer :: drainEntry :: experience {} was deleted or given a newer image before its image drained, removing object", entry.getExperienceId());
+                fileService.deleteImage(imageUrl);
+            }
+        } else {
+            // Cached pages still list the row without its image
+            eventPublisher.publishEvent(InterviewExperienceChangedEvent.of(
+                    repository.findCompanyTagById(entry.getExperienceId()).orElse(null)));
+        }
+        spool.ack(entry);
+    }
+
+    private record Attempts(int count, long nextAttemptNanos) {
+    }
+}
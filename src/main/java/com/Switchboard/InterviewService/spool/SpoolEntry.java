@@ -0,0 +1,22 @@
+package com.Switchboard.InterviewService.spool;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Location of one spooled image inside an {@link UploadSpool} segment. The image bytes stay on disk
+ * and are read back by the drainer, so pending entries cost only this descriptor in memory.
+ */
+@Getter
+@AllArgsConstructor
+public class SpoolEntry {
+    private final long sequence;
+    private final UUID experienceId;
+    private final String key;
+    private final String contentType;
+    private final long segmentId;
+    private final long offset;
+    private final int length;
+}
@@ -0,0 +1,407 @@
+package com.Switchboard.InterviewService.spool;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only local spool for images whose S3 upload has been deferred.
+ *
+ * <p>Records are appended to preallocated segment files and forced to disk before {@link #append} returns.
+ * Each record is {@code magic | type | length | crc32c | payload}; a DATA record carries the image and
+ * an ACK record marks a DATA sequence as uploaded. A QUARANTINE record retires a DATA sequence the drainer gave up
+ * on, after its image has been copied to the {@code dead-letter} directory. On startup every segment is scanned, a torn or
+ * corrupt tail is discarded, and DATA records without a matching ACK are replayed as pending.
+ * Segments are deleted oldest-first once all of their DATA records are acknowledged.
+ *
+ * <p>Writers are serialized with a {@link ReentrantLock} rather than {@code synchronized}: appends fsync
+ * while holding it, and on Java 21 a virtual thread blocked inside or waiting for a monitor pins its
+ * carrier thread.
+ */
+@Component
+public class UploadSpool {
+    private static final Logger log = LoggerFactory.getLogger(UploadSpool.class);
+
+    static final int MAGIC = 0x53504F4C;
+    static final byte TYPE_DATA = 1;
+    static final byte TYPE_ACK = 2;
+    static final byte TYPE_QUARANTINE = 3;
+    // Key and content-type lengths are stored as unsigned 16-bit values
+    static final int MAX_STRING_BYTES = 0xFFFF;
+    static final int HEADER_SIZE = 13;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String DEAD_LETTER_DIR = "dead-letter";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean fsync;
+
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final ConcurrentSkipListMap<Long, SpoolEntry> pending = new ConcurrentSkipListMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private Segment active;
+    private long nextSequence = 1;
+
+    public UploadSpool(@Value("${upload.spool.enabled:false}") boolean enabled,
+                       @Value("${upload.spool.dir:upload-spool}") String directory,
+                       @Value("${upload.spool.segment-size-bytes:67108864}") long segmentSize,
+                       @Value("${upload.spool.fsync:true}") boolean fsync) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        lock.lock();
+        try {
+            if (!enabled) {
+                return;
+            }
+            Files.createDirectories(directory);
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                                && p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+
+            List<SpoolEntry> data = new ArrayList<>();
+            Set<Long> acked = new HashSet<>();
+            for (Path file : files) {
+                Segment segment = new Segment(segmentId(file), file, FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+                segment.writePosition = scan(segment, data, acked);
+                segments.put(segment.id, segment);
+                active = segment;
+            }
+
+            for (SpoolEntry entry : data) {
+                nextSequence = Math.max(nextSequence, entry.getSequence() + 1);
+                if (!acked.contains(entry.getSequence())) {
+                    pending.put(entry.getSequence(), entry);
+                    segments.get(entry.getSegmentId()).pendingCount++;
+                }
+            }
+            for (Long sequence : acked) {
+                nextSequence = Math.max(nextSequence, sequence + 1);
+            }
+            reclaim();
+
+            log.info("UploadSpool :: open :: recovered {} segments with {} pending uploads from {}",
+                    segments.size(), pending.size(), directory.toAbsolutePath());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+            segments.clear();
+            active = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Durably appends an image for the given experience. When this returns the record is on disk and will
+     * be replayed after a restart until {@link #ack} is called for it.
+     */
+    public SpoolEntry append(UUID experienceId, String key, String contentType, byte[] content) throws IOException {
+        lock.lock();
+        try {
+            if (!enabled) {
+                throw new IllegalStateException("Upload spool is disabled");
+            }
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            byte[] typeBytes = (contentType == null ? "" : contentType).getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length > MAX_STRING_BYTES || typeBytes.length > MAX_STRING_BYTES) {
+                throw new IllegalArgumentException("Spool key and content type must each fit in " + MAX_STRING_BYTES + " bytes");
+            }
+            long sequence = nextSequence++;
+
+            ByteBuffer payload = ByteBuffer.allocate(8 + 16 + 2 + keyBytes.length + 2 + typeBytes.length + 4 + content.length);
+            payload.putLong(sequence)
+                    .putLong(experienceId.getMostSignificantBits())
+                    .putLong(experienceId.getLeastSignificantBits())
+                    .putShort((short) keyBytes.length).put(keyBytes)
+                    .putShort((short) typeBytes.length).put(typeBytes)
+                    .putInt(content.length).put(content)
+                    .flip();
+
+            Segment segment = segmentFor(HEADER_SIZE + payload.remaining());
+            long offset = write(segment, TYPE_DATA, payload);
+
+            SpoolEntry entry = new SpoolEntry(sequence, experienceId, key, contentType, segment.id, offset, content.length);
+            segment.pendingCount++;
+            pending.put(sequence, entry);
+            log.info("UploadSpool :: append :: spooled {} bytes for experience: {} as sequence {}", content.length, experienceId, sequence);
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Pending entries in append order. */
+    public List<SpoolEntry> pending() {
+        return new ArrayList<>(pending.values());
+    }
+
+    /** Reads the image bytes of a pending entry back from its segment, verifying the record checksum. */
+    public byte[] read(SpoolEntry entry) throws IOException {
+        Segment segment;
+        lock.lock();
+        try {
+            segment = segments.get(entry.getSegmentId());
+        } finally {
+            lock.unlock();
+        }
+        if (segment == null) {
+            throw new IOException("Spool segment " + entry.getSegmentId() + " no longer exists");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(segment.channel, header, entry.getOffset());
+        header.flip();
+        header.getInt();
+        byte type = header.get();
+        int length = header.getInt();
+        int crc = header.getInt();
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(segment.channel, payload, entry.getOffset() + HEADER_SIZE);
+        payload.flip();
+        if (checksum(type, payload) != crc) {
+            throw new IOException("Checksum mismatch for spool sequence " + entry.getSequence());
+        }
+
+        byte[] content = new byte[entry.getLength()];
+        payload.position(payload.limit() - entry.getLength());
+        payload.get(content);
+        return content;
+    }
+
+    /** Marks an entry as uploaded; segments whose entries are all acknowledged are reclaimed. */
+    public void ack(SpoolEntry entry) throws IOException {
+        retire(entry, TYPE_ACK);
+    }
+
+    /**
+     * Gives up on an entry: its image, when still readable, is written to the dead-letter directory for manual
+     * replay, and the entry is retired like an acknowledged one.
+     */
+    public void quarantine(SpoolEntry entry, byte[] content) throws IOException {
+        if (content != null) {
+            Path deadLetter = Files.createDirectories(directory.resolve(DEAD_LETTER_DIR));
+            Files.write(deadLetter.resolve(entry.getSequence() + "_" + entry.getExperienceId()), content);
+        }
+        retire(entry, TYPE_QUARANTINE);
+        log.warn("UploadSpool :: quarantine :: retired sequence {} for experience: {}", entry.getSequence(), entry.getExperienceId());
+    }
+
+    private void retire(SpoolEntry entry, byte type) throws IOException {
+        lock.lock();
+        try {
+            if (pending.remove(entry.getSequence()) == null) {
+                return;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(8).putLong(entry.getSequence()).flip();
+            write(segmentFor(HEADER_SIZE + payload.remaining()), type, payload);
+
+            Segment owner = segments.get(entry.getSegmentId());
+            if (owner != null) {
+                owner.pendingCount--;
+            }
+            reclaim();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long scan(Segment segment, List<SpoolEntry> data, Set<Long> acked) throws IOException {
+        long size = segment.channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(segment.channel, header, position);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                break;
+            }
+            byte type = header.get();
+            int length = header.getInt();
+            int crc = header.getInt();
+            if (length < 0 || position + HEADER_SIZE + length > size) {
+                log.warn("UploadSpool :: scan :: truncated record in {} at offset {}", segment.path, position);
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(segment.channel, payload, position + HEADER_SIZE);
+            payload.flip();
+            if (checksum(type, payload) != crc) {
+                log.warn("UploadSpool :: scan :: checksum mismatch in {} at offset {}, discarding tail", segment.path, position);
+                break;
+            }
+
+            if (type == TYPE_DATA) {
+                long sequence = payload.getLong();
+                UUID experienceId = new UUID(payload.getLong(), payload.getLong());
+                String key = readString(payload);
+                String contentType = readString(payload);
+                int contentLength = payload.getInt();
+                data.add(new SpoolEntry(sequence, experienceId, key, contentType.isEmpty() ? null : contentType,
+                        segment.id, position, contentLength));
+            } else if (type == TYPE_ACK || type == TYPE_QUARANTINE) {
+                acked.add(payload.getLong());
+            }
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private Segment segmentFor(int recordSize) throws IOException {
+        if (active != null && active.writePosition + recordSize <= active.capacity) {
+            return active;
+        }
+        long id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        Segment segment = new Segment(id, file, channel);
+        // Preallocate so appends do not grow the file; the zero-filled tail stops recovery scans
+        segment.capacity = Math.max(segmentSize, recordSize);
+        channel.write(ByteBuffer.wrap(new byte[1]), segment.capacity - 1);
+        if (fsync) {
+            channel.force(true);
+        }
+        segments.put(id, segment);
+        active = segment;
+        return segment;
+    }
+
+    private long write(Segment segment, byte type, ByteBuffer payload) throws IOException {
+        int crc = checksum(type, payload);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payload.remaining());
+        record.putInt(MAGIC).put(type).putInt(payload.remaining()).putInt(crc).put(payload).flip();
+
+        long offset = segment.writePosition;
+        long position = offset;
+        while (record.hasRemaining()) {
+            position += segment.channel.write(record, position);
+        }
+        if (fsync) {
+            segment.channel.force(false);
+        }
+        segment.writePosition = position;
+        return offset;
+    }
+
+    private void reclaim() throws IOException {
+        Iterator<Map.Entry<Long, Segment>> it = segments.entrySet().iterator();
+        while (it.hasNext()) {
+            Segment segment = it.next().getValue();
+            if (segment == active || segment.pendingCount > 0) {
+                break;
+            }
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+            it.remove();
+            log.info("UploadSpool :: reclaim :: deleted fully acknowledged segment {}", segment.path.getFileName());
+        }
+    }
+
+    private static int checksum(byte type, ByteBuffer payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Unexpected end of spool segment");
+            }
+        }
+    }
+
+    private static long segmentId(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private long capacity;
+        private long writePosition;
+        private int pendingCount;
+
+        private Segment(long id, Path path, FileChannel channel) throws IOException {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.capacity = channel.size();
+        }
+    }
+}
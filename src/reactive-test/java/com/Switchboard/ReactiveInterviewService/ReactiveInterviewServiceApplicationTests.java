@@ -0,0 +1,56 @@
+package com.Switchboard.ReactiveInterviewService;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = ReactiveInterviewServiceApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = ReactiveInterviewServiceApplication.CONFIG_NAME)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ReactiveInterviewServiceApplicationTests {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void createReadAndDelete_ShouldRoundTripThroughR2dbc() {
+        // Arrange
+        MultipartBodyBuilder form = new MultipartBodyBuilder();
+        form.part("userName", "John Doe");
+        form.part("title", "Interview at Google");
+        form.part("content", "Great experience with multiple technical rounds.");
+        form.part("companyTag", "Google");
+
+        // Act
+        InterviewExperienceResponse created = client.post().uri("/api/v1/interview/")
+                .header("X-User-Email", "john.doe@example.com")
+                .body(BodyInserters.fromMultipartData(form.build()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(InterviewExperienceResponse.class)
+                .returnResult().getResponseBody();
+
+        // Assert
+        assertNotNull(created);
+        client.get().uri("/api/v1/interview/" + created.getId()).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"0\"");
+        PageResponseDTO page = client.get().uri("/api/v1/interview/?sortBy=createdAt&sortDir=desc").exchange()
+                .expectStatus().isOk()
+                .expectBody(PageResponseDTO.class)
+                .returnResult().getResponseBody();
+        assertTrue(page.getContent().stream().anyMatch(row -> row.getId().equals(created.getId())));
+        client.delete().uri("/api/v1/interview/" + created.getId()).exchange().expectStatus().isOk();
+    }
+}
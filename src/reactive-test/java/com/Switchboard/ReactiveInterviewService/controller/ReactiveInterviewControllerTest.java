@@ -0,0 +1,194 @@
+package com.Switchboard.ReactiveInterviewService.controller;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.ReactiveInterviewService.service.ReactiveFileService;
+import com.Switchboard.ReactiveInterviewService.service.ReactiveInterviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveInterviewControllerTest {
+
+    private static final String BASE = "/api/v1/interview";
+
+    @Mock
+    private ReactiveInterviewService interviewService;
+
+    @Mock
+    private ReactiveFileService fileService;
+
+    private WebTestClient client;
+    private InterviewExperienceResponse response;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToController(new ReactiveInterviewController(interviewService, fileService)).build();
+        response = InterviewExperienceResponse.builder()
+                .id(UUID.randomUUID())
+                .userName("John Doe")
+                .title("Interview at Google")
+                .version(3L)
+                .build();
+    }
+
+    private static MultipartBodyBuilder form() {
+        MultipartBodyBuilder form = new MultipartBodyBuilder();
+        form.part("userName", "John Doe");
+        form.part("title", "Interview at Google");
+        form.part("content", "Great experience with multiple technical rounds.");
+        form.part("companyTag", "Google");
+        form.part("unknown", "ignored");
+        return form;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createInterviewExperience_ShouldStreamImageAndBindForm() {
+        // Arrange
+        MultipartBodyBuilder form = form();
+        form.part("image", new ByteArrayResource("jpeg-bytes".getBytes()) {
+            @Override
+            public String getFilename() {
+                return "photo.jpg";
+            }
+        }).contentType(MediaType.IMAGE_JPEG);
+        when(fileService.upload(eq("interview-experience"), eq("photo.jpg"), eq("image/jpeg"), any()))
+                .thenAnswer(invocation -> ((Flux<DataBuffer>) invocation.getArgument(3))
+                        .map(DataBufferUtils::release)
+                        .then(Mono.just("https://bucket/photo.jpg")));
+        ArgumentCaptor<InterviewExperienceRequest> request = ArgumentCaptor.forClass(InterviewExperienceRequest.class);
+        when(interviewService.createInterviewExperience(request.capture(), eq("https://bucket/photo.jpg"))).thenReturn(Mono.just(response));
+
+        // Act & Assert
+        client.post().uri(BASE + "/")
+                .header("X-User-Email", "john.doe@example.com")
+                .body(BodyInserters.fromMultipartData(form.build()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(InterviewExperienceResponse.class)
+                .value(body -> assertEquals(response.getId(), body.getId()));
+        assertEquals("john.doe@example.com", request.getValue().getUserEmail());
+        assertEquals("Google", request.getValue().getCompanyTag());
+        assertEquals("Great experience with multiple technical rounds.", request.getValue().getContent());
+    }
+
+    @Test
+    void createInterviewExperience_WithoutImage_ShouldCreateWithoutUpload() {
+        // Arrange
+        when(interviewService.createInterviewExperience(any(), isNull())).thenReturn(Mono.just(response));
+
+        // Act & Assert
+        client.post().uri(BASE + "/")
+                .header("X-User-Email", "john.doe@example.com")
+                .body(BodyInserters.fromMultipartData(form().build()))
+                .exchange()
+                .expectStatus().isOk();
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void createInterviewExperience_WithUnsupportedImage_ShouldReturnBadRequest() {
+        // Arrange
+        MultipartBodyBuilder form = form();
+        form.part("image", new ByteArrayResource("%PDF".getBytes()) {
+            @Override
+            public String getFilename() {
+                return "doc.pdf";
+            }
+        }).contentType(MediaType.APPLICATION_PDF);
+
+        // Act & Assert
+        client.post().uri(BASE + "/")
+                .header("X-User-Email", "john.doe@example.com")
+                .body(BodyInserters.fromMultipartData(form.build()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(String.class).isEqualTo("Unsupported image type: application/pdf");
+        verifyNoInteractions(fileService, interviewService);
+    }
+
+    @Test
+    void getAllInterviews_ShouldUseServletDefaults() {
+        // Arrange
+        PageResponseDTO page = PageResponseDTO.builder().content(List.of(response)).pageSize(10).lastPage(true).build();
+        when(interviewService.getAllInterviews(0, 10, "updatedAt", "asc")).thenReturn(Mono.just(page));
+
+        // Act & Assert
+        client.get().uri(BASE + "/")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PageResponseDTO.class)
+                .value(body -> assertEquals(1, body.getContent().size()));
+    }
+
+    @Test
+    void getInterviewById_ShouldReturnETag() {
+        // Arrange
+        when(interviewService.getInterviewById(response.getId())).thenReturn(Mono.just(response));
+
+        // Act & Assert
+        client.get().uri(BASE + "/" + response.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"");
+    }
+
+    @Test
+    void searches_ShouldReturnLists() {
+        // Arrange
+        when(interviewService.searchByEmail("john.doe@example.com")).thenReturn(Flux.just(response));
+        when(interviewService.searchByCompany("Google")).thenReturn(Flux.empty());
+
+        // Act & Assert
+        client.get().uri(BASE + "/email?email=john.doe@example.com").exchange()
+                .expectStatus().isOk().expectBodyList(InterviewExperienceResponse.class).hasSize(1);
+        client.get().uri(BASE + "/user").header("X-User-Email", "john.doe@example.com").exchange()
+                .expectStatus().isOk().expectBodyList(InterviewExperienceResponse.class).hasSize(1);
+        client.get().uri(BASE + "/company?company=Google").exchange()
+                .expectStatus().isOk().expectBodyList(InterviewExperienceResponse.class).hasSize(0);
+    }
+
+    @Test
+    void deleteInterviewExperience_ShouldReturnSuccessMessage() {
+        // Arrange
+        when(interviewService.deleteInterviewExperience(response.getId())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        client.delete().uri(BASE + "/" + response.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Interview experience deleted successfully, image removed from S3");
+    }
+
+    @Test
+    void handleTooLarge_ShouldReturnPayloadTooLarge() {
+        // Act & Assert
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE,
+                new ReactiveInterviewController(interviewService, fileService)
+                        .handleTooLarge(new DataBufferLimitException("Image exceeds 8 bytes")).getStatusCode());
+    }
+}
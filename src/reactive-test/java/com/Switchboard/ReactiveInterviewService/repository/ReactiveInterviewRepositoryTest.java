@@ -0,0 +1,113 @@
+package com.Switchboard.ReactiveInterviewService.repository;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveInterviewRepositoryTest {
+
+    private ReactiveInterviewRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connections = ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("reactive-schema.sql")).populate(connections).block();
+        repository = new ReactiveInterviewRepository(DatabaseClient.create(connections),
+                TransactionalOperator.create(new R2dbcTransactionManager(connections)));
+    }
+
+    private InterviewExperienceResponse insert(String email, String company, String title, String image) {
+        return repository.insert(InterviewExperienceRequest.builder()
+                .userName("John Doe")
+                .userEmail(email)
+                .title(title)
+                .content("Great experience with multiple technical rounds.")
+                .companyTag(company)
+                .build(), image).block();
+    }
+
+    @Test
+    void insert_ShouldAssignTimeOrderedIdAndInitialVersion() {
+        // Act
+        InterviewExperienceResponse saved = insert("john.doe@example.com", "Google", "Interview at Google", null);
+
+        // Assert
+        assertEquals(7, saved.getId().version());
+        assertEquals(0L, saved.getVersion());
+        StepVerifier.create(repository.findById(saved.getId()))
+                .assertNext(found -> {
+                    assertEquals("Interview at Google", found.getTitle());
+                    assertNull(found.getImageName());
+                    assertEquals(saved.getCreatedAt().withNano(0), found.getCreatedAt().withNano(0));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findByUserEmailAndCompany_ShouldFilterAndOrderNewestFirst() {
+        // Arrange
+        insert("john.doe@example.com", "Google", "Interview at Google", null);
+        insert("jane.smith@example.com", "Amazon", "Interview at Amazon", null);
+        insert("john.doe@example.com", "Microsoft", "Interview at Microsoft", null);
+
+        // Act
+        List<InterviewExperienceResponse> john = repository.findByUserEmail("john.doe@example.com").collectList().block();
+        List<InterviewExperienceResponse> amazon = repository.findByCompanyTag("Amazon").collectList().block();
+
+        // Assert
+        assertEquals(List.of("Interview at Microsoft", "Interview at Google"),
+                john.stream().map(InterviewExperienceResponse::getTitle).toList());
+        assertEquals(1, amazon.size());
+    }
+
+    @Test
+    void findPage_ShouldSortLimitAndOffset() {
+        // Arrange
+        insert("a@example.com", "A", "Title A", null);
+        insert("b@example.com", "B", "Title B", null);
+        insert("c@example.com", "C", "Title C", null);
+
+        // Act & Assert
+        StepVerifier.create(repository.findPage(1, 2, "title", false).map(InterviewExperienceResponse::getTitle))
+                .expectNext("Title A")
+                .verifyComplete();
+        StepVerifier.create(repository.count()).expectNext(3L).verifyComplete();
+    }
+
+    @Test
+    void findPage_WithUnknownSortKey_ShouldFailWithoutQuerying() {
+        // Act & Assert
+        StepVerifier.create(repository.findPage(0, 10, "title; DROP TABLE interview_experience", true))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void deleteReturningImageName_ShouldDeleteAndReturnImage() {
+        // Arrange
+        InterviewExperienceResponse withImage = insert("a@example.com", "A", "Title A", "https://s3.amazonaws.com/bucket/a.jpg");
+        InterviewExperienceResponse withoutImage = insert("b@example.com", "B", "Title B", null);
+
+        // Act & Assert
+        StepVerifier.create(repository.deleteReturningImageName(withImage.getId()))
+                .expectNext("https://s3.amazonaws.com/bucket/a.jpg")
+                .verifyComplete();
+        StepVerifier.create(repository.deleteReturningImageName(withoutImage.getId())).expectNext("").verifyComplete();
+        StepVerifier.create(repository.deleteReturningImageName(UUID.randomUUID())).verifyComplete();
+        StepVerifier.create(repository.count()).expectNext(0L).verifyComplete();
+    }
+}
@@ -0,0 +1,116 @@
+package com.Switchboard.ReactiveInterviewService.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveFileServiceTest {
+
+    @Mock
+    private S3AsyncClient s3Client;
+
+    private ReactiveFileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileService = new ReactiveFileService(s3Client, 8);
+        ReflectionTestUtils.setField(fileService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(fileService, "region", "us-east-1");
+    }
+
+    private static Flux<DataBuffer> chunks(String... parts) {
+        return Flux.fromArray(parts).map(part -> DefaultDataBufferFactory.sharedInstance.wrap(part.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** Reads the streamed body the way the SDK would, so the publisher chain actually runs. */
+    private void answerPutByDraining(ByteArrayOutputStream sink) {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            AsyncRequestBody body = invocation.getArgument(1);
+            return Flux.from(body)
+                    .doOnNext(buffer -> {
+                        byte[] bytes = new byte[buffer.remaining()];
+                        buffer.get(bytes);
+                        sink.writeBytes(bytes);
+                    })
+                    .then()
+                    .thenReturn(PutObjectResponse.builder().build())
+                    .toFuture();
+        });
+    }
+
+    @Test
+    void upload_ShouldStreamBodyAndReturnPublicUrl() {
+        // Arrange
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        answerPutByDraining(sink);
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+        // Act & Assert
+        StepVerifier.create(fileService.upload("interview-experience", "a.jpg", "image/jpeg", chunks("abc", "def")))
+                .assertNext(url -> {
+                    assertTrue(url.startsWith("https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/"));
+                    assertTrue(url.endsWith("_a.jpg"));
+                })
+                .verifyComplete();
+        verify(s3Client).putObject(request.capture(), any(AsyncRequestBody.class));
+        assertEquals("image/jpeg", request.getValue().contentType());
+        assertEquals("abcdef", sink.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void upload_PastSizeLimit_ShouldFail() {
+        // Arrange
+        answerPutByDraining(new ByteArrayOutputStream());
+
+        // Act & Assert
+        StepVerifier.create(fileService.upload("interview-experience", "a.jpg", "image/jpeg", chunks("abcdef", "ghi")))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteImage_ShouldDeleteKeyFromUrl() {
+        // Arrange
+        ArgumentCaptor<Consumer<DeleteObjectRequest.Builder>> request = ArgumentCaptor.forClass(Consumer.class);
+        when(s3Client.deleteObject(any(Consumer.class)))
+                .thenReturn(CompletableFuture.completedFuture(DeleteObjectResponse.builder().build()));
+
+        // Act
+        StepVerifier.create(fileService.deleteImage("https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/a.jpg"))
+                .verifyComplete();
+
+        // Assert
+        verify(s3Client).deleteObject(request.capture());
+        DeleteObjectRequest.Builder builder = DeleteObjectRequest.builder();
+        request.getValue().accept(builder);
+        assertEquals("interview-experience/a.jpg", builder.build().key());
+        assertEquals("test-bucket", builder.build().bucket());
+    }
+}
@@ -0,0 +1,169 @@
+package com.Switchboard.ReactiveInterviewService.service;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.ReactiveInterviewService.repository.ReactiveInterviewRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveInterviewServiceTest {
+
+    private static final String IMAGE = "https://test-bucket.s3.us-east-1.amazonaws.com/interview-experience/a.jpg";
+
+    @Mock
+    private ReactiveInterviewRepository repository;
+
+    @Mock
+    private ReactiveFileService fileService;
+
+    private ReactiveInterviewService service;
+    private InterviewExperienceRequest request;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveInterviewService(repository, fileService, Validation.buildDefaultValidatorFactory().getValidator());
+        request = InterviewExperienceRequest.builder()
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .title("Interview at Google")
+                .content("Great experience with multiple technical rounds.")
+                .companyTag("Google")
+                .build();
+    }
+
+    @Test
+    void createInterviewExperience_ShouldInsertValidRequest() {
+        // Arrange
+        InterviewExperienceResponse saved = InterviewExperienceResponse.builder().id(UUID.randomUUID()).imageName(IMAGE).build();
+        when(repository.insert(request, IMAGE)).thenReturn(Mono.just(saved));
+
+        // Act & Assert
+        StepVerifier.create(service.createInterviewExperience(request, IMAGE)).expectNext(saved).verifyComplete();
+        verify(fileService, never()).deleteImage(any());
+    }
+
+    @Test
+    void createInterviewExperience_WithInvalidRequest_ShouldDeleteStreamedImage() {
+        // Arrange
+        request.setTitle("x");
+        when(fileService.deleteImage(IMAGE)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.createInterviewExperience(request, IMAGE))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(IllegalArgumentException.class, e);
+                    assertEquals("Title must be between 3 and 100 characters", e.getMessage());
+                })
+                .verify();
+        verify(repository, never()).insert(any(), any());
+    }
+
+    @Test
+    void createInterviewExperience_WhenInsertAndCleanupFail_ShouldSurfaceInsertError() {
+        // Arrange
+        when(repository.insert(request, IMAGE)).thenReturn(Mono.error(new IllegalStateException("db down")));
+        when(fileService.deleteImage(IMAGE)).thenReturn(Mono.error(new RuntimeException("s3 down")));
+
+        // Act & Assert
+        StepVerifier.create(service.createInterviewExperience(request, IMAGE))
+                .expectErrorMessage("db down")
+                .verify();
+    }
+
+    @Test
+    void createInterviewExperience_WithoutImage_ShouldNotTouchS3() {
+        // Arrange
+        when(repository.insert(request, null)).thenReturn(Mono.error(new IllegalStateException("db down")));
+
+        // Act & Assert
+        StepVerifier.create(service.createInterviewExperience(request, null)).expectError(IllegalStateException.class).verify();
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void getAllInterviews_ShouldBuildPageMetadata() {
+        // Arrange
+        InterviewExperienceResponse row = InterviewExperienceResponse.builder().id(UUID.randomUUID()).build();
+        when(repository.findPage(1, 2, "updatedAt", true)).thenReturn(Flux.just(row, row));
+        when(repository.count()).thenReturn(Mono.just(5L));
+
+        // Act & Assert
+        StepVerifier.create(service.getAllInterviews(1, 2, "updatedAt", "ASC"))
+                .assertNext(page -> {
+                    assertEquals(2, page.getContent().size());
+                    assertEquals(5, page.getTotalElements());
+                    assertEquals(3, page.getTotalPages());
+                    assertFalse(page.isLastPage());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllInterviews_WithInvalidPage_ShouldFail() {
+        // Act & Assert
+        StepVerifier.create(service.getAllInterviews(-1, 10, "updatedAt", "asc")).expectError(IllegalArgumentException.class).verify();
+    }
+
+    @Test
+    void searches_ShouldDelegateToRepository() {
+        // Arrange
+        InterviewExperienceResponse row = InterviewExperienceResponse.builder().id(UUID.randomUUID()).build();
+        when(repository.findByUserEmail("john.doe@example.com")).thenReturn(Flux.just(row));
+        when(repository.findByCompanyTag("Google")).thenReturn(Flux.empty());
+
+        // Act & Assert
+        assertEquals(List.of(row), service.searchByEmail("john.doe@example.com").collectList().block());
+        assertEquals(List.of(), service.searchByCompany("Google").collectList().block());
+    }
+
+    @Test
+    void getInterviewById_WhenMissing_ShouldFail() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getInterviewById(id)).expectErrorMessage("Interview Experience not found").verify();
+    }
+
+    @Test
+    void deleteInterviewExperience_ShouldDeleteImageAndTolerateS3Failure() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(repository.deleteReturningImageName(id)).thenReturn(Mono.just(IMAGE));
+        when(fileService.deleteImage(IMAGE)).thenReturn(Mono.error(new RuntimeException("s3 down")));
+
+        // Act & Assert
+        StepVerifier.create(service.deleteInterviewExperience(id)).verifyComplete();
+        verify(fileService).deleteImage(IMAGE);
+    }
+
+    @Test
+    void deleteInterviewExperience_WithoutImageOrRow_ShouldSkipS3OrFail() {
+        // Arrange
+        UUID withoutImage = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(repository.deleteReturningImageName(withoutImage)).thenReturn(Mono.just(""));
+        when(repository.deleteReturningImageName(missing)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.deleteInterviewExperience(withoutImage)).verifyComplete();
+        StepVerifier.create(service.deleteInterviewExperience(missing)).expectErrorMessage("Interview Experience not found").verify();
+        verifyNoInteractions(fileService);
+    }
+}
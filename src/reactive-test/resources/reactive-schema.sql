@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS interview_experience (
+    id UUID NOT NULL PRIMARY KEY,
+    user_name VARCHAR(100) NOT NULL,
+    user_email VARCHAR(150) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    company_tag VARCHAR(200) NOT NULL,
+    image_name VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
+);
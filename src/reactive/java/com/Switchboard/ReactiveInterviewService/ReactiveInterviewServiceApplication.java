@@ -0,0 +1,33 @@
+package com.Switchboard.ReactiveInterviewService;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * WebFlux + R2DBC build of the interview API, packaged instead of the servlet application by
+ * {@code mvn -Preactive package}. It shares the DTOs of {@code com.Switchboard.InterviewService.dto} and the
+ * {@code interview_experience} table, but none of the servlet beans: it lives outside that package so the
+ * servlet application's component scan never sees it, and it reads {@code reactive.properties} instead of
+ * {@code application.properties}.
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class
+})
+public class ReactiveInterviewServiceApplication {
+
+    public static final String CONFIG_NAME = "spring.config.name=reactive";
+
+    public static void main(String[] args) {
+        application().run(args);
+    }
+
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(ReactiveInterviewServiceApplication.class)
+                .properties(CONFIG_NAME);
+    }
+}
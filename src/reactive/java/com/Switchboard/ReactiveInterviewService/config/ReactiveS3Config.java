@@ -0,0 +1,39 @@
+package com.Switchboard.ReactiveInterviewService.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+@Configuration
+public class ReactiveS3Config {
+
+    @Value("${aws.region}")
+    private String region;
+
+    @Value("${aws.accessKeyId}")
+    private String accessKey;
+
+    @Value("${aws.secretKey}")
+    private String secretKey;
+
+    /**
+     * Multipart-enabled so a body of unknown length can be streamed: the client buffers one part at a time
+     * instead of needing the whole image in memory to compute a Content-Length. Concurrency is bounded by the
+     * Netty connection pool, which queues further requests rather than opening more sockets.
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient(@Value("${aws.s3.max-concurrency:32}") int maxConcurrency) {
+        AwsBasicCredentials creds = AwsBasicCredentials.create(accessKey, secretKey);
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(creds))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(maxConcurrency))
+                .multipartEnabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.Switchboard.ReactiveInterviewService.controller;
+
+import com.Switchboard.InterviewService.config.AppConstants;
+import com.Switchboard.InterviewService.config.ImageValidator;
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.ReactiveInterviewService.service.ReactiveFileService;
+import com.Switchboard.ReactiveInterviewService.service.ReactiveInterviewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.FormPartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@code InterviewExperienceController}: same paths, parameters and DTOs for creating,
+ * reading and deleting experiences. Multipart bodies are read as a stream of {@link PartEvent}s rather than
+ * bound to a form object, so the image flows to S3 while it is still being received.
+ */
+@RestController
+@RequestMapping("/api/v1/interview")
+public class ReactiveInterviewController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveInterviewController.class);
+
+    static final String IMAGE_PART = "image";
+
+    private final ReactiveInterviewService interviewService;
+    private final ReactiveFileService fileService;
+
+    public ReactiveInterviewController(ReactiveInterviewService interviewService, ReactiveFileService fileService) {
+        this.interviewService = interviewService;
+        this.fileService = fileService;
+    }
+
+    @PostMapping(value = "/", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Mono<ResponseEntity<InterviewExperienceResponse>> createInterviewExperience(
+            @RequestBody Flux<PartEvent> parts, @RequestHeader("X-User-Email") String userEmailHeader) {
+        InterviewExperienceRequest request = new InterviewExperienceRequest();
+        return parts.windowUntil(PartEvent::isLast)
+                .concatMap(part -> part.switchOnFirst((first, events) -> {
+                    if (first.get() instanceof FilePartEvent file && IMAGE_PART.equals(file.name())) {
+                        return uploadImage(file, events.cast(FilePartEvent.class));
+                    }
+                    if (first.get() instanceof FormPartEvent form) {
+                        bind(request, form.name(), form.value());
+                    }
+                    return events.doOnNext(event -> DataBufferUtils.release(event.content())).then(Mono.<String>empty());
+                }))
+                .collectList()
+                .flatMap(images -> {
+                    request.setUserEmail(userEmailHeader);
+                    return interviewService.createInterviewExperience(request, images.isEmpty() ? null : images.get(0));
+                })
+                .map(ResponseEntity::ok);
+    }
+
+    private Mono<String> uploadImage(FilePartEvent file, Flux<FilePartEvent> events) {
+        String contentType = file.headers().getContentType() != null ? file.headers().getContentType().toString() : null;
+        if (file.filename().isBlank()) {
+            // A form submitted without choosing a file still sends an empty image part
+            return events.doOnNext(event -> DataBufferUtils.release(event.content())).then(Mono.empty());
+        }
+        if (!ImageValidator.isAllowedContentType(contentType)) {
+            return events.doOnNext(event -> DataBufferUtils.release(event.content()))
+                    .then(Mono.error(new IllegalArgumentException("Unsupported image type: " + contentType)));
+        }
+        return fileService.upload(AppConstants.PATH_VARIABLE, file.filename(), contentType, events.map(PartEvent::content));
+    }
+
+    static void bind(InterviewExperienceRequest request, String field, String value) {
+        switch (field) {
+            case "userName" -> request.setUserName(value);
+            case "userEmail" -> request.setUserEmail(value);
+            case "title" -> request.setTitle(value);
+            case "content" -> request.setContent(value);
+            case "companyTag" -> request.setCompanyTag(value);
+            default -> log.debug("ReactiveInterviewController :: bind :: ignoring unknown field {}", field);
+        }
+    }
+
+    @GetMapping("/email")
+    public Mono<ResponseEntity<List<InterviewExperienceResponse>>> searchByEmail(@RequestParam String email) {
+        return interviewService.searchByEmail(email).collectList().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/user")
+    public Mono<ResponseEntity<List<InterviewExperienceResponse>>> searchByEmailHeader(@RequestHeader("X-User-Email") String userEmailHeader) {
+        return interviewService.searchByEmail(userEmailHeader).collectList().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/company")
+    public Mono<ResponseEntity<List<InterviewExperienceResponse>>> searchByCompany(@RequestParam String company) {
+        return interviewService.searchByCompany(company).collectList().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/")
+    public Mono<ResponseEntity<PageResponseDTO>> getAllInterviews(
+            @RequestParam(value = "pageNumber", defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
+            @RequestParam(value = "pageSize", defaultValue = AppConstants.PAGE_SIZE, required = false) Integer pageSize,
+            @RequestParam(value = "sortBy", defaultValue = AppConstants.SORT_BY, required = false) String sortBy,
+            @RequestParam(value = "sortDir", defaultValue = AppConstants.SORT_DIR, required = false) String sortDir) {
+        return interviewService.getAllInterviews(pageNumber, pageSize, sortBy, sortDir).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<InterviewExperienceResponse>> getInterviewById(@PathVariable UUID id) {
+        return interviewService.getInterviewById(id).map(response -> response.getVersion() == null
+                ? ResponseEntity.ok(response)
+                : ResponseEntity.ok().eTag("\"" + response.getVersion() + "\"").body(response));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteInterviewExperience(@PathVariable UUID id) {
+        return interviewService.deleteInterviewExperience(id)
+                .thenReturn(ResponseEntity.ok("Interview experience deleted successfully, image removed from S3"));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        log.warn("ReactiveInterviewController :: handleBadRequest :: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(DataBufferLimitException.class)
+    public ResponseEntity<String> handleTooLarge(DataBufferLimitException e) {
+        log.warn("ReactiveInterviewController :: handleTooLarge :: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+    }
+}
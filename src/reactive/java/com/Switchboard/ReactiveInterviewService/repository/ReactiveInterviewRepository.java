@@ -0,0 +1,145 @@
+package com.Switchboard.ReactiveInterviewService.repository;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.model.UuidVersion;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Non-blocking access to {@code interview_experience}. Rows map straight to {@link InterviewExperienceResponse};
+ * there is no entity or persistence context, so each call is exactly the SQL written here.
+ */
+@Repository
+public class ReactiveInterviewRepository {
+
+    private static final String COLUMNS =
+            "id, user_name, user_email, title, content, company_tag, image_name, created_at, updated_at, version";
+
+    // Sort keys are the same DTO property names the servlet API accepts; anything else is rejected, never concatenated
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "userName", "user_name",
+            "title", "title",
+            "companyTag", "company_tag",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
+    private final DatabaseClient db;
+    private final TransactionalOperator transactions;
+
+    public ReactiveInterviewRepository(DatabaseClient db, TransactionalOperator transactions) {
+        this.db = db;
+        this.transactions = transactions;
+    }
+
+    public Flux<InterviewExperienceResponse> findPage(int pageNumber, int pageSize, String sortBy, boolean ascending) {
+        String column = SORT_COLUMNS.get(sortBy);
+        if (column == null) {
+            return Flux.error(new IllegalArgumentException("Cannot sort by " + sortBy));
+        }
+        return db.sql("SELECT " + COLUMNS + " FROM interview_experience ORDER BY " + column + (ascending ? " ASC" : " DESC")
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("limit", pageSize)
+                .bind("offset", (long) pageNumber * pageSize)
+                .map(ReactiveInterviewRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return db.sql("SELECT COUNT(*) FROM interview_experience")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<InterviewExperienceResponse> findById(UUID id) {
+        return db.sql("SELECT " + COLUMNS + " FROM interview_experience WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveInterviewRepository::toResponse)
+                .one();
+    }
+
+    public Flux<InterviewExperienceResponse> findByUserEmail(String userEmail) {
+        return db.sql("SELECT " + COLUMNS + " FROM interview_experience WHERE user_email = :email ORDER BY created_at DESC")
+                .bind("email", userEmail)
+                .map(ReactiveInterviewRepository::toResponse)
+                .all();
+    }
+
+    public Flux<InterviewExperienceResponse> findByCompanyTag(String companyTag) {
+        return db.sql("SELECT " + COLUMNS + " FROM interview_experience WHERE company_tag = :company ORDER BY created_at DESC")
+                .bind("company", companyTag)
+                .map(ReactiveInterviewRepository::toResponse)
+                .all();
+    }
+
+    public Mono<InterviewExperienceResponse> insert(InterviewExperienceRequest request, String imageName) {
+        LocalDateTime now = LocalDateTime.now();
+        InterviewExperienceResponse row = InterviewExperienceResponse.builder()
+                .id(UuidVersion.V7.generate())
+                .userName(request.getUserName())
+                .userEmail(request.getUserEmail())
+                .title(request.getTitle())
+                .content(request.getContent())
+                .companyTag(request.getCompanyTag())
+                .imageName(imageName)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+        DatabaseClient.GenericExecuteSpec insert = db.sql("INSERT INTO interview_experience (" + COLUMNS + ") VALUES "
+                        + "(:id, :userName, :userEmail, :title, :content, :companyTag, :imageName, :createdAt, :updatedAt, :version)")
+                .bind("id", row.getId())
+                .bind("userName", row.getUserName())
+                .bind("userEmail", row.getUserEmail())
+                .bind("title", row.getTitle())
+                .bind("content", row.getContent())
+                .bind("companyTag", row.getCompanyTag())
+                .bind("createdAt", now)
+                .bind("updatedAt", now)
+                .bind("version", 0L);
+        insert = imageName != null ? insert.bind("imageName", imageName) : insert.bindNull("imageName", String.class);
+        return insert.fetch().rowsUpdated().thenReturn(row);
+    }
+
+    /**
+     * Deletes a row and returns its image name ({@code ""} when it had none), or empty when no row matched.
+     * Read and delete share one transaction so the image cannot change in between.
+     */
+    public Mono<String> deleteReturningImageName(UUID id) {
+        Mono<String> delete = db.sql("SELECT COALESCE(image_name, '') FROM interview_experience WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, String.class))
+                .one()
+                .flatMap(imageName -> db.sql("DELETE FROM interview_experience WHERE id = :id")
+                        .bind("id", id)
+                        .fetch()
+                        .rowsUpdated()
+                        .filter(deleted -> deleted > 0)
+                        .map(deleted -> imageName));
+        return transactions.transactional(delete);
+    }
+
+    static InterviewExperienceResponse toResponse(Readable row) {
+        return InterviewExperienceResponse.builder()
+                .id(row.get("id", UUID.class))
+                .userName(row.get("user_name", String.class))
+                .userEmail(row.get("user_email", String.class))
+                .title(row.get("title", String.class))
+                .content(row.get("content", String.class))
+                .companyTag(row.get("company_tag", String.class))
+                .imageName(row.get("image_name", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.Switchboard.ReactiveInterviewService.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * S3 access for the reactive API. Uploads consume the request body as it arrives: the SDK requests buffers
+ * from the multipart stream only as fast as it can send them, so a slow S3 connection slows the client down
+ * instead of piling the image up in memory. Key and URL formats match the servlet {@code FileServiceImpl}.
+ */
+@Service
+public class ReactiveFileService {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveFileService.class);
+
+    private final S3AsyncClient s3Client;
+    private final long maxImageBytes;
+
+    @Value("${aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${aws.region}")
+    private String region;
+
+    public ReactiveFileService(S3AsyncClient s3Client,
+                               @Value("${reactive.upload.max-image-bytes:5242880}") long maxImageBytes) {
+        this.s3Client = s3Client;
+        this.maxImageBytes = maxImageBytes;
+    }
+
+    /** Streams an image to S3 and emits its public URL; fails with {@link DataBufferLimitException} past the size limit. */
+    public Mono<String> upload(String path, String originalFilename, String contentType, Flux<DataBuffer> content) {
+        String key = path + "/" + UUID.randomUUID() + "_" + originalFilename;
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        long[] received = new long[1];
+        Flux<ByteBuffer> body = content.map(buffer -> {
+            try {
+                received[0] += buffer.readableByteCount();
+                if (received[0] > maxImageBytes) {
+                    throw new DataBufferLimitException("Image exceeds " + maxImageBytes + " bytes");
+                }
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                return ByteBuffer.wrap(bytes);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        });
+
+        log.debug("ReactiveFileService :: upload :: streaming to S3 with key: {}", key);
+        return Mono.fromFuture(() -> s3Client.putObject(request, AsyncRequestBody.fromPublisher(body)))
+                .map(response -> publicUrl(key))
+                .doOnNext(url -> log.info("ReactiveFileService :: upload :: completed. Public URL: {}", url));
+    }
+
+    public Mono<Void> deleteImage(String fileUrl) {
+        String key = fileUrl.substring(fileUrl.indexOf(".com/") + 5);
+        return Mono.fromFuture(() -> s3Client.deleteObject(builder -> builder.bucket(bucket).key(key)))
+                .doOnNext(response -> log.info("ReactiveFileService :: deleteImage :: deleted image from S3: {}", key))
+                .then();
+    }
+
+    public String publicUrl(String key) {
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
+    }
+}
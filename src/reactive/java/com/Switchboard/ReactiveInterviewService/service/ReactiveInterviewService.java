@@ -0,0 +1,107 @@
+package com.Switchboard.ReactiveInterviewService.service;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.ReactiveInterviewService.repository.ReactiveInterviewRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class ReactiveInterviewService {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveInterviewService.class);
+
+    private final ReactiveInterviewRepository repository;
+    private final ReactiveFileService fileService;
+    private final Validator validator;
+
+    public ReactiveInterviewService(ReactiveInterviewRepository repository, ReactiveFileService fileService, Validator validator) {
+        this.repository = repository;
+        this.fileService = fileService;
+        this.validator = validator;
+    }
+
+    /**
+     * Validates and inserts an experience whose image, if any, is already in S3. The image streamed in before
+     * the form could be validated, so it is deleted again when validation or the insert fails.
+     */
+    public Mono<InterviewExperienceResponse> createInterviewExperience(InterviewExperienceRequest request, String imageUrl) {
+        Set<ConstraintViolation<InterviewExperienceRequest>> violations = validator.validate(request);
+        Mono<InterviewExperienceResponse> created = violations.isEmpty()
+                ? repository.insert(request, imageUrl)
+                : Mono.error(new IllegalArgumentException(violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "))));
+        if (imageUrl == null) {
+            return created;
+        }
+        return created.onErrorResume(e -> fileService.deleteImage(imageUrl)
+                .onErrorResume(deleteFailure -> {
+                    log.error("ReactiveInterviewService :: createInterviewExperience :: failed to delete orphaned image {}: {}",
+                            imageUrl, deleteFailure.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.error(e)));
+    }
+
+    public Flux<InterviewExperienceResponse> searchByEmail(String userEmail) {
+        return repository.findByUserEmail(userEmail);
+    }
+
+    public Flux<InterviewExperienceResponse> searchByCompany(String companyTag) {
+        return repository.findByCompanyTag(companyTag);
+    }
+
+    public Mono<PageResponseDTO> getAllInterviews(int pageNumber, int pageSize, String sortBy, String sortDir) {
+        if (pageNumber < 0 || pageSize < 1) {
+            return Mono.error(new IllegalArgumentException("Page number must be at least 0 and page size at least 1"));
+        }
+        return Mono.zip(repository.findPage(pageNumber, pageSize, sortBy, sortDir.equalsIgnoreCase("asc")).collectList(),
+                        repository.count())
+                .map(page -> {
+                    long total = page.getT2();
+                    int totalPages = (int) ((total + pageSize - 1) / pageSize);
+                    return PageResponseDTO.builder()
+                            .content(page.getT1())
+                            .pageNumber(pageNumber)
+                            .pageSize(pageSize)
+                            .totalElements(total)
+                            .totalPages(totalPages)
+                            .lastPage(pageNumber >= totalPages - 1)
+                            .build();
+                });
+    }
+
+    public Mono<InterviewExperienceResponse> getInterviewById(UUID id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("ReactiveInterviewService :: getInterviewById :: not found :: experience with id: {}", id);
+                    return new RuntimeException("Interview Experience not found");
+                }));
+    }
+
+    /** Deletes the row first; the image goes afterwards and an orphaned object is preferred to failing the delete. */
+    public Mono<Void> deleteInterviewExperience(UUID id) {
+        return repository.deleteReturningImageName(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("ReactiveInterviewService :: deleteInterviewExperience :: not found :: experience with id: {}", id);
+                    return new RuntimeException("Interview Experience not found");
+                }))
+                .flatMap(imageName -> imageName.isEmpty()
+                        ? Mono.<Void>empty()
+                        : fileService.deleteImage(imageName).onErrorResume(e -> {
+                            log.error("ReactiveInterviewService :: failed to delete image from S3: {}", e.getMessage());
+                            return Mono.empty();
+                        }));
+    }
+}
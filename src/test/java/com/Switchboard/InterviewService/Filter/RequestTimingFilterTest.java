@@ -0,0 +1,168 @@
+package com.Switchboard.InterviewService.Filter;
+
+import com.Switchboard.InterviewService.metrics.RequestTimings;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private RequestTimingFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new RequestTimingFilter(registry, 2, 1000);
+        request = new MockHttpServletRequest("GET", "/api/v1/interview-experiences");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void doFilter_ShouldAddServerTimingBeforeBodyIsWritten() throws Exception {
+        // Arrange
+        FilterChain chain = (req, res) -> {
+            RequestTimings.record(RequestTimings.Phase.DB, 3_000_000);
+            RequestTimings.countQuery();
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            RequestTimings.record(RequestTimings.Phase.S3, 1_000_000);
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        String header = response.getHeader(RequestTimingFilter.SERVER_TIMING);
+        assertNotNull(header);
+        assertTrue(header.startsWith("db;dur=3.0;desc=\"Database, 1 query\""), header);
+        assertFalse(header.contains("s3;"), "work after the body started cannot be in the header");
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_WithoutBody_ShouldStillAddServerTiming() throws Exception {
+        // Arrange
+        FilterChain chain = (req, res) -> RequestTimings.countQuery();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertTrue(response.getHeader(RequestTimingFilter.SERVER_TIMING).contains("1 query"));
+    }
+
+    @Test
+    void doFilter_AboveQueryThreshold_ShouldCompleteAndClearTimings() throws Exception {
+        // Arrange
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < 5; i++) {
+                RequestTimings.countQuery();
+            }
+            res.getWriter().write("ok");
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertTrue(response.getHeader(RequestTimingFilter.SERVER_TIMING).contains("5 queries"));
+        RequestTimings.countQuery(); // no request bound to the thread any more, must be a no-op
+        assertEquals("ok", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_ShouldRecordAllocatedBytesPerRoute() throws Exception {
+        // Arrange
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/interview-experiences/{id}");
+        FilterChain chain = (req, res) -> res.getWriter().write(new String(new char[64 * 1024]));
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        DistributionSummary allocated = registry.get("interview.request.allocated")
+                .tags("method", "GET", "uri", "/api/v1/interview-experiences/{id}").summary();
+        assertEquals(1, allocated.count());
+        assertTrue(allocated.totalAmount() >= 64 * 1024, "a 64K char body must show up as allocation");
+    }
+
+    @Test
+    void doFilter_ShouldReuseTheSummaryOfARoute() throws Exception {
+        // Arrange
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/interview-experiences/{id}");
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> { });
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        // Assert
+        assertEquals(1, registry.find("interview.request.allocated").summaries().size());
+        assertEquals(2, registry.get("interview.request.allocated").summary().count());
+    }
+
+    @Test
+    void doFilter_WithoutRoute_ShouldTagUnknown() throws Exception {
+        // Act
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // Assert
+        assertEquals(1, registry.get("interview.request.allocated").tag("uri", "UNKNOWN").summary().count());
+    }
+
+    @Test
+    void doFilter_WhenAsyncStarted_ShouldReportOnCompletionWithWorkerTimings() throws Exception {
+        // Arrange
+        request.setAsyncSupported(true);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/interview/");
+        RequestTimings[] started = new RequestTimings[1];
+        FilterChain chain = (req, res) -> {
+            started[0] = RequestTimings.current();
+            req.startAsync(req, res);
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+        assertNull(RequestTimings.current(), "the servlet thread must be released from the request");
+        RequestTimings.attach(started[0]);
+        RequestTimings.countQuery(); // what an offload worker records
+        started[0].addOffloadedAllocation(4096);
+        RequestTimings.end();
+        response.getWriter().write("{}");
+        request.getAsyncContext().complete();
+
+        // Assert
+        assertEquals(1, started[0].queries());
+        assertTrue(response.getHeader(RequestTimingFilter.SERVER_TIMING).contains("1 query"));
+        DistributionSummary allocated = registry.get("interview.request.allocated").tag("uri", "/api/v1/interview/").summary();
+        assertEquals(1, allocated.count());
+        assertTrue(allocated.totalAmount() >= 4096, "the offloaded share counts towards the request");
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    void mustKeep_ShouldMarkFailedAndSlowRequestsOnly() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimings.end();
+        RequestTimingFilter everythingSlow = new RequestTimingFilter(registry, 2, -1);
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        failed.setStatus(503);
+
+        // Act & Assert
+        assertFalse(filter.mustKeep(response, timings));
+        assertTrue(filter.mustKeep(failed, timings));
+        assertTrue(everythingSlow.mustKeep(response, timings));
+    }
+}
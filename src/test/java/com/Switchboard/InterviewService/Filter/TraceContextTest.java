@@ -0,0 +1,89 @@
+package com.Switchboard.InterviewService.Filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceContextTest {
+
+    @Test
+    void newIds_ShouldBeLowercaseHexOfW3cLength() {
+        // Act
+        String traceId = TraceContext.newTraceId();
+        String spanId = TraceContext.newSpanId();
+
+        // Assert
+        assertTrue(traceId.matches("[0-9a-f]{32}"), traceId);
+        assertTrue(spanId.matches("[0-9a-f]{16}"), spanId);
+    }
+
+    @Test
+    void newTraceId_ShouldNotRepeat() {
+        // Arrange
+        Set<String> ids = new HashSet<>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TraceContext.newTraceId());
+        }
+
+        // Assert
+        assertEquals(10_000, ids.size());
+    }
+
+    @Test
+    void parse_ShouldReadValidTraceparent() {
+        // Act
+        TraceContext context = TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+        // Assert
+        assertNotNull(context);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.traceId());
+        assertEquals("00f067aa0ba902b7", context.parentId());
+        assertTrue(context.sampled());
+    }
+
+    @Test
+    void parse_ShouldReadUnsampledFlag() {
+        // Act & Assert
+        assertFalse(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00").sampled());
+    }
+
+    @Test
+    void parse_ShouldAcceptFutureVersionWithExtraFields() {
+        // Act & Assert
+        assertNotNull(TraceContext.parse("01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra"));
+    }
+
+    @Test
+    void parse_ShouldRejectMalformedValues() {
+        // Act & Assert
+        assertNull(TraceContext.parse(null));
+        assertNull(TraceContext.parse("garbage"));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra"));
+        assertNull(TraceContext.parse("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01"));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e473g-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00_4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"));
+    }
+
+    @Test
+    void toW3cTraceId_ShouldAcceptHexAndUuidForms() {
+        // Act & Assert
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", TraceContext.toW3cTraceId("4BF92F3577B34DA6A3CE929D0E0E4736"));
+        assertEquals("0f8fad5bd9cb469fa16570867728950e", TraceContext.toW3cTraceId("0f8fad5b-d9cb-469f-a165-70867728950e"));
+        assertNull(TraceContext.toW3cTraceId("trace-123"));
+        assertNull(TraceContext.toW3cTraceId("00000000-0000-0000-0000-000000000000"));
+    }
+
+    @Test
+    void format_ShouldBuildVersion00Header() {
+        // Act & Assert
+        assertEquals("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00",
+                TraceContext.format("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7", false));
+    }
+}
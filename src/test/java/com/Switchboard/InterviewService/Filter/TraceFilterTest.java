@@ -13,6 +13,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.MDC;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,6 +37,8 @@ class TraceFilterTest {
     @BeforeEach
     void setUp() {
         MDC.clear();
+        // Most tests cover the legacy headers only; the filter always looks for a W3C traceparent first
+        lenient().when(request.getHeader("traceparent")).thenReturn(null);
     }
 
     @Test
@@ -144,4 +148,76 @@ class TraceFilterTest {
         // Assert
         verify(filterChain, times(1)).doFilter(request, response);
     }
+
+    @Test
+    void doFilterInternal_WithTraceparent_ShouldContinueTraceWithNewSpan() throws ServletException, IOException {
+        // Arrange
+        when(request.getHeader("traceparent")).thenReturn("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        when(request.getHeader("X-Trace-Id")).thenReturn("ignored-when-traceparent-is-valid");
+        when(request.getHeader("X-Correlation-Id")).thenReturn(null);
+        Map<String, String> seen = new HashMap<>();
+        doAnswer(invocation -> {
+            seen.putAll(MDC.getCopyOfContextMap());
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // Act
+        traceFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", seen.get("traceId"));
+        assertEquals("00f067aa0ba902b7", seen.get("parentSpanId"));
+        assertEquals(16, seen.get("spanId").length());
+        verify(response).setHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-" + seen.get("spanId") + "-01");
+        verify(response).setHeader("X-Trace-Id", "4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    void doFilterInternal_WithUuidTraceId_ShouldEmitEquivalentTraceparent() throws ServletException, IOException {
+        // Arrange
+        when(request.getHeader("X-Trace-Id")).thenReturn("0f8fad5b-d9cb-469f-a165-70867728950e");
+        when(request.getHeader("X-Correlation-Id")).thenReturn("correlation-456");
+
+        // Act
+        traceFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(response).setHeader(eq("traceparent"), startsWith("00-0f8fad5bd9cb469fa16570867728950e-"));
+        verify(response).setHeader("X-Correlation-Id", "correlation-456");
+    }
+
+    @Test
+    void doFilterInternal_WithFreeFormTraceId_ShouldNotEmitTraceparent() throws ServletException, IOException {
+        // Arrange
+        when(request.getHeader("X-Trace-Id")).thenReturn("trace-123");
+        when(request.getHeader("X-Correlation-Id")).thenReturn(null);
+
+        // Act
+        traceFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(response).setHeader("X-Trace-Id", "trace-123");
+        verify(response, never()).setHeader(eq("traceparent"), anyString());
+    }
+
+    @Test
+    void doFilterInternal_WithoutHeaders_ShouldGenerateW3cIds() throws ServletException, IOException {
+        // Arrange
+        when(request.getHeader("X-Trace-Id")).thenReturn(null);
+        when(request.getHeader("X-Correlation-Id")).thenReturn(null);
+        Map<String, String> seen = new HashMap<>();
+        doAnswer(invocation -> {
+            seen.putAll(MDC.getCopyOfContextMap());
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // Act
+        traceFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        assertTrue(seen.get("traceId").matches("[0-9a-f]{32}"));
+        assertTrue(seen.get("correlationId").matches("[0-9a-f]{32}"));
+        assertNull(seen.get("parentSpanId"));
+        verify(response).setHeader("traceparent", "00-" + seen.get("traceId") + "-" + seen.get("spanId") + "-01");
+    }
 }
@@ -0,0 +1,134 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file ({@code -rf json}) with the checked-in baseline and fails when any
+ * benchmark got slower than the tolerance allows and the difference is outside both runs' error bars.
+ * <p>
+ * Usage: {@code BaselineComparator <baseline.json> <current.json> [tolerance]}, tolerance as a fraction (default 0.10).
+ * To accept new numbers, copy the current result over the baseline.
+ */
+public final class BaselineComparator {
+
+    enum Verdict { IMPROVED, UNCHANGED, REGRESSED, NEW }
+
+    record Result(String name, String mode, double score, double error, String unit) {
+
+        /** Throughput grows when code gets faster; every other JMH mode reports time per operation. */
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    record Comparison(String name, Double baselineScore, double currentScore, String unit, double change, Verdict verdict) {
+    }
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <current.json> [tolerance]");
+            System.exit(2);
+        }
+        Path baselinePath = Path.of(args[0]);
+        Path currentPath = Path.of(args[1]);
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+
+        if (!Files.exists(currentPath)) {
+            System.err.println("No benchmark results at " + currentPath);
+            System.exit(2);
+        }
+        if (!Files.exists(baselinePath)) {
+            System.out.println("No baseline at " + baselinePath + "; nothing to compare");
+            return;
+        }
+
+        List<Comparison> comparisons = compare(read(baselinePath), read(currentPath), tolerance);
+        comparisons.forEach(c -> System.out.println(format(c)));
+
+        long regressions = comparisons.stream().filter(c -> c.verdict() == Verdict.REGRESSED).count();
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions, tolerance * 100);
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Result> read(Path path) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(path.toFile());
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            JsonNode metric = run.get("primaryMetric");
+            String name = name(run);
+            // JMH writes "NaN" as the error when there were too few iterations to compute one
+            double error = metric.path("scoreError").asDouble(0);
+            results.put(name, new Result(name, run.get("mode").asText(), metric.get("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.get("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    static List<Comparison> compare(Map<String, Result> baseline, Map<String, Result> current, double tolerance) {
+        List<Comparison> comparisons = new ArrayList<>(current.size());
+        for (Result now : current.values()) {
+            Result before = baseline.get(now.name());
+            if (before == null || !before.unit().equals(now.unit())) {
+                comparisons.add(new Comparison(now.name(), null, now.score(), now.unit(), 0, Verdict.NEW));
+                continue;
+            }
+            // Positive change means faster, whichever direction the mode counts in
+            double ratio = now.score() / before.score();
+            double change = now.higherIsBetter() ? ratio - 1 : 1 - ratio;
+            // Differences inside the two confidence intervals are noise, however large they are relatively
+            boolean significant = Math.abs(now.score() - before.score()) > now.error() + before.error();
+            Verdict verdict = !significant ? Verdict.UNCHANGED
+                    : change < -tolerance ? Verdict.REGRESSED
+                    : change > tolerance ? Verdict.IMPROVED
+                    : Verdict.UNCHANGED;
+            comparisons.add(new Comparison(now.name(), before.score(), now.score(), now.unit(), change, verdict));
+        }
+        return comparisons;
+    }
+
+    /** Short benchmark name plus parameters, e.g. {@code MappingBenchmark.handWritten[size=100]}. */
+    private static String name(JsonNode run) {
+        String benchmark = run.get("benchmark").asText();
+        int method = benchmark.lastIndexOf('.');
+        int type = benchmark.lastIndexOf('.', method - 1);
+        StringBuilder name = new StringBuilder(benchmark.substring(type + 1));
+
+        JsonNode params = run.get("params");
+        if (params != null && params.size() > 0) {
+            name.append('[');
+            Iterator<Map.Entry<String, JsonNode>> fields = params.properties().iterator();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                name.append(field.getKey()).append('=').append(field.getValue().asText());
+                if (fields.hasNext()) {
+                    name.append(',');
+                }
+            }
+            name.append(']');
+        }
+        return name.toString();
+    }
+
+    private static String format(Comparison c) {
+        if (c.verdict() == Verdict.NEW) {
+            return String.format("%-9s %-70s %14.3f %s", c.verdict(), c.name(), c.currentScore(), c.unit());
+        }
+        return String.format("%-9s %-70s %14.3f -> %14.3f %s (%+.1f%%)", c.verdict(), c.name(),
+                c.baselineScore(), c.currentScore(), c.unit(), c.change() * 100);
+    }
+}
@@ -0,0 +1,111 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaselineComparatorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ShouldKeyResultsByShortNameAndParams() throws IOException {
+        // Arrange
+        Path file = write("result.json", run("MappingBenchmark.handWritten", "avgt", 1.5, "us/op", "\"size\": \"100\""));
+
+        // Act
+        Map<String, BaselineComparator.Result> results = BaselineComparator.read(file);
+
+        // Assert
+        BaselineComparator.Result result = results.get("MappingBenchmark.handWritten[size=100]");
+        assertNotNull(result);
+        assertEquals(1.5, result.score());
+        assertEquals("us/op", result.unit());
+        assertFalse(result.higherIsBetter());
+    }
+
+    @Test
+    void compare_ShouldFlagSlowerAverageTimeAsRegression() throws IOException {
+        // Arrange
+        Map<String, BaselineComparator.Result> baseline = BaselineComparator.read(
+                write("baseline.json", run("ImageValidatorBenchmark.accepted", "avgt", 10.0, "ns/op", null)));
+        Map<String, BaselineComparator.Result> current = BaselineComparator.read(
+                write("current.json", run("ImageValidatorBenchmark.accepted", "avgt", 12.0, "ns/op", null)));
+
+        // Act
+        List<BaselineComparator.Comparison> comparisons = BaselineComparator.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(BaselineComparator.Verdict.REGRESSED, comparisons.get(0).verdict());
+        assertEquals(-0.2, comparisons.get(0).change(), 1e-9);
+    }
+
+    @Test
+    void compare_ShouldTreatHigherThroughputAsImprovement() throws IOException {
+        // Arrange
+        Map<String, BaselineComparator.Result> baseline = BaselineComparator.read(
+                write("baseline.json", run("UuidInsertBenchmark.insertBatch", "thrpt", 1000.0, "ops/s", null)));
+        Map<String, BaselineComparator.Result> current = BaselineComparator.read(
+                write("current.json", run("UuidInsertBenchmark.insertBatch", "thrpt", 1300.0, "ops/s", null)));
+
+        // Act
+        List<BaselineComparator.Comparison> comparisons = BaselineComparator.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(BaselineComparator.Verdict.IMPROVED, comparisons.get(0).verdict());
+    }
+
+    @Test
+    void compare_WithinToleranceOrWithoutBaseline_ShouldNotFail() throws IOException {
+        // Arrange
+        Map<String, BaselineComparator.Result> baseline = BaselineComparator.read(
+                write("baseline.json", run("TraceIdBenchmark.randomUuid", "avgt", 100.0, "ns/op", null)));
+        Map<String, BaselineComparator.Result> current = BaselineComparator.read(write("current.json",
+                run("TraceIdBenchmark.randomUuid", "avgt", 105.0, "ns/op", null) + ","
+                        + run("TraceIdBenchmark.filterGeneratingIds", "avgt", 300.0, "ns/op", null)));
+
+        // Act
+        List<BaselineComparator.Comparison> comparisons = BaselineComparator.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(BaselineComparator.Verdict.UNCHANGED, comparisons.get(0).verdict());
+        assertEquals(BaselineComparator.Verdict.NEW, comparisons.get(1).verdict());
+    }
+
+    @Test
+    void compare_WithDifferenceInsideErrorBars_ShouldNotFail() throws IOException {
+        // Arrange
+        Map<String, BaselineComparator.Result> baseline = BaselineComparator.read(
+                write("baseline.json", run("UuidInsertBenchmark.insertBatch", "thrpt", 1000.0, 400.0, "ops/s", null)));
+        Map<String, BaselineComparator.Result> current = BaselineComparator.read(
+                write("current.json", run("UuidInsertBenchmark.insertBatch", "thrpt", 700.0, 400.0, "ops/s", null)));
+
+        // Act
+        List<BaselineComparator.Comparison> comparisons = BaselineComparator.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(BaselineComparator.Verdict.UNCHANGED, comparisons.get(0).verdict());
+    }
+
+    private Path write(String name, String runs) throws IOException {
+        return Files.writeString(directory.resolve(name), "[" + runs + "]");
+    }
+
+    private static String run(String benchmark, String mode, double score, String unit, String params) {
+        return run(benchmark, mode, score, 0.1, unit, params);
+    }
+
+    private static String run(String benchmark, String mode, double score, double error, String unit, String params) {
+        return "{\"benchmark\": \"com.Switchboard.InterviewService.benchmark." + benchmark + "\", \"mode\": \"" + mode + "\","
+                + (params == null ? "" : "\"params\": {" + params + "},")
+                + "\"primaryMetric\": {\"score\": " + score + ", \"scoreError\": " + error + ", \"scoreUnit\": \"" + unit + "\"}}";
+    }
+}
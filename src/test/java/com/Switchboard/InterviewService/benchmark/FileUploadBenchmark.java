@@ -0,0 +1,51 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.Switchboard.InterviewService.service.impl.FileServiceImpl;
+import com.Switchboard.InterviewService.support.InMemoryS3Client;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileServiceImpl#uploadImage} against {@link InMemoryS3Client}: key building, buffer copies and
+ * request construction, without network time drowning them out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUploadBenchmark {
+
+    @Param({"16384", "1048576"})
+    private int imageBytes;
+
+    private InMemoryS3Client s3Client;
+    private FileServiceImpl fileService;
+    private MockMultipartFile image;
+
+    @Setup
+    public void setUp() {
+        s3Client = new InMemoryS3Client(false);
+        fileService = new FileServiceImpl(s3Client);
+        ReflectionTestUtils.setField(fileService, "bucket", "benchmark-bucket");
+        ReflectionTestUtils.setField(fileService, "region", "us-east-1");
+        byte[] content = new byte[imageBytes];
+        ThreadLocalRandom.current().nextBytes(content);
+        image = new MockMultipartFile("image", "photo.jpg", "image/jpeg", content);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearBucket() {
+        s3Client.clear();
+    }
+
+    @Benchmark
+    public String uploadImage() throws Exception {
+        return fileService.uploadImage("interview-experience", image);
+    }
+}
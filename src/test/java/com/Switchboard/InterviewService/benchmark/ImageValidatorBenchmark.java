@@ -0,0 +1,45 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.Switchboard.InterviewService.config.ImageValidator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ImageValidator#isValid} for an accepted type, a rejected type and a missing image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageValidatorBenchmark {
+
+    private ImageValidator validator;
+    private MockMultipartFile jpeg;
+    private MockMultipartFile pdf;
+
+    @Setup
+    public void setUp() {
+        validator = new ImageValidator();
+        jpeg = new MockMultipartFile("image", "photo.JPG", "IMAGE/JPEG", new byte[1024]);
+        pdf = new MockMultipartFile("image", "notes.pdf", "application/pdf", new byte[1024]);
+    }
+
+    @Benchmark
+    public boolean accepted() {
+        return validator.isValid(jpeg, null);
+    }
+
+    @Benchmark
+    public boolean rejected() {
+        return validator.isValid(pdf, null);
+    }
+
+    @Benchmark
+    public boolean missing() {
+        return validator.isValid(null, null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity to response mapping for one list page: the hand-written mapper against the ModelMapper setup it replaced.
+ * Run with {@code -prof gc} to compare allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<InterviewExperience> experiences;
+    private InterviewExperienceMapper mapper;
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        experiences = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            experiences.add(new InterviewExperience(UUID.randomUUID(), "User " + i, "user" + i + "@example.com",
+                    "Interview " + i, "Content of interview experience number " + i, "Company" + (i % 20),
+                    "https://bucket.s3.us-east-1.amazonaws.com/interview-experience/" + i + ".jpg", now, now, 0L));
+        }
+        mapper = new InterviewExperienceMapper();
+        modelMapper = new ModelMapper();
+        // Pay ModelMapper's type map construction up front, as the long-lived bean did
+        modelMapper.map(experiences.get(0), InterviewExperienceResponse.class);
+    }
+
+    @Benchmark
+    public List<InterviewExperienceResponse> handWritten() {
+        return mapper.toResponses(experiences);
+    }
+
+    @Benchmark
+    public List<InterviewExperienceResponse> modelMapper() {
+        return experiences.stream()
+                .map(experience -> modelMapper.map(experience, InterviewExperienceResponse.class))
+                .collect(Collectors.toList());
+    }
+}
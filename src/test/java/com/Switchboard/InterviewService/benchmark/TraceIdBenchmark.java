@@ -0,0 +1,79 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.Switchboard.InterviewService.Filter.TraceContext;
+import com.Switchboard.InterviewService.Filter.TraceFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link TraceFilter}: id generation, header parsing and MDC bookkeeping around an empty
+ * chain. {@code randomUuid} is the id generation the filter used to do, next to the {@link TraceContext} ids
+ * that replaced it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraceIdBenchmark {
+
+    private static final FilterChain EMPTY_CHAIN = (request, response) -> { };
+
+    private TraceFilter filter;
+    private MockHttpServletRequest withoutHeaders;
+    private MockHttpServletRequest withHeaders;
+    private MockHttpServletRequest withTraceparent;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        filter = new TraceFilter();
+        withoutHeaders = new MockHttpServletRequest("GET", "/api/v1/interview/");
+        withHeaders = new MockHttpServletRequest("GET", "/api/v1/interview/");
+        withHeaders.addHeader("X-Trace-Id", UUID.randomUUID().toString());
+        withHeaders.addHeader("X-Correlation-Id", UUID.randomUUID().toString());
+        withTraceparent = new MockHttpServletRequest("GET", "/api/v1/interview/");
+        withTraceparent.addHeader(TraceContext.TRACEPARENT, "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String traceContextTraceId() {
+        return TraceContext.newTraceId();
+    }
+
+    @Benchmark
+    public String traceContextSpanId() {
+        return TraceContext.newSpanId();
+    }
+
+    @Benchmark
+    public void filterGeneratingIds() throws Exception {
+        // OncePerRequestFilter marks the request as filtered; clear it so each invocation does the full work
+        withoutHeaders.clearAttributes();
+        filter.doFilter(withoutHeaders, response, EMPTY_CHAIN);
+    }
+
+    @Benchmark
+    public void filterPropagatingIds() throws Exception {
+        withHeaders.clearAttributes();
+        filter.doFilter(withHeaders, response, EMPTY_CHAIN);
+    }
+
+    @Benchmark
+    public void filterContinuingTraceparent() throws Exception {
+        withTraceparent.clearAttributes();
+        filter.doFilter(withTraceparent, response, EMPTY_CHAIN);
+    }
+}
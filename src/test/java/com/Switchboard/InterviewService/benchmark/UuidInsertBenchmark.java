@@ -0,0 +1,100 @@
+package com.Switchboard.InterviewService.benchmark;
+
+import com.Switchboard.InterviewService.model.UuidVersion;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput and resulting table size for random (v4) versus time-ordered (v7) primary keys.
+ * <p>
+ * Runs against a file-backed H2 database by default. Point {@code -Dbench.jdbc.url} (plus
+ * {@code bench.jdbc.user}/{@code bench.jdbc.password}) at a Postgres instance to measure the real index
+ * with {@code pg_relation_size}. The size is printed when each trial ends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final String PAYLOAD = "x".repeat(120);
+
+    @Param({"V4", "V7"})
+    private UuidVersion version;
+
+    @Param({"500"})
+    private int batchSize;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private boolean postgres;
+    private long rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            directory = Files.createTempDirectory("uuid-bench");
+            url = "jdbc:h2:file:" + directory.resolve("bench");
+        }
+        postgres = url.startsWith("jdbc:postgresql:");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "sa"), System.getProperty("bench.jdbc.password", ""));
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table());
+            statement.execute("CREATE TABLE " + table() + " (id UUID PRIMARY KEY, payload VARCHAR(200) NOT NULL)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO " + table() + " (id, payload) VALUES (?, ?)");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(500) // keep in step with batchSize so scores are rows per second
+    public int insertBatch() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            insert.setObject(1, version.generate());
+            insert.setString(2, PAYLOAD);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        rows += batchSize;
+        return batchSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        String sizeQuery = postgres
+                ? "SELECT pg_relation_size('" + table() + "_pkey')"
+                : "SELECT DISK_SPACE_USED('" + table().toUpperCase() + "')";
+        try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sizeQuery)) {
+            result.next();
+            System.out.printf("%n%s: %d rows, %s %d KiB%n", version, rows,
+                    postgres ? "primary key index" : "table and indexes", result.getLong(1) / 1024);
+        }
+        insert.close();
+        connection.close();
+        if (directory != null) {
+            try (var files = Files.walk(directory)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private String table() {
+        return "uuid_bench_" + version.name().toLowerCase();
+    }
+}
@@ -0,0 +1,97 @@
+package com.Switchboard.InterviewService.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalPageCacheTest {
+
+    private static final List<String> GOOGLE = List.of(PageCache.companyScope("Google"));
+
+    @Test
+    void lookup_ShouldServeEntryWhileItsGenerationIsCurrent() {
+        // Arrange
+        LocalPageCache cache = new LocalPageCache(60_000, 10);
+        PageCache.Lookup first = cache.lookup("searchByCompany[Google]", GOOGLE, null);
+        cache.put("searchByCompany[Google]", new CachedPage("page", first.generations(), System.currentTimeMillis()));
+
+        // Act
+        PageCache.Lookup second = cache.lookup("searchByCompany[Google]", GOOGLE, null);
+
+        // Assert
+        assertFalse(first.hit());
+        assertArrayEquals(new long[]{0}, first.generations());
+        assertTrue(second.hit());
+        assertEquals("page", second.page().value());
+    }
+
+    @Test
+    void bump_ShouldOutdateOnlyEntriesOfThatScope() {
+        // Arrange
+        LocalPageCache cache = new LocalPageCache(60_000, 10);
+        List<String> amazon = List.of(PageCache.companyScope("Amazon"));
+        cache.put("google", new CachedPage("google page", new long[]{0}, System.currentTimeMillis()));
+        cache.put("amazon", new CachedPage("amazon page", new long[]{0}, System.currentTimeMillis()));
+
+        // Act
+        cache.bump(GOOGLE);
+
+        // Assert
+        PageCache.Lookup google = cache.lookup("google", GOOGLE, null);
+        assertFalse(google.hit());
+        assertEquals("google page", google.page().value());
+        assertArrayEquals(new long[]{1}, google.generations());
+        assertTrue(cache.lookup("amazon", amazon, null).hit());
+    }
+
+    @Test
+    void lookup_WhenEntryExpired_ShouldDropIt() {
+        // Arrange
+        LocalPageCache cache = new LocalPageCache(1_000, 10);
+        cache.put("google", new CachedPage("page", new long[]{0}, System.currentTimeMillis() - 1_000));
+
+        // Act
+        PageCache.Lookup lookup = cache.lookup("google", GOOGLE, null);
+
+        // Assert
+        assertNull(lookup.page());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_WhenFull_ShouldEvictToStayBoundedAndKeepCaching() {
+        // Arrange
+        LocalPageCache cache = new LocalPageCache(60_000, 2);
+        long now = System.currentTimeMillis();
+        cache.put("first", new CachedPage("first", new long[]{0}, now));
+        cache.put("second", new CachedPage("second", new long[]{0}, now));
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            cache.put("page-" + i, new CachedPage("page", new long[]{0}, now));
+        }
+
+        // Assert
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void put_WhenFull_ShouldAdmitNewPagesThatAreReadAgain() {
+        // Arrange
+        LocalPageCache cache = new LocalPageCache(60_000, 1);
+        long now = System.currentTimeMillis();
+        cache.put("old", new CachedPage("old", new long[]{0}, now));
+        cache.size();
+
+        // Act
+        cache.put("new", new CachedPage("new", new long[]{0}, now));
+        cache.lookup("new", GOOGLE, null);
+        cache.put("new", new CachedPage("new", new long[]{0}, now));
+
+        // Assert
+        assertEquals(1, cache.size());
+        assertNotNull(cache.lookup("new", GOOGLE, null).page());
+    }
+}
@@ -0,0 +1,26 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.Switchboard.InterviewService.service.InterviewExperienceChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PageCacheInvalidatorTest {
+
+    @Test
+    void onChanged_ShouldBumpGlobalAndEachCompany() {
+        // Arrange
+        PageCache cache = mock(PageCache.class);
+        PageCacheInvalidator invalidator = new PageCacheInvalidator(cache);
+
+        // Act
+        invalidator.onChanged(InterviewExperienceChangedEvent.of("Google", null, "Amazon"));
+
+        // Assert
+        verify(cache).bump(argThat(scopes -> scopes.size() == 3
+                && scopes.containsAll(List.of("global", "company:Google", "company:Amazon"))));
+    }
+}
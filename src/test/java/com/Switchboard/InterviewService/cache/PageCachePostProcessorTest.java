@@ -0,0 +1,216 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCachePostProcessorTest {
+
+    interface Catalog {
+        String page(Integer pageNumber, String sortBy);
+
+        String company(String company);
+
+        String detail(String id);
+    }
+
+    static class CountingCatalog implements Catalog {
+        final AtomicInteger queries = new AtomicInteger();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        @Override
+        @PageCached(pageArg = 0)
+        public String page(Integer pageNumber, String sortBy) {
+            return "page " + pageNumber + " by " + sortBy + " #" + queries.incrementAndGet();
+        }
+
+        @Override
+        @PageCached(companyArg = 0)
+        public String company(String company) {
+            RuntimeException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+            return company + " #" + queries.incrementAndGet();
+        }
+
+        @Override
+        public String detail(String id) {
+            return id + " #" + queries.incrementAndGet();
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LocalPageCache cache = new LocalPageCache(60_000, 100);
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private PageCachePostProcessor postProcessor;
+
+    private Catalog proxy(CountingCatalog target, long softTtlMs) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("pageCache", cache);
+        beans.addBean("objectMapper", new ObjectMapper());
+        beans.addBean("meterRegistry", registry);
+        postProcessor = new PageCachePostProcessor(beans.getBeanProvider(PageCache.class),
+                beans.getBeanProvider(ObjectMapper.class), beans.getBeanProvider(MeterRegistry.class), 2, softTtlMs, 1, 4);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return (Catalog) postProcessor.postProcessAfterInitialization(target, "catalog");
+    }
+
+    private Catalog proxy(CountingCatalog target) {
+        return proxy(target, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (postProcessor != null) {
+            postProcessor.destroy();
+        }
+    }
+
+    private double count(String method, String result) {
+        return registry.get("interview.pagecache.requests").tag("method", method).tag("result", result).counter().count();
+    }
+
+    @Test
+    void postProcess_ShouldServeRepeatedPagesFromCacheByArguments() {
+        // Arrange
+        CountingCatalog target = new CountingCatalog();
+        Catalog catalog = proxy(target);
+
+        // Act
+        String first = catalog.page(0, "createdAt");
+        String again = catalog.page(0, "createdAt");
+        String otherSort = catalog.page(0, "title");
+
+        // Assert
+        assertEquals("page 0 by createdAt #1", first);
+        assertSame(first, again);
+        assertEquals("page 0 by title #2", otherSort);
+        assertEquals(1.0, count("page", "hit"));
+        assertEquals(2.0, count("page", "miss"));
+        assertNull(request.getAttribute(StaleResponse.ATTRIBUTE));
+    }
+
+    @Test
+    void postProcess_PastSoftTtl_ShouldServeStaleAndRefreshInBackground() {
+        // Arrange
+        CountingCatalog target = new CountingCatalog();
+        Catalog catalog = proxy(target, 0);
+        String first = catalog.company("Google");
+
+        // Act
+        String stale = catalog.company("Google");
+        while (postProcessor.refreshing("company[Google]")) {
+            Thread.onSpinWait();
+        }
+        String refreshed = catalog.company("Google");
+
+        // Assert
+        assertEquals("Google #1", first);
+        assertSame(first, stale);
+        assertEquals("Google #2", refreshed);
+        assertEquals(2.0, count("company", "stale"));
+        StaleResponse marked = (StaleResponse) request.getAttribute(StaleResponse.ATTRIBUTE);
+        assertFalse(marked.revalidationFailed());
+        assertEquals("110 - \"Response is Stale\"", marked.warning());
+    }
+
+    @Test
+    void postProcess_WhenReadFails_ShouldServeOutdatedEntryMarkedAsFailedRevalidation() {
+        // Arrange
+        CountingCatalog target = new CountingCatalog();
+        Catalog catalog = proxy(target);
+        String cached = catalog.company("Google");
+        cache.bump(List.of(PageCache.companyScope("Google")));
+        target.failure.set(new DataAccessResourceFailureException("connection refused"));
+
+        // Act
+        String served = catalog.company("Google");
+
+        // Assert
+        assertSame(cached, served);
+        assertEquals(1.0, count("company", "fallback"));
+        StaleResponse marked = (StaleResponse) request.getAttribute(StaleResponse.ATTRIBUTE);
+        assertTrue(marked.revalidationFailed());
+        assertEquals("111 - \"Revalidation Failed\"", marked.warning());
+    }
+
+    @Test
+    void postProcess_WhenReadFailsWithoutEntryOrForOtherReasons_ShouldPropagate() {
+        // Arrange
+        CountingCatalog target = new CountingCatalog();
+        Catalog catalog = proxy(target);
+        catalog.company("Google");
+        cache.bump(List.of(PageCache.companyScope("Google")));
+
+        // Act & Assert
+        target.failure.set(new DataAccessResourceFailureException("connection refused"));
+        assertThrows(DataAccessResourceFailureException.class, () -> catalog.company("Amazon"));
+        target.failure.set(new IllegalStateException("bug"));
+        assertThrows(IllegalStateException.class, () -> catalog.company("Google"));
+    }
+
+    @Test
+    void postProcess_AfterBump_ShouldReadOnlyTheOutdatedScopeAgain() {
+        // Arrange
+        CountingCatalog target = new CountingCatalog();
+        Catalog catalog = proxy(target);
+        catalog.page(0, "createdAt");
+        catalog.company("Google");
+        catalog.company("Amazon");
+
+        // Act
+        cache.bump(List.of(PageCache.GLOBAL_SCOPE, PageCache.companyScope("Google")));
+        String page = catalog.page(0, "createdAt");
+        String google = catalog.company("Google");
+        String amazon = catalog.company("Amazon");
+
+        // Assert
+        assertEquals("page 0 by createdAt #4", page);
+        assertEquals("Google #5", google);
+        assertEquals("Amazon #3", amazon);
+        assertEquals(1.0, count("company", "outdated"));
+        assertEquals(1.0, count("page", "outdated"));
+    }
+
+    @Test
+    void postProcess_ShouldNotCacheDeepPagesOrUnannotatedMethods() {
+        // Arrange
+        CountingCatalog target = new CountingCatalog();
+        Catalog catalog = proxy(target);
+
+        // Act
+        catalog.page(2, "createdAt");
+        catalog.page(2, "createdAt");
+        catalog.detail("id-1");
+        catalog.detail("id-1");
+
+        // Assert
+        assertEquals(4, target.queries.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void postProcess_WithoutAnnotatedMethods_ShouldReturnBeanUnchanged() {
+        // Arrange
+        Object bean = new Object();
+        postProcessor = new PageCachePostProcessor(null, null, null, 2, 60_000, 1, 4);
+
+        // Act & Assert
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "plain"));
+    }
+}
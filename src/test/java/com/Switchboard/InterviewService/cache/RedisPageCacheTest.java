@@ -0,0 +1,160 @@
+package com.Switchboard.InterviewService.cache;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisPageCacheTest {
+
+    private static final List<String> GOOGLE = List.of(PageCache.companyScope("Google"));
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connections;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, InterviewExperienceResponse.class);
+
+    private StringRedisTemplate redis;
+    private SimpleMeterRegistry registry;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connections = new LettuceConnectionFactory("localhost", port);
+        connections.afterPropertiesSet();
+        connections.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connections.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis = new StringRedisTemplate(connections);
+        redis.afterPropertiesSet();
+        redis.getConnectionFactory().getConnection().serverCommands().flushAll();
+        registry = new SimpleMeterRegistry();
+    }
+
+    private static List<InterviewExperienceResponse> page() {
+        return List.of(InterviewExperienceResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Interview at Google")
+                .companyTag("Google")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build());
+    }
+
+    @Test
+    void lookup_ShouldReadBackWhatAnotherInstancePut() {
+        // Arrange
+        RedisPageCache writer = new RedisPageCache(redis, objectMapper, registry, 60_000);
+        RedisPageCache reader = new RedisPageCache(redis, objectMapper, registry, 60_000);
+        List<InterviewExperienceResponse> page = page();
+        PageCache.Lookup miss = writer.lookup("searchByCompany[Google]", GOOGLE, listType);
+        writer.put("searchByCompany[Google]", new CachedPage(page, miss.generations(), System.currentTimeMillis()));
+
+        // Act
+        PageCache.Lookup hit = reader.lookup("searchByCompany[Google]", GOOGLE, listType);
+
+        // Assert
+        assertNull(miss.page());
+        assertTrue(hit.hit());
+        List<?> shared = (List<?>) hit.page().value();
+        InterviewExperienceResponse response = (InterviewExperienceResponse) shared.get(0);
+        assertEquals(page.get(0).getId(), response.getId());
+        assertEquals(page.get(0).getCreatedAt(), response.getCreatedAt());
+        long ttl = redis.getExpire(RedisPageCache.entryKey("searchByCompany[Google]"));
+        assertTrue(ttl > 0 && ttl <= 60);
+    }
+
+    @Test
+    void bump_ShouldOutdateEntriesOnEveryInstance() {
+        // Arrange
+        RedisPageCache writer = new RedisPageCache(redis, objectMapper, registry, 60_000);
+        RedisPageCache reader = new RedisPageCache(redis, objectMapper, registry, 60_000);
+        writer.put("searchByCompany[Google]", new CachedPage(page(), new long[]{0}, System.currentTimeMillis()));
+
+        // Act
+        writer.bump(List.of(PageCache.GLOBAL_SCOPE, PageCache.companyScope("Google")));
+
+        // Assert
+        PageCache.Lookup lookup = reader.lookup("searchByCompany[Google]", GOOGLE, listType);
+        assertFalse(lookup.hit());
+        assertNotNull(lookup.page());
+        assertArrayEquals(new long[]{1}, lookup.generations());
+        assertEquals("1", redis.opsForValue().get(RedisPageCache.generationKey(PageCache.GLOBAL_SCOPE)));
+    }
+
+    @Test
+    void lookup_WhenEntryIsUnreadable_ShouldTreatItAsMissing() {
+        // Arrange
+        RedisPageCache cache = new RedisPageCache(redis, objectMapper, registry, 60_000);
+        redis.opsForValue().set(RedisPageCache.entryKey("searchByCompany[Google]"), "{not json", Duration.ofMinutes(1));
+
+        // Act
+        PageCache.Lookup lookup = cache.lookup("searchByCompany[Google]", GOOGLE, listType);
+
+        // Assert
+        assertNull(lookup.page());
+        assertArrayEquals(new long[]{0}, lookup.generations());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void lookup_WhenRedisIsDown_ShouldMissWithoutGenerationsAndRecoverLater() {
+        // Arrange
+        StringRedisTemplate failing = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(failing.opsForValue()).thenReturn(values);
+        when(values.multiGet(anyList()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"))
+                .thenReturn(Arrays.asList("3", null));
+        doThrow(new RedisConnectionFailureException("connection refused")).when(values).set(anyString(), anyString(), any(Duration.class));
+        doThrow(new RedisConnectionFailureException("connection refused")).when(values).increment(anyString());
+        RedisPageCache cache = new RedisPageCache(failing, objectMapper, registry, 60_000);
+
+        // Act
+        PageCache.Lookup down = cache.lookup("searchByCompany[Google]", GOOGLE, listType);
+        cache.put("searchByCompany[Google]", new CachedPage(page(), new long[]{0}, System.currentTimeMillis()));
+        cache.bump(GOOGLE);
+        PageCache.Lookup recovered = cache.lookup("searchByCompany[Google]", GOOGLE, listType);
+
+        // Assert
+        assertFalse(down.hit());
+        assertNull(down.generations());
+        assertArrayEquals(new long[]{3}, recovered.generations());
+        assertEquals(3.0, registry.get("interview.pagecache.redis.fallbacks").counter().count());
+    }
+}
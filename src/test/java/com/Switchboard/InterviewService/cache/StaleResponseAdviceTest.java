@@ -0,0 +1,59 @@
+package com.Switchboard.InterviewService.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaleResponseAdviceTest {
+
+    private final StaleResponseAdvice advice = new StaleResponseAdvice();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private HttpHeaders write(Object body) {
+        ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+        assertTrue(advice.supports(null, null));
+        assertSame(body, advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), serverResponse));
+        return serverResponse.getHeaders();
+    }
+
+    @Test
+    void beforeBodyWrite_WhenServedStale_ShouldAddAgeAndWarning() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        StaleResponse.mark(42_500, true);
+
+        // Act
+        HttpHeaders headers = write("page");
+
+        // Assert
+        assertEquals("42", headers.getFirst(HttpHeaders.AGE));
+        assertEquals("111 - \"Revalidation Failed\"", headers.getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void beforeBodyWrite_WhenNotServedStale_ShouldLeaveHeadersAlone() {
+        // Act
+        StaleResponse.mark(1_000, false);
+        HttpHeaders headers = write("page");
+
+        // Assert
+        assertNull(headers.getFirst(HttpHeaders.AGE));
+        assertNull(headers.getFirst(HttpHeaders.WARNING));
+    }
+}
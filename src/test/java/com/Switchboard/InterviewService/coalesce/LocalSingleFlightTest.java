@@ -0,0 +1,163 @@
+package com.Switchboard.InterviewService.coalesce;
+
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
+import com.Switchboard.InterviewService.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalSingleFlightTest {
+
+    private SimpleMeterRegistry registry;
+    private LocalSingleFlight singleFlight;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        singleFlight = new LocalSingleFlight(registry);
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        RequestDeadline.end();
+    }
+
+    /** Starts a leader that blocks until {@code release}, and waits until it holds the flight for {@code key}. */
+    private Future<Object> blockedLeader(String key, CountDownLatch release, LocalSingleFlight.Call<Object> after) throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        Future<Object> leader = callers.submit(() -> {
+            try {
+                return singleFlight.execute("searchByCompany", key, () -> {
+                    running.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return after.call();
+                });
+            } catch (Throwable e) {
+                throw new ExecutionException(e);
+            }
+        });
+        running.await();
+        return leader;
+    }
+
+    private Future<Object> follower(String key, LocalSingleFlight.Call<Object> call) {
+        return callers.submit(() -> {
+            try {
+                return singleFlight.execute("searchByCompany", key, call);
+            } catch (Throwable e) {
+                throw new ExecutionException(e);
+            }
+        });
+    }
+
+    private void awaitFollowers(String key, int count) {
+        while (singleFlight.followers(key) < count) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void execute_ConcurrentCallsWithSameKey_ShouldShareOneExecution() throws Throwable {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        List<String> result = List.of("Google");
+        Future<Object> leader = blockedLeader("company[Google]", release, () -> {
+            executions.incrementAndGet();
+            return result;
+        });
+
+        // Act
+        Future<Object> first = follower("company[Google]", () -> fail("followers must not run the call"));
+        Future<Object> second = follower("company[Google]", () -> fail("followers must not run the call"));
+        awaitFollowers("company[Google]", 2);
+        release.countDown();
+
+        // Assert
+        assertSame(result, leader.get());
+        assertSame(result, first.get());
+        assertSame(result, second.get());
+        assertEquals(1, executions.get());
+        assertEquals(1.0, registry.get("interview.singleflight.calls").tag("role", "leader").counter().count());
+        assertEquals(2.0, registry.get("interview.singleflight.calls").tag("role", "follower").counter().count());
+        assertEquals(3.0, registry.get("interview.singleflight.callers").summary().max());
+    }
+
+    @Test
+    void execute_WhenLeaderFails_ShouldRethrowToFollowers() throws Throwable {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = blockedLeader("id[1]", release, () -> {
+            throw new RuntimeException("Interview Experience not found");
+        });
+
+        // Act
+        Future<Object> follower = follower("id[1]", () -> "must not run");
+        awaitFollowers("id[1]", 1);
+        release.countDown();
+
+        // Assert
+        assertEquals("Interview Experience not found", assertThrows(ExecutionException.class, leader::get).getCause().getCause().getMessage());
+        assertEquals("Interview Experience not found", assertThrows(ExecutionException.class, follower::get).getCause().getCause().getMessage());
+    }
+
+    @Test
+    void execute_WhenLeaderRanOutOfItsOwnDeadline_ShouldLetFollowersRunTheCall() throws Throwable {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = blockedLeader("page[0]", release, () -> {
+            throw new DeadlineExceededException("Transaction skipped, the request deadline has passed");
+        });
+
+        // Act
+        Future<Object> follower = follower("page[0]", () -> "ran again");
+        awaitFollowers("page[0]", 1);
+        release.countDown();
+
+        // Assert
+        assertInstanceOf(DeadlineExceededException.class, assertThrows(ExecutionException.class, leader::get).getCause().getCause());
+        assertEquals("ran again", follower.get());
+    }
+
+    @Test
+    void execute_WhenFollowersDeadlinePasses_ShouldStopWaiting() throws Throwable {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        blockedLeader("page[0]", release, () -> "late");
+        RequestDeadline.begin(30);
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> singleFlight.execute("getAllInterviews", "page[0]", () -> "must not run"));
+        release.countDown();
+    }
+
+    @Test
+    void execute_SequentialCalls_ShouldEachRun() throws Throwable {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("getInterviewById", "id[1]", executions::incrementAndGet);
+        singleFlight.execute("getInterviewById", "id[1]", executions::incrementAndGet);
+        singleFlight.execute("getInterviewById", "id[2]", executions::incrementAndGet);
+
+        // Assert
+        assertEquals(3, executions.get());
+        assertEquals(0, singleFlight.followers("id[1]"));
+    }
+}
@@ -0,0 +1,231 @@
+package com.Switchboard.InterviewService.coalesce;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisSingleFlightTest {
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connections;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, InterviewExperienceResponse.class);
+
+    private StringRedisTemplate redis;
+    private SimpleMeterRegistry registry;
+    private ExecutorService instances;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connections = new LettuceConnectionFactory("localhost", port);
+        connections.afterPropertiesSet();
+        connections.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connections.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis = new StringRedisTemplate(connections);
+        redis.afterPropertiesSet();
+        redis.getConnectionFactory().getConnection().serverCommands().flushAll();
+        registry = new SimpleMeterRegistry();
+        instances = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        instances.shutdownNow();
+    }
+
+    private RedisSingleFlight instance(long lockTtlMs) {
+        return new RedisSingleFlight(redis, objectMapper, registry, lockTtlMs, 5, 2000);
+    }
+
+    private static List<InterviewExperienceResponse> page() {
+        return List.of(InterviewExperienceResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Interview at Google")
+                .companyTag("Google")
+                .createdAt(LocalDateTime.of(2026, 1, 2, 3, 4, 5))
+                .version(3L)
+                .build());
+    }
+
+    private Future<Object> run(RedisSingleFlight instance, LocalSingleFlight.Call<Object> call) {
+        return instances.submit(() -> {
+            try {
+                return instance.execute("searchByCompany", "searchByCompany[Google]", listType, call);
+            } catch (Throwable e) {
+                throw new ExecutionException(e);
+            }
+        });
+    }
+
+    private void awaitLock() {
+        while (redis.keys(RedisSingleFlight.KEY_PREFIX + "*").isEmpty()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void execute_AcrossInstances_ShouldRunOnceAndShareTheResult() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        List<InterviewExperienceResponse> result = page();
+        Future<Object> leader = run(instance(5000), () -> {
+            executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return result;
+        });
+        awaitLock();
+
+        // Act
+        Future<Object> follower = run(instance(5000), () -> fail("the other instance must not run the call"));
+        Thread.sleep(50);
+        release.countDown();
+
+        // Assert
+        assertSame(result, leader.get());
+        @SuppressWarnings("unchecked")
+        List<InterviewExperienceResponse> shared = (List<InterviewExperienceResponse>) follower.get();
+        assertEquals(result.get(0).getId(), shared.get(0).getId());
+        assertEquals(result.get(0).getCreatedAt(), shared.get(0).getCreatedAt());
+        assertEquals(1, executions.get());
+        assertEquals(1.0, registry.get("interview.singleflight.remote").tag("outcome", "leader").counter().count());
+        assertEquals(1.0, registry.get("interview.singleflight.remote").tag("outcome", "shared").counter().count());
+        assertTrue(redis.keys(RedisSingleFlight.KEY_PREFIX + "*").stream().noneMatch(key -> key.chars().filter(c -> c == ':').count() == 2),
+                "the lock is released once the result is published");
+    }
+
+    @Test
+    void execute_WhenLeaderFails_ShouldLetTheOtherInstanceRunTheCall() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = run(instance(5000), () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("database unavailable");
+        });
+        awaitLock();
+
+        // Act
+        Future<Object> follower = run(instance(5000), RedisSingleFlightTest::page);
+        Thread.sleep(50);
+        release.countDown();
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, leader::get).getCause().getCause());
+        assertEquals(1, ((List<?>) follower.get()).size());
+        assertEquals(2.0, registry.get("interview.singleflight.remote").tag("outcome", "leader").counter().count());
+    }
+
+    @Test
+    void execute_WhenLeaderOutlivesTheLock_ShouldStopWaitingAndRunTheCall() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        run(instance(60_000), () -> release.await(5, TimeUnit.SECONDS) ? page() : null);
+        awaitLock();
+
+        // Act
+        Future<Object> follower = run(instance(100), RedisSingleFlightTest::page);
+
+        // Assert
+        assertEquals(1, ((List<?>) follower.get()).size());
+        assertEquals(1.0, registry.get("interview.singleflight.remote").tag("outcome", "fallback").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void execute_WhenInterruptedWhileWaiting_ShouldRunTheCallAndKeepTheInterrupt() throws Throwable {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        run(instance(5000), () -> release.await(5, TimeUnit.SECONDS) ? page() : null);
+        awaitLock();
+        Thread.currentThread().interrupt();
+
+        // Act
+        Object result = instance(5000).execute("searchByCompany", "searchByCompany[Google]", listType, () -> "ran locally");
+
+        // Assert
+        assertTrue(Thread.interrupted());
+        assertEquals("ran locally", result);
+        assertEquals(1.0, registry.get("interview.singleflight.remote").tag("outcome", "fallback").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_WhenRedisIsDown_ShouldRunTheCallLocally() throws Throwable {
+        // Arrange
+        StringRedisTemplate broken = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(broken.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(anyString(), anyString(), any())).thenThrow(new RedisConnectionFailureException("connection refused"));
+        RedisSingleFlight singleFlight = new RedisSingleFlight(broken, objectMapper, registry, 5000, 5, 2000);
+
+        // Act
+        Object first = singleFlight.execute("searchByCompany", "searchByCompany[Google]", listType, () -> "ran locally");
+        Object second = singleFlight.execute("searchByCompany", "searchByCompany[Google]", listType, () -> "ran locally");
+
+        // Assert
+        assertEquals("ran locally", first);
+        assertEquals("ran locally", second);
+        assertEquals(2.0, registry.get("interview.singleflight.remote").tag("outcome", "fallback").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_WhenTheCallItselfThrowsADataAccessException_ShouldNotRunItTwice() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+        RedisSingleFlight singleFlight = instance(5000);
+
+        // Act & Assert
+        assertThrows(RedisConnectionFailureException.class, () -> singleFlight.execute("searchByCompany", "searchByCompany[Google]", listType, () -> {
+            executions.incrementAndGet();
+            throw new RedisConnectionFailureException("not from the lock");
+        }));
+        assertEquals(1, executions.get());
+    }
+}
@@ -0,0 +1,95 @@
+package com.Switchboard.InterviewService.coalesce;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightPostProcessorTest {
+
+    interface Catalog {
+        String find(String company);
+
+        String refresh(String company);
+    }
+
+    static class SlowCatalog implements Catalog {
+        final AtomicInteger finds = new AtomicInteger();
+        final AtomicInteger refreshes = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        @SingleFlight
+        public String find(String company) {
+            finds.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "page of " + company;
+        }
+
+        @Override
+        public String refresh(String company) {
+            return "refreshed " + company + " " + refreshes.incrementAndGet();
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LocalSingleFlight local = new LocalSingleFlight(registry);
+
+    private SingleFlightPostProcessor postProcessor() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("localSingleFlight", local);
+        ObjectProvider<LocalSingleFlight> localProvider = beans.getBeanProvider(LocalSingleFlight.class);
+        return new SingleFlightPostProcessor(localProvider, beans.getBeanProvider(RedisSingleFlight.class),
+                beans.getBeanProvider(com.fasterxml.jackson.databind.ObjectMapper.class));
+    }
+
+    @Test
+    void postProcess_ShouldCoalesceAnnotatedMethodsOnly() throws Exception {
+        // Arrange
+        SlowCatalog target = new SlowCatalog();
+        Catalog catalog = (Catalog) postProcessor().postProcessAfterInitialization(target, "catalog");
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+
+        // Act
+        Future<String> first = callers.submit(() -> catalog.find("Google"));
+        while (target.finds.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Future<String> second = callers.submit(() -> catalog.find("Google"));
+        while (local.followers("find[Google]") == 0) {
+            Thread.onSpinWait();
+        }
+        target.release.countDown();
+        String refreshed = catalog.refresh("Google") + " / " + catalog.refresh("Google");
+
+        // Assert
+        assertEquals("page of Google", first.get());
+        assertEquals("page of Google", second.get());
+        assertEquals(1, target.finds.get());
+        assertEquals("refreshed Google 1 / refreshed Google 2", refreshed);
+        assertEquals(1.0, registry.get("interview.singleflight.calls").tag("method", "find").tag("role", "follower").counter().count());
+        callers.shutdownNow();
+    }
+
+    @Test
+    void postProcess_WithoutAnnotatedMethods_ShouldReturnTheBeanUnchanged() {
+        // Arrange
+        Object bean = new Object();
+
+        // Act & Assert
+        assertSame(bean, postProcessor().postProcessAfterInitialization(bean, "plain"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.Switchboard.InterviewService.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MdcTaskDecoratorTest {
+
+    private final MdcTaskDecorator decorator = new MdcTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void decorate_ShouldCarryMdcToWorkerThread() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        MDC.put("traceId", "trace-1");
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        Runnable task = decorator.decorate(() -> seen.complete(MDC.get("traceId")));
+        MDC.clear();
+
+        try {
+            // Act
+            executor.submit(task).get();
+
+            // Assert
+            assertEquals("trace-1", seen.get());
+            assertNull(executor.submit(() -> MDC.get("traceId")).get(), "worker must not keep the request's ids");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void decorate_WithoutContext_ShouldRunWithEmptyMdcAndRestorePrevious() {
+        // Arrange
+        Runnable task = decorator.decorate(() -> assertNull(MDC.get("traceId")));
+        MDC.put("traceId", "caller");
+
+        // Act
+        task.run();
+
+        // Assert
+        assertEquals("caller", MDC.get("traceId"));
+    }
+}
@@ -1,26 +1,37 @@
 package com.Switchboard.InterviewService.controller;
 
+import com.Switchboard.InterviewService.config.MdcTaskDecorator;
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.executor.OffloadExecutors;
 import com.Switchboard.InterviewService.service.FileService;
 import com.Switchboard.InterviewService.service.InterviewExperienceService;
+import com.Switchboard.InterviewService.spool.UploadSpool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.multipart.MultipartException;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,6 +46,12 @@ class InterviewExperienceControllerTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private UploadSpool uploadSpool;
+
+    @Spy
+    private OffloadExecutors offloadExecutors = new OffloadExecutors(new SimpleMeterRegistry(), new MdcTaskDecorator(), 2, 4, 5000, 2, 4, 5000);
+
     @InjectMocks
     private InterviewExperienceController controller;
 
@@ -74,7 +91,7 @@ class InterviewExperienceControllerTest {
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com");
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
 
         // Assert
         assertNotNull(result);
@@ -101,7 +118,7 @@ class InterviewExperienceControllerTest {
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com");
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
 
         // Assert
         assertNotNull(result);
@@ -111,6 +128,31 @@ class InterviewExperienceControllerTest {
         verify(interviewService, times(1)).createInterviewExperience(any(InterviewExperienceRequest.class), eq(imageUrl));
     }
 
+    @Test
+    void createInterviewExperience_WithImageInSpoolMode_ShouldSpoolInsteadOfUploading() throws IOException {
+        // Arrange
+        MockMultipartFile mockFile = new MockMultipartFile(
+                "image",
+                "test-image.jpg",
+                "image/jpeg",
+                "test image content".getBytes()
+        );
+        request.setImage(mockFile);
+
+        when(uploadSpool.isEnabled()).thenReturn(true);
+        when(interviewService.createInterviewExperienceWithSpooledImage(any(InterviewExperienceRequest.class)))
+                .thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        verify(fileService, never()).uploadImage(anyString(), any());
+        verify(interviewService, never()).createInterviewExperience(any(), any());
+        verify(interviewService, times(1)).createInterviewExperienceWithSpooledImage(request);
+    }
+
     @Test
     void createInterviewExperience_WithEmptyImage_ShouldNotUploadImage() throws IOException {
         // Arrange
@@ -121,7 +163,7 @@ class InterviewExperienceControllerTest {
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com");
+        ResponseEntity<InterviewExperienceResponse> result = controller.createInterviewExperience(request, "john.doe@example.com").join();
 
         // Assert
         assertNotNull(result);
@@ -137,9 +179,10 @@ class InterviewExperienceControllerTest {
                 .thenThrow(new RuntimeException("Database error"));
 
         // Act & Assert
-        assertThrows(RuntimeException.class, () -> {
-            controller.createInterviewExperience(request, "john.doe@example.com");
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> {
+            controller.createInterviewExperience(request, "john.doe@example.com").join();
         });
+        assertEquals("Database error", thrown.getCause().getMessage());
     }
 
     @Test
@@ -291,17 +334,17 @@ class InterviewExperienceControllerTest {
     @Test
     void updateInterviewExperience_WithoutImage_ShouldReturnUpdatedResponse() throws IOException {
         // Arrange
-        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull()))
+        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull(), isNull()))
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request);
+        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request, null).join();
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
-        verify(interviewService, times(1)).updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull());
+        verify(interviewService, times(1)).updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull(), isNull());
     }
 
     @Test
@@ -315,29 +358,148 @@ class InterviewExperienceControllerTest {
         );
         request.setImage(mockFile);
 
-        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), any()))
+        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), any(), isNull()))
                 .thenReturn(response);
 
         // Act
-        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request);
+        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request, null).join();
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(response, result.getBody());
-        verify(interviewService, times(1)).updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), any());
+        verify(interviewService, times(1)).updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), any(), isNull());
     }
 
     @Test
     void updateInterviewExperience_WithException_ShouldThrowException() throws IOException {
         // Arrange
-        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull()))
+        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull(), isNull()))
                 .thenThrow(new RuntimeException("Update failed"));
 
         // Act & Assert
-        assertThrows(RuntimeException.class, () -> {
-            controller.updateInterviewExperience(testId, request);
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> {
+            controller.updateInterviewExperience(testId, request, null).join();
         });
+        assertEquals("Update failed", thrown.getCause().getMessage());
+    }
+
+    @Test
+    void updateInterviewExperience_WithIfMatch_ShouldPassVersionAndReturnETag() throws IOException {
+        // Arrange
+        response.setVersion(5L);
+        when(interviewService.updateInterviewExperience(eq(testId), any(InterviewExperienceRequest.class), isNull(), eq(4L)))
+                .thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.updateInterviewExperience(testId, request, "W/\"4\"").join();
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"5\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void patchInterviewExperience_ShouldPassPatchAndVersionAndReturnETag() throws IOException {
+        // Arrange
+        Map<String, Object> patch = Map.of("title", "Fixed typo in title");
+        response.setVersion(8L);
+        when(interviewService.patchInterviewExperience(testId, patch, 7L)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.patchInterviewExperience(testId, patch, "\"7\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"8\"", result.getHeaders().getETag());
+        verify(interviewService, never()).updateInterviewExperience(any(), any(), any(), any());
+    }
+
+    @Test
+    void replaceImage_ShouldDelegateToServiceAndReturnETag() throws IOException {
+        // Arrange
+        MockMultipartFile image = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes());
+        response.setVersion(2L);
+        when(interviewService.replaceImage(testId, image, null)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.replaceImage(testId, image, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"2\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void removeImage_ShouldDelegateToService() {
+        // Arrange
+        response.setImageName(null);
+        when(interviewService.removeImage(testId, 3L)).thenReturn(response);
+
+        // Act
+        ResponseEntity<InterviewExperienceResponse> result = controller.removeImage(testId, "\"3\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertNull(result.getBody().getImageName());
+    }
+
+    @Test
+    void parseIfMatch_ShouldHandleWildcardAndRejectGarbage() {
+        assertNull(InterviewExperienceController.parseIfMatch(null));
+        assertNull(InterviewExperienceController.parseIfMatch("*"));
+        assertEquals(7L, InterviewExperienceController.parseIfMatch("\"7\""));
+        assertThrows(IllegalArgumentException.class, () -> InterviewExperienceController.parseIfMatch("\"abc\""));
+    }
+
+    @Test
+    void handleVersionConflict_ShouldReturnPreconditionFailed() {
+        // Act
+        ResponseEntity<String> result = controller.handleVersionConflict(
+                new ObjectOptimisticLockingFailureException(InterviewExperienceResponse.class, testId));
+
+        // Assert
+        assertEquals(HttpStatus.PRECONDITION_FAILED, result.getStatusCode());
+    }
+
+    @Test
+    void handleBadRequest_ShouldReturnBadRequest() {
+        // Act
+        ResponseEntity<String> result = controller.handleBadRequest(new IllegalArgumentException("Malformed If-Match header: x"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertEquals("Malformed If-Match header: x", result.getBody());
+    }
+
+    @Test
+    void handleOverload_ShouldReturnServiceUnavailableWithRetryAfter() {
+        // Act
+        ResponseEntity<String> result = controller.handleOverload(new RejectedExecutionException("S3 concurrency limit reached"));
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        assertEquals("1", result.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void handleTimeout_ShouldReturnGatewayTimeoutWithoutRetryAfter() {
+        // Act
+        ResponseEntity<String> result = controller.handleTimeout(new TimeoutException());
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, result.getStatusCode());
+        assertNull(result.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void handleDeadlineExceeded_ShouldReturnGatewayTimeout() {
+        // Act
+        ResponseEntity<String> result = controller.handleDeadlineExceeded(new DeadlineExceededException("S3 uploadBytes skipped"));
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, result.getStatusCode());
+        assertEquals("Request deadline exceeded", result.getBody());
     }
 
     @Test
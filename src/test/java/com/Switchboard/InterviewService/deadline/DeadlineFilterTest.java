@@ -0,0 +1,124 @@
+package com.Switchboard.InterviewService.deadline;
+
+import com.Switchboard.InterviewService.limit.EndpointClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private DeadlineFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new DeadlineFilter("/api/v1/interview", Map.of(
+                EndpointClass.READ, 3000L,
+                EndpointClass.WRITE, 5000L,
+                EndpointClass.UPLOAD, 15000L), registry);
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, "/api/v1/interview/");
+    }
+
+    private long budgetSeenBy(MockHttpServletRequest request) throws Exception {
+        long[] remaining = {-1};
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> remaining[0] = RequestDeadline.current().remainingMillis());
+        return remaining[0];
+    }
+
+    @Test
+    void doFilter_WithoutHeaders_ShouldUseTheClassDefaultAndClearAfterwards() throws Exception {
+        // Act
+        long read = budgetSeenBy(request("GET"));
+        long write = budgetSeenBy(request("DELETE"));
+
+        // Assert
+        assertTrue(read > 2_500 && read <= 3_000, "read budget was " + read);
+        assertTrue(write > 4_500 && write <= 5_000, "write budget was " + write);
+        assertNull(RequestDeadline.current());
+    }
+
+    @Test
+    void doFilter_WithShorterTimeoutHeader_ShouldUseIt() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(DeadlineFilter.TIMEOUT_HEADER, "800");
+
+        // Act
+        long budget = budgetSeenBy(request);
+
+        // Assert
+        assertTrue(budget > 300 && budget <= 800, "budget was " + budget);
+    }
+
+    @Test
+    void doFilter_WithLongerOrMalformedTimeoutHeader_ShouldKeepTheDefault() throws Exception {
+        // Arrange
+        MockHttpServletRequest longer = request("GET");
+        longer.addHeader(DeadlineFilter.TIMEOUT_HEADER, "60000");
+        MockHttpServletRequest malformed = request("GET");
+        malformed.addHeader(DeadlineFilter.TIMEOUT_HEADER, "soon");
+
+        // Act & Assert
+        assertTrue(budgetSeenBy(longer) <= 3_000);
+        assertTrue(budgetSeenBy(malformed) > 2_500);
+    }
+
+    @Test
+    void doFilter_WithAbsoluteDeadline_ShouldUseTheTimeLeft() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("GET");
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, Long.toString(System.currentTimeMillis() + 1_000));
+
+        // Act
+        long budget = budgetSeenBy(request);
+
+        // Assert
+        assertTrue(budget > 500 && budget <= 1_000, "budget was " + budget);
+    }
+
+    @Test
+    void doFilter_WhenDeadlineAlreadyPassed_ShouldAnswer504WithoutCallingChain() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("DELETE");
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, Long.toString(System.currentTimeMillis() - 2_000));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> fail("must not reach the handler"));
+
+        // Assert
+        assertEquals(504, response.getStatus());
+        assertEquals("Request deadline has already passed", response.getContentAsString());
+        assertEquals(1.0, registry.get("interview.deadline.expired").tag("class", "write").counter().count());
+    }
+
+    @Test
+    void doFilter_OutsideApi_ShouldNotStartADeadline() throws Exception {
+        // Arrange
+        RequestDeadline[] seen = new RequestDeadline[1];
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                (req, res) -> seen[0] = RequestDeadline.current());
+
+        // Assert
+        assertNull(seen[0]);
+    }
+
+    @Test
+    void constructor_WhenAClassHasNoDefault_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new DeadlineFilter("/api", Map.of(EndpointClass.READ, 1000L), registry));
+    }
+}
@@ -0,0 +1,96 @@
+package com.Switchboard.InterviewService.deadline;
+
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+// Each call below must begin its own transaction rather than join the test's
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DeadlineJpaTransactionManagerTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DeadlineJpaTransactionManager();
+        }
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private InterviewExperienceRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.end();
+    }
+
+    private Integer hibernateTimeout(TransactionTemplate template) {
+        return template.execute(status -> EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                .unwrap(Session.class).getTransaction().getTimeout());
+    }
+
+    @Test
+    void transaction_WithinDeadline_ShouldTimeOutWithIt() {
+        // Arrange
+        RequestDeadline.begin(4_500);
+
+        // Act
+        Integer timeout = hibernateTimeout(new TransactionTemplate(transactionManager));
+
+        // Assert
+        assertInstanceOf(DeadlineJpaTransactionManager.class, transactionManager);
+        assertEquals(5, timeout, "remaining time is rounded up to whole seconds");
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void transaction_WithShorterDeclaredTimeout_ShouldKeepIt() {
+        // Arrange
+        RequestDeadline.begin(30_000);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(2);
+
+        // Act & Assert
+        assertEquals(2, hibernateTimeout(template));
+    }
+
+    @Test
+    void transaction_OutsideRequest_ShouldHaveNoTimeout() {
+        // Act
+        Integer timeout = hibernateTimeout(new TransactionTemplate(transactionManager));
+
+        // Assert
+        assertTrue(timeout == null || timeout <= 0, "timeout was " + timeout);
+    }
+
+    @Test
+    void transaction_AfterDeadline_ShouldNotBegin() {
+        // Arrange
+        RequestDeadline.begin(0);
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> repository.count());
+    }
+}
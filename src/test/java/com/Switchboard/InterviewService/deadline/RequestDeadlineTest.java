@@ -0,0 +1,65 @@
+package com.Switchboard.InterviewService.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestDeadlineTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.end();
+    }
+
+    @Test
+    void begin_ShouldTrackTheRemainingBudget() {
+        // Act
+        RequestDeadline deadline = RequestDeadline.begin(10_000);
+
+        // Assert
+        assertSame(deadline, RequestDeadline.current());
+        assertFalse(deadline.expired());
+        assertTrue(deadline.remainingMillis() > 9_000 && deadline.remainingMillis() <= 10_000);
+        assertEquals(500, RequestDeadline.remainingMillis(500));
+        assertDoesNotThrow(() -> RequestDeadline.check("query"));
+    }
+
+    @Test
+    void check_AfterDeadline_ShouldThrow() {
+        // Arrange
+        RequestDeadline.begin(0);
+
+        // Act & Assert
+        DeadlineExceededException thrown = assertThrows(DeadlineExceededException.class, () -> RequestDeadline.check("query"));
+        assertTrue(thrown.getMessage().startsWith("query skipped"));
+        assertTrue(RequestDeadline.remainingMillis(500) <= 0);
+    }
+
+    @Test
+    void outsideRequest_ShouldImposeNothing() {
+        // Assert
+        assertNull(RequestDeadline.current());
+        assertEquals(500, RequestDeadline.remainingMillis(500));
+        assertDoesNotThrow(() -> RequestDeadline.check("query"));
+    }
+
+    @Test
+    void attach_ShouldShareTheDeadlineWithAnotherThread() throws Exception {
+        // Arrange
+        RequestDeadline deadline = RequestDeadline.begin(10_000);
+        RequestDeadline[] seen = new RequestDeadline[1];
+
+        // Act
+        Thread worker = new Thread(() -> {
+            RequestDeadline.attach(deadline);
+            seen[0] = RequestDeadline.current();
+            RequestDeadline.end();
+        });
+        worker.start();
+        worker.join();
+
+        // Assert
+        assertSame(deadline, seen[0]);
+    }
+}
@@ -106,7 +106,8 @@ class InterviewExperienceResponseTest {
                 "My Content",
                 "Google",
                 now,
-                now
+                now,
+                3L
         );
 
         // Assert
@@ -120,6 +121,7 @@ class InterviewExperienceResponseTest {
         assertEquals("Google", response.getCompanyTag());
         assertEquals(now, response.getCreatedAt());
         assertEquals(now, response.getUpdatedAt());
+        assertEquals(3L, response.getVersion());
     }
 
     @Test
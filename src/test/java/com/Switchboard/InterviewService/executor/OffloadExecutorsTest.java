@@ -0,0 +1,196 @@
+package com.Switchboard.InterviewService.executor;
+
+import com.Switchboard.InterviewService.config.MdcTaskDecorator;
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
+import com.Switchboard.InterviewService.deadline.RequestDeadline;
+import com.Switchboard.InterviewService.metrics.RequestTimings;
+import com.Switchboard.InterviewService.profiler.ThreadAttribution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffloadExecutorsTest {
+
+    private SimpleMeterRegistry registry;
+    private OffloadExecutors executors;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        executors = new OffloadExecutors(registry, new MdcTaskDecorator(), 1, 1, 200, 2, 10, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.shutdown();
+        MDC.clear();
+        RequestTimings.end();
+        RequestDeadline.end();
+        ThreadAttribution.clear();
+    }
+
+    @Test
+    void supply_ShouldRunWithCallersMdcAndTimings() {
+        // Arrange
+        MDC.put("traceId", "trace-1");
+        RequestTimings timings = RequestTimings.begin();
+
+        // Act
+        String traceId = executors.db().supply(() -> {
+            RequestTimings.countQuery();
+            return MDC.get("traceId");
+        }).join();
+
+        // Assert
+        assertEquals("trace-1", traceId);
+        assertEquals(1, timings.queries());
+        assertEquals("db", executors.db().name());
+    }
+
+    @Test
+    void supply_ShouldCarryEndpointTagAndCountAllocation() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        ThreadAttribution.tag("POST /api/v1/interview/");
+
+        // Act
+        String endpoint = executors.s3().supply(() -> {
+            byte[] upload = new byte[64 * 1024];
+            return upload.length > 0 ? ThreadAttribution.of(Thread.currentThread().threadId()) : null;
+        }).join();
+
+        // Assert
+        assertEquals("POST /api/v1/interview/", endpoint);
+        if (RequestTimings.threadAllocatedBytes() >= 0) {
+            assertTrue(timings.offloadedAllocatedBytes() >= 64 * 1024);
+        }
+    }
+
+    @Test
+    void supply_WhenTaskThrows_ShouldCompleteExceptionally() {
+        // Act
+        CompletableFuture<String> future = executors.s3().supply(() -> {
+            throw new IOException("S3 unavailable");
+        });
+
+        // Assert
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IOException.class, thrown.getCause());
+    }
+
+    @Test
+    void supply_WhenQueueIsFull_ShouldRejectAndCount() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        executors.s3().supply(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        running.await();
+        executors.s3().supply(() -> "queued");
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class, () -> executors.s3().supply(() -> "rejected"));
+        assertEquals(1.0, registry.get(OffloadExecutors.REJECTED_METRIC).tag("name", "s3").counter().count());
+        assertEquals(1.0, registry.get("executor.queued").tag("name", "s3").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void supply_WhenTimedOutWhileQueued_ShouldFailAndSkipTheTask() throws Exception {
+        // Arrange
+        // The running task ignores its interrupt, like a blocking call that cannot be cut short
+        CountDownLatch release = new CountDownLatch(1);
+        executors.s3().supply(() -> awaitIgnoringInterrupts(release));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // Act
+        CompletableFuture<Boolean> queued = executors.s3().supply(() -> ran.getAndSet(true));
+        CompletionException thrown = assertThrows(CompletionException.class, queued::join);
+        release.countDown();
+        while (executors.s3().queued() > 0) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertInstanceOf(TimeoutException.class, thrown.getCause());
+        executors.s3().supply(() -> true).join();
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void supply_WhenTimedOutWhileRunning_ShouldInterruptTheTaskAndKeepItsTimingsOut() throws Exception {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // Act
+        CompletableFuture<Boolean> future = executors.s3().supply(() -> {
+            try {
+                return new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                RequestTimings.countQuery();
+                interrupted.countDown();
+                throw e;
+            }
+        });
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+
+        // Assert
+        assertInstanceOf(TimeoutException.class, thrown.getCause());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(0, timings.queries());
+        assertEquals(0, timings.offloadedAllocatedBytes());
+    }
+
+    @Test
+    void supply_ShouldCarryTheRequestDeadline() {
+        // Arrange
+        RequestDeadline deadline = RequestDeadline.begin(5000);
+
+        // Act
+        RequestDeadline seen = executors.db().supply(RequestDeadline::current).join();
+
+        // Assert
+        assertSame(deadline, seen);
+    }
+
+    @Test
+    void supply_WhenDeadlineComesBeforeTheTimeout_ShouldFailWithDeadlineExceeded() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        RequestDeadline.begin(50);
+
+        // Act
+        CompletableFuture<Boolean> future = executors.db().supply(() -> release.await(5, TimeUnit.SECONDS));
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        release.countDown();
+
+        // Assert
+        assertInstanceOf(DeadlineExceededException.class, thrown.getCause());
+    }
+
+    private static boolean awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (true) {
+            try {
+                return latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                // keep waiting
+            }
+        }
+    }
+}
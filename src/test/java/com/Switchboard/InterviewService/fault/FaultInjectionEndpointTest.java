@@ -0,0 +1,44 @@
+package com.Switchboard.InterviewService.fault;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FaultInjectionEndpointTest {
+
+    private FaultInjector injector;
+    private FaultInjectionEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        injector = new FaultInjector(Map.of("s3", IllegalStateException::new, "db", IllegalStateException::new));
+        endpoint = new FaultInjectionEndpoint(injector);
+    }
+
+    @Test
+    void setFault_ShouldReplaceSpecAndListIt() {
+        // Act
+        Map<String, Object> result = endpoint.setFault("db", "latency-ms=250");
+
+        // Assert
+        assertEquals(250L, injector.get("db").latencyMs());
+        assertTrue(result.containsKey("db"));
+        assertFalse(result.containsKey("s3"));
+    }
+
+    @Test
+    void clearFaults_ShouldRemoveEverything() {
+        // Arrange
+        endpoint.setFault("s3", "error-rate=0.5");
+
+        // Act
+        Map<String, Object> result = endpoint.clearFaults();
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertTrue(endpoint.faults().isEmpty());
+    }
+}
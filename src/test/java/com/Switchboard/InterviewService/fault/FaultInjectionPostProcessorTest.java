@@ -0,0 +1,89 @@
+package com.Switchboard.InterviewService.fault;
+
+import com.Switchboard.InterviewService.config.FaultInjectionConfig;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.impl.FileServiceImpl;
+import com.Switchboard.InterviewService.support.InMemoryS3Client;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.test.context.ActiveProfiles;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the wiring: the Spring Data repository and the file service are wrapped, and injected faults
+ * surface as the exceptions the real dependencies would throw.
+ */
+@DataJpaTest(properties = {"fault-injection.enabled=true", "fault-injection.s3=error-rate=1,methods=deleteImage"})
+@ActiveProfiles("test")
+@Import({FaultInjectionConfig.class, FaultInjectionPostProcessorTest.Beans.class})
+class FaultInjectionPostProcessorTest {
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        FileService fileService() {
+            return new FileServiceImpl(new InMemoryS3Client());
+        }
+    }
+
+    @Autowired
+    private InterviewExperienceRepository repository;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FaultInjector injector;
+
+    @AfterEach
+    void tearDown() {
+        injector.clear();
+    }
+
+    @Test
+    void fileService_ShouldFailWithS3ExceptionFromInitialSpec() {
+        // Act & Assert
+        S3Exception exception = assertThrows(S3Exception.class,
+                () -> fileService.deleteImage("https://bucket.s3.us-east-1.amazonaws.com/interview-experience/a.jpg"));
+        assertEquals(503, exception.statusCode());
+        assertTrue(fileService.buildKey("interview-experience", "x.jpg").startsWith("interview-experience/"),
+                "methods outside the spec should not fail");
+    }
+
+    @Test
+    void repository_ShouldFailWithDataAccessExceptionWhenEnabledAtRuntime() {
+        // Arrange
+        injector.set("db", FaultSpec.parse("error-rate=1,methods=findById"));
+
+        // Act & Assert
+        assertThrows(TransientDataAccessResourceException.class, () -> repository.findById(UUID.randomUUID()));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void repository_WithoutFaults_ShouldWorkNormally() {
+        // Act
+        InterviewExperience saved = repository.save(InterviewExperience.builder()
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .title("Interview at Google")
+                .content("Great experience at Google with multiple technical rounds.")
+                .companyTag("Google")
+                .build());
+
+        // Assert
+        assertTrue(repository.findById(saved.getId()).isPresent());
+    }
+}
@@ -0,0 +1,74 @@
+package com.Switchboard.InterviewService.fault;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FaultInjectorTest {
+
+    private FaultInjector injector;
+
+    @BeforeEach
+    void setUp() {
+        injector = new FaultInjector(Map.of("s3", IllegalStateException::new));
+    }
+
+    @Test
+    void apply_WithoutSpec_ShouldProceed() {
+        assertDoesNotThrow(() -> injector.apply("s3", "uploadBytes"));
+    }
+
+    @Test
+    void apply_WithFullErrorRate_ShouldThrowTargetException() {
+        // Arrange
+        injector.set("s3", FaultSpec.parse("error-rate=1"));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> injector.apply("s3", "deleteImage"));
+        assertEquals("Injected fault in s3.deleteImage", exception.getMessage());
+    }
+
+    @Test
+    void apply_ShouldSkipMethodsOutsideSpec() {
+        // Arrange
+        injector.set("s3", FaultSpec.parse("error-rate=1,methods=deleteImage"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> injector.apply("s3", "uploadBytes"));
+    }
+
+    @Test
+    void apply_WithLatencyAndStall_ShouldDelayCall() throws InterruptedException {
+        // Arrange
+        injector.set("s3", FaultSpec.parse("latency-ms=20,stall-rate=1,stall-ms=30"));
+        long start = System.nanoTime();
+
+        // Act
+        injector.apply("s3", "uploadBytes");
+
+        // Assert
+        assertTrue((System.nanoTime() - start) / 1_000_000 >= 50);
+    }
+
+    @Test
+    void set_WithUnknownTarget_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> injector.set("redis", FaultSpec.NONE));
+        assertFalse(injector.isKnownTarget("redis"));
+    }
+
+    @Test
+    void clear_ShouldRemoveAllFaults() {
+        // Arrange
+        injector.set("s3", FaultSpec.parse("error-rate=1"));
+
+        // Act
+        injector.clear();
+
+        // Assert
+        assertTrue(injector.active().isEmpty());
+        assertSame(FaultSpec.NONE, injector.get("s3"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.Switchboard.InterviewService.fault;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FaultSpecTest {
+
+    @Test
+    void parse_ShouldReadAllKeys() {
+        // Act
+        FaultSpec spec = FaultSpec.parse("latency-ms=50, sigma=0.5,error-rate=0.02,stall-rate=0.001,stall-ms=10000,methods=deleteImage|uploadBytes");
+
+        // Assert
+        assertEquals(50, spec.latencyMs());
+        assertEquals(0.5, spec.sigma());
+        assertEquals(0.02, spec.errorRate());
+        assertEquals(0.001, spec.stallRate());
+        assertEquals(10_000, spec.stallMs());
+        assertEquals(Set.of("deleteImage", "uploadBytes"), spec.methods());
+        assertTrue(spec.appliesTo("deleteImage"));
+        assertFalse(spec.appliesTo("buildKey"));
+    }
+
+    @Test
+    void parse_WithBlankSpec_ShouldReturnNone() {
+        assertSame(FaultSpec.NONE, FaultSpec.parse(" "));
+        assertSame(FaultSpec.NONE, FaultSpec.parse(null));
+        assertTrue(FaultSpec.NONE.appliesTo("anything"));
+    }
+
+    @Test
+    void parse_ShouldRejectUnknownKeysAndBadValues() {
+        assertThrows(IllegalArgumentException.class, () -> FaultSpec.parse("latency=5"));
+        assertThrows(IllegalArgumentException.class, () -> FaultSpec.parse("error-rate"));
+        assertThrows(IllegalArgumentException.class, () -> FaultSpec.parse("error-rate=1.5"));
+        assertThrows(IllegalArgumentException.class, () -> FaultSpec.parse("latency-ms=-1"));
+    }
+
+    @Test
+    void sampleLatencyMs_WithoutSigma_ShouldBeConstant() {
+        // Arrange
+        FaultSpec spec = FaultSpec.parse("latency-ms=20");
+
+        // Act & Assert
+        assertEquals(20, spec.sampleLatencyMs(ThreadLocalRandom.current()));
+    }
+
+    @Test
+    void sampleLatencyMs_WithSigma_ShouldSpreadAroundMedian() {
+        // Arrange
+        FaultSpec spec = FaultSpec.parse("latency-ms=100,sigma=1");
+        long below = 0;
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            if (spec.sampleLatencyMs(ThreadLocalRandom.current()) < 100) {
+                below++;
+            }
+        }
+
+        // Assert
+        assertTrue(below > 4_000 && below < 6_000, "about half the samples should fall below the median");
+    }
+
+    @Test
+    void describe_ShouldListAllSettings() {
+        // Act & Assert
+        assertEquals(Set.of("latency-ms", "sigma", "error-rate", "stall-rate", "stall-ms", "methods"),
+                FaultSpec.parse("latency-ms=1").describe().keySet());
+    }
+}
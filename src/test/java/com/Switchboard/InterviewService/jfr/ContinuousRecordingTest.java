@@ -0,0 +1,84 @@
+package com.Switchboard.InterviewService.jfr;
+
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContinuousRecordingTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private ContinuousRecording recording;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        recording = new ContinuousRecording("default", Duration.ofMinutes(5), 50L * 1024 * 1024, dumpDirectory);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.stop();
+        MDC.clear();
+    }
+
+    @Test
+    void dump_ShouldContainOperationEventsWithTraceId() throws Exception {
+        // Arrange
+        MDC.put("traceId", "trace-42");
+        OperationEvent event = new OperationEvent();
+        event.begin();
+        Thread.sleep(5);
+        event.finish("s3", "uploadBytes", "SUCCESS", -1, 4096);
+
+        // Act
+        Path file = recording.dump(Duration.ofMinutes(1));
+
+        // Assert
+        assertTrue(file.startsWith(dumpDirectory));
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.Switchboard.InterviewService.Operation"))
+                .toList();
+        assertEquals(1, events.size());
+        RecordedEvent recorded = events.get(0);
+        assertEquals("s3", recorded.getString("component"));
+        assertEquals("uploadBytes", recorded.getString("operation"));
+        assertEquals(4096, recorded.getLong("bytes"));
+        assertEquals("trace-42", recorded.getString("traceId"));
+        assertTrue(recorded.getDuration().toMillis() >= 5);
+    }
+
+    @Test
+    void fastOperations_ShouldStayBelowThreshold() throws Exception {
+        // Arrange
+        OperationEvent event = new OperationEvent();
+        event.begin();
+        event.finish("service", "getInterviewById", "SUCCESS", 1, 0);
+
+        // Act
+        Path file = recording.dump(Duration.ofMinutes(1));
+
+        // Assert
+        assertTrue(RecordingFile.readAllEvents(file).stream()
+                .noneMatch(recorded -> recorded.getEventType().getName().equals("com.Switchboard.InterviewService.Operation")));
+    }
+
+    @Test
+    void state_ShouldReportRunningRecording() {
+        // Act & Assert
+        assertEquals(RecordingState.RUNNING, recording.state());
+        assertEquals(Duration.ofMinutes(5), recording.maxAge());
+    }
+}
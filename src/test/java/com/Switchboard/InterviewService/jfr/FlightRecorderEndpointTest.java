@@ -0,0 +1,77 @@
+package com.Switchboard.InterviewService.jfr;
+
+import jdk.jfr.RecordingState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlightRecorderEndpointTest {
+
+    @Mock
+    private ContinuousRecording recording;
+
+    @InjectMocks
+    private FlightRecorderEndpoint endpoint;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void dump_WithoutMinutes_ShouldUseDefaultWindow() throws IOException {
+        // Arrange
+        Path file = Files.write(directory.resolve("dump.jfr"), new byte[128]);
+        when(recording.dump(Duration.ofMinutes(FlightRecorderEndpoint.DEFAULT_MINUTES))).thenReturn(file);
+
+        // Act
+        Map<String, Object> result = endpoint.dump(null);
+
+        // Assert
+        assertEquals(file.toString(), result.get("file"));
+        assertEquals(FlightRecorderEndpoint.DEFAULT_MINUTES, result.get("minutes"));
+        assertEquals(128L, result.get("bytes"));
+    }
+
+    @Test
+    void dump_WithNonPositiveMinutes_ShouldRejectRequest() {
+        // Act & Assert
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.dump(0));
+    }
+
+    @Test
+    void dump_WhenRecordingFails_ShouldSurfaceError() throws IOException {
+        // Arrange
+        when(recording.dump(Duration.ofMinutes(3))).thenThrow(new IOException("disk full"));
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> endpoint.dump(3));
+    }
+
+    @Test
+    void recording_ShouldReportStateAndMaxAge() {
+        // Arrange
+        when(recording.state()).thenReturn(RecordingState.RUNNING);
+        when(recording.maxAge()).thenReturn(Duration.ofMinutes(30));
+
+        // Act
+        Map<String, Object> status = endpoint.recording();
+
+        // Assert
+        assertEquals("RUNNING", status.get("state"));
+        assertEquals("PT30M", status.get("maxAge"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.Switchboard.InterviewService.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimitTest {
+
+    private static final long FAST = 10_000_000;
+    private static final long SLOW = 500_000_000;
+
+    @Test
+    void tryAcquire_ShouldAdmitUpToTheLimit() {
+        // Arrange
+        AimdLimit limit = new AimdLimit(2, 1, 10, 100, 0.5);
+
+        // Act & Assert
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.inflight());
+        assertEquals(1.0, limit.utilization());
+    }
+
+    @Test
+    void release_WhenFastAndBusy_ShouldGrowByOneUpToMax() {
+        // Arrange
+        AimdLimit limit = new AimdLimit(2, 1, 3, 100, 0.5);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+            limit.tryAcquire();
+            limit.release(FAST, false);
+            limit.release(FAST, false);
+        }
+
+        // Assert
+        assertEquals(3, limit.limit());
+        assertEquals(0, limit.inflight());
+    }
+
+    @Test
+    void release_WhenFastButIdle_ShouldKeepTheLimit() {
+        // Arrange
+        AimdLimit limit = new AimdLimit(10, 1, 100, 100, 0.5);
+
+        // Act
+        limit.tryAcquire();
+        limit.release(FAST, false);
+
+        // Assert
+        assertEquals(10, limit.limit());
+    }
+
+    @Test
+    void release_WhenSlowOrDropped_ShouldBackOffOncePerTargetDownToMin() throws InterruptedException {
+        // Arrange
+        AimdLimit limit = new AimdLimit(8, 3, 10, 20, 0.5);
+
+        // Act & Assert
+        limit.tryAcquire();
+        limit.release(SLOW, false);
+        assertEquals(4, limit.limit());
+        limit.tryAcquire();
+        limit.release(SLOW, false);
+        assertEquals(4, limit.limit(), "a second slow response from the same stall must not back off again");
+        Thread.sleep(25);
+        limit.tryAcquire();
+        limit.release(FAST, true);
+        assertEquals(3, limit.limit());
+    }
+
+    @Test
+    void constructor_WithInconsistentBounds_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(5, 10, 20, 100, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimit(5, 1, 20, 100, 1.0));
+    }
+}
@@ -0,0 +1,141 @@
+package com.Switchboard.InterviewService.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter("/api/v1/interview", Map.of(
+                EndpointClass.READ, new AimdLimit(2, 1, 10, 1000, 0.5),
+                EndpointClass.WRITE, new AimdLimit(1, 1, 10, 1000, 0.5),
+                EndpointClass.UPLOAD, new AimdLimit(1, 1, 10, 1000, 0.5)), 0.5, registry);
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, "/api/v1/interview/");
+    }
+
+    @Test
+    void doFilter_UnderLimit_ShouldPassAndRelease() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        int[] inflight = new int[1];
+        FilterChain chain = (req, res) -> inflight[0] = filter.limit(EndpointClass.READ).inflight();
+
+        // Act
+        filter.doFilter(request("GET"), response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertEquals(1, inflight[0]);
+        assertEquals(0, filter.limit(EndpointClass.READ).inflight());
+        // A fast request using half the limit grows it by one
+        assertEquals(3.0, registry.get("interview.limiter.limit").tag("class", "read").gauge().value());
+    }
+
+    @Test
+    void doFilter_AtLimit_ShouldRejectWithRetryAfterWithoutCallingChain() throws Exception {
+        // Arrange
+        filter.limit(EndpointClass.WRITE).tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("DELETE"), response, (req, res) -> fail("must not reach the handler"));
+
+        // Assert
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(ConcurrencyLimitFilter.BUSY_MESSAGE, response.getContentAsString());
+        assertEquals(1.0, registry.get(ConcurrencyLimitFilter.REJECTED_METRIC).tags("class", "write", "reason", "limit").counter().count());
+    }
+
+    @Test
+    void doFilter_WhenReadsAreBusy_ShouldShedWritesButAdmitReads() throws Exception {
+        // Arrange
+        filter.limit(EndpointClass.READ).tryAcquire();
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        MockHttpServletResponse read = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("PATCH"), write, (req, res) -> fail("writes must be shed"));
+        filter.doFilter(request("GET"), read, (req, res) -> { });
+
+        // Assert
+        assertEquals(503, write.getStatus());
+        assertEquals(200, read.getStatus());
+        assertEquals(1.0, registry.get(ConcurrencyLimitFilter.REJECTED_METRIC).tags("class", "write", "reason", "shed").counter().count());
+    }
+
+    @Test
+    void doFilter_WhenHandlerFails_ShouldReleaseAndBackOff() {
+        // Arrange
+        filter = new ConcurrencyLimitFilter("/api/v1/interview", Map.of(
+                EndpointClass.READ, new AimdLimit(8, 1, 10, 1000, 0.5),
+                EndpointClass.WRITE, new AimdLimit(1, 1, 10, 1000, 0.5),
+                EndpointClass.UPLOAD, new AimdLimit(1, 1, 10, 1000, 0.5)), 0.5, new SimpleMeterRegistry());
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request("GET"), new MockHttpServletResponse(),
+                (req, res) -> { throw new IllegalStateException("boom"); }));
+
+        // Assert
+        assertEquals(0, filter.limit(EndpointClass.READ).inflight());
+        assertEquals(4, filter.limit(EndpointClass.READ).limit());
+    }
+
+    @Test
+    void doFilter_WhenAsync_ShouldHoldSlotUntilCompletion() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("POST");
+        request.setContentType("multipart/form-data; boundary=abc");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> req.startAsync(req, res));
+        int held = filter.limit(EndpointClass.UPLOAD).inflight();
+        response.setStatus(HttpServletResponse.SC_OK);
+        request.getAsyncContext().complete();
+
+        // Assert
+        assertEquals(1, held);
+        assertEquals(0, filter.limit(EndpointClass.UPLOAD).inflight());
+    }
+
+    @Test
+    void shouldNotFilter_OutsideTheApi_ShouldSkip() throws Exception {
+        // Arrange
+        filter.limit(EndpointClass.READ).tryAcquire();
+        filter.limit(EndpointClass.READ).tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, (req, res) -> { });
+
+        // Assert
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void constructor_WithMissingClass_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitFilter("/api", Map.of(
+                EndpointClass.READ, new AimdLimit(1, 1, 1, 1, 0.5)), 0.5, new SimpleMeterRegistry()));
+    }
+}
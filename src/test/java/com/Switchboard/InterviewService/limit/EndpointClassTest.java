@@ -0,0 +1,27 @@
+package com.Switchboard.InterviewService.limit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointClassTest {
+
+    @Test
+    void of_ShouldClassifyByMethodAndContentType() {
+        // Arrange
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/v1/interview/");
+        MockHttpServletRequest upload = new MockHttpServletRequest("POST", "/api/v1/interview/");
+        upload.setContentType("Multipart/form-data; boundary=abc");
+        MockHttpServletRequest patch = new MockHttpServletRequest("PATCH", "/api/v1/interview/1");
+        patch.setContentType("application/merge-patch+json");
+        MockHttpServletRequest delete = new MockHttpServletRequest("DELETE", "/api/v1/interview/1");
+
+        // Act & Assert
+        assertEquals(EndpointClass.READ, EndpointClass.of(get));
+        assertEquals(EndpointClass.UPLOAD, EndpointClass.of(upload));
+        assertEquals(EndpointClass.WRITE, EndpointClass.of(patch));
+        assertEquals(EndpointClass.WRITE, EndpointClass.of(delete));
+        assertEquals("upload", EndpointClass.UPLOAD.tag());
+    }
+}
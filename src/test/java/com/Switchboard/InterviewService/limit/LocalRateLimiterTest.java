@@ -0,0 +1,84 @@
+package com.Switchboard.InterviewService.limit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimiterTest {
+
+    private static final RateLimit TWO_PER_SECOND_BURST_THREE = new RateLimit(2, 3);
+
+    private long now;
+    private LocalRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000_000_000_000L;
+        limiter = new LocalRateLimiter(() -> now, 10_000);
+    }
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenReportWait() {
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("alice", TWO_PER_SECOND_BURST_THREE), "request " + i);
+        }
+        assertEquals(500_000_000L, limiter.tryAcquire("alice", TWO_PER_SECOND_BURST_THREE));
+        assertEquals(0, limiter.tryAcquire("bob", TWO_PER_SECOND_BURST_THREE), "users have separate buckets");
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtTheSustainedRate() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("alice", TWO_PER_SECOND_BURST_THREE);
+        }
+
+        // Act
+        now += 500_000_000L;
+        long afterOneInterval = limiter.tryAcquire("alice", TWO_PER_SECOND_BURST_THREE);
+        long immediatelyAfter = limiter.tryAcquire("alice", TWO_PER_SECOND_BURST_THREE);
+
+        // Assert
+        assertEquals(0, afterOneInterval);
+        assertEquals(500_000_000L, immediatelyAfter);
+    }
+
+    @Test
+    void evictIdle_ShouldDropOnlyRefilledBuckets() {
+        // Arrange
+        limiter.tryAcquire("idle", TWO_PER_SECOND_BURST_THREE);
+        now += 400_000_000L;
+        limiter.tryAcquire("busy", TWO_PER_SECOND_BURST_THREE);
+        limiter.tryAcquire("busy", TWO_PER_SECOND_BURST_THREE);
+
+        // Act
+        now += 200_000_000L;
+        int evicted = limiter.evictIdle();
+
+        // Assert
+        assertEquals(1, evicted);
+        assertEquals(1, limiter.size());
+        // The kept bucket still carries its debt: one more permit, then 300 ms to wait
+        assertEquals(0, limiter.tryAcquire("busy", TWO_PER_SECOND_BURST_THREE));
+        assertEquals(300_000_000L, limiter.tryAcquire("busy", TWO_PER_SECOND_BURST_THREE));
+    }
+
+    @Test
+    void startAndStop_ShouldRunTheSweeper() throws InterruptedException {
+        // Arrange
+        LocalRateLimiter sweeping = new LocalRateLimiter(System::nanoTime, 10);
+        sweeping.tryAcquire("alice", new RateLimit(1000, 1));
+
+        // Act
+        sweeping.start();
+        for (int i = 0; i < 100 && sweeping.size() > 0; i++) {
+            Thread.sleep(10);
+        }
+        sweeping.stop();
+
+        // Assert
+        assertEquals(0, sweeping.size());
+    }
+}
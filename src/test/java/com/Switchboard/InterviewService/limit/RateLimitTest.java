@@ -0,0 +1,25 @@
+package com.Switchboard.InterviewService.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitTest {
+
+    @Test
+    void intervalAndTolerance_ShouldFollowRateAndBurst() {
+        // Arrange
+        RateLimit limit = new RateLimit(4, 3);
+
+        // Act & Assert
+        assertEquals(250_000_000L, limit.intervalNanos());
+        assertEquals(500_000_000L, limit.toleranceNanos());
+    }
+
+    @Test
+    void constructor_WithNonPositiveRateOrBurst_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(1, 0));
+    }
+}
@@ -0,0 +1,127 @@
+package com.Switchboard.InterviewService.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisRateLimiterTest {
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connections;
+
+    private StringRedisTemplate redis;
+    private SimpleMeterRegistry registry;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connections = new LettuceConnectionFactory("localhost", port);
+        connections.afterPropertiesSet();
+        connections.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connections.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis = new StringRedisTemplate(connections);
+        redis.afterPropertiesSet();
+        redis.getConnectionFactory().getConnection().serverCommands().flushAll();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void tryAcquire_ShouldShareOneBucketAcrossInstances() {
+        // Arrange
+        RateLimit limit = new RateLimit(1, 2);
+        RedisRateLimiter first = new RedisRateLimiter(redis, new LocalRateLimiter(60_000), registry);
+        RedisRateLimiter second = new RedisRateLimiter(redis, new LocalRateLimiter(60_000), registry);
+
+        // Act
+        long a = first.tryAcquire("read:alice", limit);
+        long b = second.tryAcquire("read:alice", limit);
+        long c = first.tryAcquire("read:alice", limit);
+
+        // Assert
+        assertEquals(0, a);
+        assertEquals(0, b);
+        assertTrue(c > 900_000_000L && c <= 1_000_000_000L, "wait was " + c);
+        assertEquals(0, second.tryAcquire("read:bob", limit));
+    }
+
+    @Test
+    void tryAcquire_ShouldExpireTheKeyOnceTheBucketIsFull() {
+        // Arrange
+        RedisRateLimiter limiter = new RedisRateLimiter(redis, new LocalRateLimiter(60_000), registry);
+
+        // Act
+        limiter.tryAcquire("write:alice", new RateLimit(2, 5));
+
+        // Assert
+        Long ttl = redis.getExpire(RedisRateLimiter.KEY_PREFIX + "write:alice");
+        assertNotNull(ttl);
+        assertTrue(ttl >= 0 && ttl <= 1, "ttl was " + ttl);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryAcquire_WhenRedisFails_ShouldFallBackToLocalBuckets() {
+        // Arrange
+        StringRedisTemplate broken = mock(StringRedisTemplate.class);
+        when(broken.execute(any(org.springframework.data.redis.core.script.RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        RedisRateLimiter limiter = new RedisRateLimiter(broken, new LocalRateLimiter(60_000), registry);
+        RateLimit limit = new RateLimit(1, 1);
+
+        // Act
+        long first = limiter.tryAcquire("read:alice", limit);
+        long second = limiter.tryAcquire("read:alice", limit);
+
+        // Assert
+        assertEquals(0, first);
+        assertTrue(second > 0);
+        assertEquals(2.0, registry.get("interview.ratelimit.redis.fallbacks").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryAcquire_WhenRedisRecovers_ShouldUseSharedBucketsAgain() {
+        // Arrange
+        StringRedisTemplate flaky = mock(StringRedisTemplate.class);
+        when(flaky.execute(any(org.springframework.data.redis.core.script.RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"))
+                .thenReturn(250L);
+        RedisRateLimiter limiter = new RedisRateLimiter(flaky, new LocalRateLimiter(60_000), registry);
+
+        // Act
+        limiter.tryAcquire("read:alice", new RateLimit(1, 1));
+        long wait = limiter.tryAcquire("read:alice", new RateLimit(1, 1));
+
+        // Assert
+        assertEquals(250_000L, wait);
+        verify(flaky, times(2)).execute(any(org.springframework.data.redis.core.script.RedisScript.class), eq(List.of("ratelimit:read:alice")), any(Object[].class));
+    }
+}
@@ -0,0 +1,113 @@
+package com.Switchboard.InterviewService.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserRateLimitFilterTest {
+
+    private static final RateLimit READS = new RateLimit(10, 20);
+    private static final RateLimit WRITES = new RateLimit(2, 4);
+
+    private SimpleMeterRegistry registry;
+    private RateLimiter limiter;
+    private UserRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limiter = mock(RateLimiter.class);
+        filter = new UserRateLimitFilter("/api/v1/interview", limiter, Map.of(
+                EndpointClass.READ, READS,
+                EndpointClass.WRITE, WRITES,
+                EndpointClass.UPLOAD, new RateLimit(1, 1)), registry);
+    }
+
+    private static MockHttpServletRequest request(String method, String user) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/interview/");
+        if (user != null) {
+            request.addHeader(UserRateLimitFilter.USER_HEADER, user);
+        }
+        return request;
+    }
+
+    @Test
+    void doFilter_UnderLimit_ShouldPassKeyedByClassAndUser() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire(anyString(), any())).thenReturn(0L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletRequest request = request("GET", " Alice@Example.com ");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        verify(chain).doFilter(request, response);
+        verify(limiter).tryAcquire("read:alice@example.com", READS);
+        assertEquals(1.0, registry.get("interview.ratelimit.requests").tag("class", "read").tag("outcome", "allowed").counter().count());
+    }
+
+    @Test
+    void doFilter_OverLimit_ShouldAnswer429WithRetryAfterWithoutCallingChain() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire("write:alice@example.com", WRITES)).thenReturn(1_500_000_000L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("DELETE", "alice@example.com"), response, (req, res) -> fail("must not reach the handler"));
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("Too many requests; retry in 2 s", response.getContentAsString());
+        assertEquals(1.0, registry.get("interview.ratelimit.requests").tag("class", "write").tag("outcome", "limited").counter().count());
+    }
+
+    @Test
+    void doFilter_OverLimitByLessThanASecond_ShouldAskForOneSecond() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire(anyString(), any())).thenReturn(1L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("GET", "alice@example.com"), response, (req, res) -> fail("must not reach the handler"));
+
+        // Assert
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void doFilter_WithoutUserOrOutsideApi_ShouldSkip() throws Exception {
+        // Arrange
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletRequest outside = new MockHttpServletRequest("GET", "/actuator/health");
+        outside.addHeader(UserRateLimitFilter.USER_HEADER, "alice@example.com");
+
+        // Act
+        filter.doFilter(request("GET", null), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("GET", " "), new MockHttpServletResponse(), chain);
+        filter.doFilter(outside, new MockHttpServletResponse(), chain);
+
+        // Assert
+        verify(chain, times(3)).doFilter(any(), any());
+        verifyNoInteractions(limiter);
+    }
+
+    @Test
+    void constructor_WhenAClassHasNoLimit_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new UserRateLimitFilter("/api", limiter, Map.of(EndpointClass.READ, READS), registry));
+    }
+}
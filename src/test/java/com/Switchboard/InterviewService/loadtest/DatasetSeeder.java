@@ -0,0 +1,122 @@
+package com.Switchboard.InterviewService.loadtest;
+
+import com.Switchboard.InterviewService.model.UuidVersion;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Bulk-loads synthetic interview experiences straight through JDBC, bypassing the service and JPA.
+ * Rows are spread over the last three years in creation order, across a fixed pool of companies and users.
+ */
+final class DatasetSeeder {
+
+    private static final String INSERT = "INSERT INTO interview_experience "
+            + "(id, user_name, user_email, title, content, company_tag, image_name, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] ROLES = {"Backend Engineer", "Frontend Engineer", "SDE II", "Data Engineer", "SRE", "Staff Engineer"};
+    private static final String[] ROUNDS = {
+            "The first round was a phone screen on arrays and hashing. ",
+            "The onsite had two coding rounds and one system design round on a URL shortener. ",
+            "The hiring manager round focused on ownership and conflict resolution. ",
+            "There was a take-home assignment building a small REST service with tests. ",
+            "The bar raiser asked about a production incident and how it was handled. "
+    };
+
+    private final DataSource dataSource;
+    private final int companies;
+    private final int users;
+
+    DatasetSeeder(DataSource dataSource, int companies, int users) {
+        this.dataSource = dataSource;
+        this.companies = companies;
+        this.users = users;
+    }
+
+    static String company(int index) {
+        return String.format("Company-%04d", index);
+    }
+
+    long count() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM interview_experience")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    /** Inserts {@code rows} rows in committed batches, printing progress every million. */
+    void seed(long rows) throws SQLException {
+        SplittableRandom random = new SplittableRandom(rows);
+        LocalDateTime start = LocalDateTime.now().minusYears(3);
+        long spanSeconds = 3L * 365 * 24 * 3600;
+        long began = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            connection.setAutoCommit(false);
+            for (long i = 0; i < rows; i++) {
+                int user = random.nextInt(users);
+                int company = random.nextInt(companies);
+                Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(spanSeconds * i / rows));
+
+                insert.setObject(1, UuidVersion.V7.generate());
+                insert.setString(2, "User " + user);
+                insert.setString(3, "user" + user + "@example.com");
+                insert.setString(4, ROLES[random.nextInt(ROLES.length)] + " interview at " + company(company));
+                insert.setString(5, content(random));
+                insert.setString(6, company(company));
+                insert.setString(7, random.nextInt(4) == 0 ? null
+                        : "https://loadtest-bucket.s3.us-east-1.amazonaws.com/interview-experience/" + i + ".jpg");
+                insert.setTimestamp(8, createdAt);
+                insert.setTimestamp(9, createdAt);
+                insert.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0 || i + 1 == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if ((i + 1) % 1_000_000 == 0) {
+                    System.out.printf("  seeded %,d rows in %ds%n", i + 1, (System.nanoTime() - began) / 1_000_000_000);
+                }
+            }
+        }
+    }
+
+    /** Random ids of existing rows, used as targets for detail views and updates. */
+    List<UUID> sampleIds(int size) throws SQLException {
+        List<UUID> ids = new ArrayList<>(size);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement query = connection.prepareStatement("SELECT id FROM interview_experience ORDER BY RAND() LIMIT ?")) {
+            query.setInt(1, size);
+            try (ResultSet result = query.executeQuery()) {
+                while (result.next()) {
+                    ids.add(result.getObject(1, UUID.class));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static String content(SplittableRandom random) {
+        StringBuilder content = new StringBuilder(600);
+        int rounds = 2 + random.nextInt(4);
+        for (int r = 0; r < rounds; r++) {
+            content.append(ROUNDS[random.nextInt(ROUNDS.length)]);
+        }
+        return content.toString();
+    }
+}
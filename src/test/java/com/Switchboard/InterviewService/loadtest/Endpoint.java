@@ -0,0 +1,29 @@
+package com.Switchboard.InterviewService.loadtest;
+
+/**
+ * Request types in the traffic mix. Default weights approximate production: mostly reads, dominated by the feed.
+ */
+enum Endpoint {
+    FEED("GET /?pageNumber", 40),
+    DETAIL("GET /{id}", 30),
+    COMPANY("GET /company", 10),
+    CREATE("POST /", 10),
+    UPDATE("PUT /{id}", 7),
+    DELETE("DELETE /{id}", 3);
+
+    private final String label;
+    private final int defaultWeight;
+
+    Endpoint(String label, int defaultWeight) {
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+}
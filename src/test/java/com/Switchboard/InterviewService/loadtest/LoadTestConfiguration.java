@@ -0,0 +1,22 @@
+package com.Switchboard.InterviewService.loadtest;
+
+import com.Switchboard.InterviewService.support.InMemoryS3Client;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Beans that replace external services when {@link LoadTestHarness} boots the application.
+ * {@code @TestConfiguration} keeps it out of component scanning in the regular test suite.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    public S3Client inMemoryS3Client() {
+        // Uploads are drained and dropped; keeping every image would exhaust the heap during long runs
+        return new InMemoryS3Client(false);
+    }
+}
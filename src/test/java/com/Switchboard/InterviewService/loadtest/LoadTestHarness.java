@@ -0,0 +1,204 @@
+package com.Switchboard.InterviewService.loadtest;
+
+import com.Switchboard.InterviewService.InterviewServiceApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import javax.sql.DataSource;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Macro benchmark for the whole service: boots {@link InterviewServiceApplication} on file-backed H2,
+ * embedded Redis and an in-memory S3 client, seeds a synthetic dataset, then drives mixed traffic at a
+ * fixed arrival rate and prints throughput and latency percentiles per endpoint.
+ * <p>
+ * Settings are {@code key=value} arguments ({@code -Dloadtest.args="..."} with the {@code loadtest} profile):
+ * <ul>
+ *     <li>{@code rows} rows to seed (default 1000000); {@code reuse=true} keeps a dataset from an earlier run</li>
+ *     <li>{@code companies}, {@code users} size of the company and author pools (500, 50000)</li>
+ *     <li>{@code rate} offered requests per second (200); {@code warmup}, {@code duration} in seconds (30, 60)</li>
+ *     <li>{@code mix} endpoint weights, e.g. {@code feed:40,detail:30,company:10,create:10,update:7,delete:3}</li>
+ *     <li>{@code imageBytes} size of uploaded images (65536); {@code sample} seeded ids to target (10000)</li>
+ *     <li>{@code fault.s3}, {@code fault.db} fault specs for the dependencies, e.g.
+ *     {@code fault.s3=latency-ms=80,sigma=0.6,stall-rate=0.001}; they can also be changed during the run
+ *     through {@code /actuator/faults}</li>
+ *     <li>{@code profile=true} runs the sampling profiler; fetch {@code /actuator/profile/collapsed} before the run ends</li>
+ *     <li>{@code virtual=true} serves requests on virtual threads ({@code spring.threads.virtual.enabled}); compare
+ *     against a platform-thread run with an upload-heavy mix such as {@code mix=create:80,feed:20 fault.s3=latency-ms=80}</li>
+ *     <li>{@code limit=false} turns off the adaptive concurrency limits, to see how the same overload behaves without shedding</li>
+ *     <li>{@code coalesce=local|redis|off} how identical concurrent reads share a query (local); a hot-key mix such as
+ *     {@code mix=detail:80,company:20 sample=20} shows the difference</li>
+ *     <li>{@code pagecache=local|redis|off} where feed and company pages are cached (local); compare a read-heavy mix
+ *     such as {@code mix=feed:60,company:30,create:10} with {@code off}; adding
+ *     {@code fault.db=error-rate=0.3,methods=findAll|findByCompanyTagOrderByCreatedAtDesc} shows stale pages
+ *     standing in for failed reads</li>
+ * </ul>
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> settings = parse(args);
+        long rows = Long.parseLong(settings.getOrDefault("rows", "1000000"));
+        int companies = Integer.parseInt(settings.getOrDefault("companies", "500"));
+        int users = Integer.parseInt(settings.getOrDefault("users", "50000"));
+        double rate = Double.parseDouble(settings.getOrDefault("rate", "200"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(settings.getOrDefault("warmup", "30")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(settings.getOrDefault("duration", "60")));
+        boolean reuse = Boolean.parseBoolean(settings.getOrDefault("reuse", "false"));
+        Map<Endpoint, Integer> mix = mix(settings.get("mix"));
+        String coalesce = settings.getOrDefault("coalesce", "local");
+        String pageCache = settings.getOrDefault("pagecache", "local");
+
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        ConfigurableApplicationContext context = null;
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            context = new SpringApplicationBuilder(InterviewServiceApplication.class, LoadTestConfiguration.class)
+                    .profiles("loadtest")
+                    .properties(
+                            "CONFIG_SERVER_URL=http://localhost:8888",
+                            "spring.data.redis.port=" + redisPort,
+                            "spring.jpa.hibernate.ddl-auto=" + (reuse ? "update" : "create"),
+                            "profiler.enabled=" + settings.getOrDefault("profile", "false"))
+                    .properties(faultProperties(settings))
+                    // As arguments: default properties rank below application.properties, which sets these switches
+                    .run("--spring.threads.virtual.enabled=" + settings.getOrDefault("virtual", "false"),
+                            "--concurrency-limit.enabled=" + settings.getOrDefault("limit", "true"),
+                            "--single-flight.enabled=" + !"off".equals(coalesce),
+                            "--single-flight.mode=" + coalesce,
+                            "--page-cache.enabled=" + !"off".equals(pageCache),
+                            "--page-cache.mode=" + pageCache);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            DatasetSeeder seeder = new DatasetSeeder(context.getBean(DataSource.class), companies, users);
+            long existing = seeder.count();
+            if (existing < rows) {
+                System.out.printf("Seeding %,d rows (%,d present)%n", rows - existing, existing);
+                seeder.seed(rows - existing);
+            }
+            List<UUID> sample = seeder.sampleIds(Integer.parseInt(settings.getOrDefault("sample", "10000")));
+
+            RequestFactory requests = new RequestFactory("http://localhost:" + port, sample, companies, rows,
+                    Integer.parseInt(settings.getOrDefault("imageBytes", "65536")));
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            OpenLoadGenerator generator = new OpenLoadGenerator(client, requests, mix);
+
+            System.out.printf("Warming up for %ds at %.0f req/s%n", warmup.toSeconds(), rate);
+            generator.run(rate, warmup);
+            generator.reset();
+
+            System.out.printf("Measuring for %ds at %.0f req/s over %,d rows%n", duration.toSeconds(), rate, rows);
+            ResourceUsage usage = ResourceUsage.start();
+            generator.run(rate, duration);
+            usage.stop();
+            report(generator, mix, duration);
+            usage.report();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            executor.shutdownNow();
+            redis.stop();
+        }
+    }
+
+    private static void report(OpenLoadGenerator generator, Map<Endpoint, Integer> mix, Duration duration) {
+        System.out.printf("%n%-16s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "ok", "errors", "skipped", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        Histogram total = new Histogram(3);
+        for (Endpoint endpoint : mix.keySet()) {
+            Histogram latencies = generator.latencies(endpoint);
+            total.add(latencies);
+            row(endpoint.label(), latencies, generator.errors(endpoint), generator.skipped(endpoint), duration);
+        }
+        long errors = mix.keySet().stream().mapToLong(generator::errors).sum();
+        long skipped = mix.keySet().stream().mapToLong(generator::skipped).sum();
+        row("all", total, errors, skipped, duration);
+        generator.firstErrors().forEach((endpoint, error) -> System.out.printf("first error on %s: %s%n", endpoint.label(), error));
+    }
+
+    private static void row(String label, Histogram latencies, long errors, long skipped, Duration duration) {
+        System.out.printf(Locale.ROOT, "%-16s %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                label, latencies.getTotalCount(), errors, skipped,
+                latencies.getTotalCount() / (double) duration.toSeconds(),
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> settings = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            settings.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        return settings;
+    }
+
+    /** Maps {@code fault.<target>} settings onto the fault-injection properties of the service. */
+    static Map<String, Object> faultProperties(Map<String, String> settings) {
+        Map<String, Object> properties = new HashMap<>();
+        settings.forEach((key, value) -> {
+            if (key.startsWith("fault.")) {
+                properties.put("fault-injection." + key.substring("fault.".length()), value);
+            }
+        });
+        // Always wired in, so faults can be switched on mid-run even when none were given at startup
+        properties.put("fault-injection.enabled", "true");
+        return properties;
+    }
+
+    static Map<Endpoint, Integer> mix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        if (spec == null || spec.isBlank()) {
+            for (Endpoint endpoint : Endpoint.values()) {
+                mix.put(endpoint, endpoint.defaultWeight());
+            }
+            return mix;
+        }
+        for (String part : spec.split(",")) {
+            String[] pair = part.split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix has no positive weights: " + spec);
+        }
+        return mix;
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.Switchboard.InterviewService.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: arrivals follow a Poisson process at a fixed mean rate and are sent whether or not
+ * earlier requests have completed. Latency is measured from each request's scheduled arrival, not from
+ * when it was actually sent, so a stalled server shows up in the percentiles instead of silently
+ * lowering the offered load (coordinated omission).
+ */
+final class OpenLoadGenerator {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final HttpClient client;
+    private final RequestFactory requests;
+    private final Map<Endpoint, Integer> weights;
+    private final int totalWeight;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> skipped = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, String> firstErrors = new ConcurrentHashMap<>();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    OpenLoadGenerator(HttpClient client, RequestFactory requests, Map<Endpoint, Integer> weights) {
+        this.client = client;
+        this.requests = requests;
+        this.weights = weights;
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+            skipped.put(endpoint, new LongAdder());
+        }
+    }
+
+    /** Offers {@code ratePerSecond} requests per second for {@code duration}, then waits for stragglers. */
+    void run(double ratePerSecond, Duration duration) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long next = start;
+
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            send(pick(random), next);
+            // Exponential gaps give Poisson arrivals; bursts happen just as they do with real users
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    void reset() {
+        latencies.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        skipped.values().forEach(LongAdder::reset);
+        firstErrors.clear();
+    }
+
+    Histogram latencies(Endpoint endpoint) {
+        return latencies.get(endpoint);
+    }
+
+    long errors(Endpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+
+    /** First failure seen per endpoint since the last reset, to tell timeouts from server errors. */
+    Map<Endpoint, String> firstErrors() {
+        return firstErrors;
+    }
+
+    long skipped(Endpoint endpoint) {
+        return skipped.get(endpoint).sum();
+    }
+
+    private Endpoint pick(ThreadLocalRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> weight : weights.entrySet()) {
+            ticket -= weight.getValue();
+            if (ticket < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("weights changed during the run");
+    }
+
+    private void send(Endpoint endpoint, long scheduledAt) {
+        HttpRequest request = requests.build(endpoint);
+        if (request == null) {
+            skipped.get(endpoint).increment();
+            return;
+        }
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            try {
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt);
+                if (failure != null || response.statusCode() >= 400) {
+                    firstErrors.putIfAbsent(endpoint, failure != null ? failure.toString() : "HTTP " + response.statusCode());
+                    errors.get(endpoint).increment();
+                    return;
+                }
+                latencies.get(endpoint).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+                if (endpoint == Endpoint.CREATE) {
+                    requests.created(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+                }
+            } catch (Exception e) {
+                errors.get(endpoint).increment();
+                firstErrors.putIfAbsent(endpoint, e.toString());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.Switchboard.InterviewService.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Builds one HTTP request per arrival. Reads and updates target seeded rows; deletes only remove rows
+ * the harness created itself, so the seeded sample stays valid for the whole run.
+ */
+final class RequestFactory {
+
+    private static final String BOUNDARY = "loadtest-boundary-7d4a";
+    private static final int HOT_PAGES = 5;
+
+    private final String baseUrl;
+    private final List<UUID> sampleIds;
+    private final int companies;
+    private final long pages;
+    private final byte[] image;
+    private final Queue<UUID> created = new ConcurrentLinkedQueue<>();
+
+    RequestFactory(String baseUrl, List<UUID> sampleIds, int companies, long rows, int imageBytes) {
+        this.baseUrl = baseUrl + "/api/v1/interview";
+        this.sampleIds = sampleIds;
+        this.companies = companies;
+        this.pages = Math.max(1, rows / 10);
+        this.image = new byte[imageBytes];
+        ThreadLocalRandom.current().nextBytes(image);
+    }
+
+    void created(UUID id) {
+        created.add(id);
+    }
+
+    /** Returns null when the endpoint has nothing to act on yet, e.g. a delete before any create finished. */
+    HttpRequest build(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case FEED -> {
+                // Most readers stay on the first pages; a tail scrolls deep into the feed
+                long page = random.nextInt(10) < 8 ? random.nextInt(HOT_PAGES) : random.nextLong(pages);
+                yield get("/?pageNumber=" + page + "&pageSize=10");
+            }
+            case DETAIL -> get("/" + sampleIds.get(random.nextInt(sampleIds.size())));
+            case COMPANY -> get("/company?company=" + DatasetSeeder.company(random.nextInt(companies)));
+            case CREATE -> multipart("POST", "/", "Load test " + random.nextInt(1_000_000), true)
+                    .header("X-User-Email", "loadtest" + random.nextInt(1_000) + "@example.com")
+                    .build();
+            case UPDATE -> multipart("PUT", "/" + sampleIds.get(random.nextInt(sampleIds.size())),
+                    "Updated by load test " + random.nextInt(1_000_000), false).build();
+            case DELETE -> {
+                UUID id = created.poll();
+                yield id == null ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest.Builder multipart(String method, String path, String title, boolean withImage) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(image.length + 1024);
+        field(body, "title", title);
+        if (withImage) {
+            field(body, "userName", "Load Tester");
+            field(body, "companyTag", DatasetSeeder.company(ThreadLocalRandom.current().nextInt(companies)));
+            field(body, "content", "Generated by the load-test harness to exercise the create path end to end.");
+            write(body, "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"image\"; filename=\"photo.jpg\"\r\n"
+                    + "Content-Type: image/jpeg\r\n\r\n");
+            body.writeBytes(image);
+            write(body, "\r\n");
+        }
+        write(body, "--" + BOUNDARY + "--\r\n");
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()));
+    }
+
+    private static void field(ByteArrayOutputStream body, String name, String value) {
+        write(body, "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value + "\r\n");
+    }
+
+    private static void write(ByteArrayOutputStream body, String text) {
+        body.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
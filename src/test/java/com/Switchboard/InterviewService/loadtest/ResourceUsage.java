@@ -0,0 +1,67 @@
+package com.Switchboard.InterviewService.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Memory and thread footprint of the process over the measured part of a load test: peak heap used, GC
+ * count and time, and the platform thread high-water mark. Per-thread allocation counters are left out
+ * because they do not cover virtual threads, which would skew exactly the comparison this is for. The harness and
+ * the service share the JVM, so the numbers are comparable between runs of the same harness, not absolute.
+ */
+final class ResourceUsage {
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+    private long startGcMillis;
+    private long startGcCount;
+    private long gcMillis;
+    private long gcCount;
+    private long peakHeap;
+    private int peakThreads;
+
+    private ResourceUsage() {
+    }
+
+    static ResourceUsage start() {
+        ResourceUsage usage = new ResourceUsage();
+        usage.heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        usage.threads.resetPeakThreadCount();
+        usage.startGcMillis = gcMillis();
+        usage.startGcCount = gcCount();
+        return usage;
+    }
+
+    void stop() {
+        gcMillis = gcMillis() - startGcMillis;
+        gcCount = gcCount() - startGcCount;
+        peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        peakThreads = threads.getPeakThreadCount();
+    }
+
+    void report() {
+        System.out.printf(Locale.ROOT, "%nmemory: peak heap %.1f MB, %d GCs taking %d ms; peak platform threads %d%n",
+                peakHeap / 1048576.0, gcCount, gcMillis, peakThreads);
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+}
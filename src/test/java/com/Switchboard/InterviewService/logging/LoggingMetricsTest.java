@@ -0,0 +1,48 @@
+package com.Switchboard.InterviewService.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.helpers.NOPAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggingMetricsTest {
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    private AsyncAppender async;
+
+    @AfterEach
+    void tearDown() {
+        if (async != null) {
+            root.detachAppender(async);
+            async.stop();
+        }
+        TraceSamplingFilter.bindTo(null);
+    }
+
+    @Test
+    void bindTo_ShouldExposeAsyncQueueGauges() {
+        // Arrange
+        async = new AsyncAppender();
+        async.setName("ASYNC_TEST");
+        async.setContext(context);
+        async.setQueueSize(64);
+        async.addAppender(new NOPAppender<>());
+        async.start();
+        root.addAppender(async);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // Act
+        new LoggingMetrics().bindTo(registry);
+
+        // Assert
+        assertEquals(64.0, registry.get("logging.async.queue.capacity").tag("appender", "ASYNC_TEST").gauge().value());
+        assertNotNull(registry.get("logging.async.queue.size").tag("appender", "ASYNC_TEST").gauge());
+    }
+}
@@ -0,0 +1,115 @@
+package com.Switchboard.InterviewService.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceSamplingFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private TraceSamplingFilter filter;
+    private Logger appLogger;
+    private Logger frameworkLogger;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        TraceSamplingFilter.bindTo(registry);
+        filter = new TraceSamplingFilter();
+        filter.setPrefix("com.Switchboard");
+        filter.setRate(0.0);
+        LoggerContext context = new LoggerContext();
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        appLogger = context.getLogger("com.Switchboard.InterviewService.Example");
+        frameworkLogger = context.getLogger("org.hibernate.SQL");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        TraceSamplingFilter.bindTo(null);
+    }
+
+    @Test
+    void decide_ShouldDropRoutineInfoOfUnsampledTrace() {
+        // Arrange
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        // Act
+        FilterReply reply = filter.decide(null, appLogger, Level.INFO, "msg", null, null);
+
+        // Assert
+        assertEquals(FilterReply.DENY, reply);
+        assertEquals(1.0, registry.get(TraceSamplingFilter.METRIC)
+                .tags("logger", appLogger.getName(), "level", "INFO", "outcome", "sampled_out").counter().count());
+    }
+
+    @Test
+    void decide_ShouldAlwaysKeepWarningsMarkedLinesAndLinesOutsideRequests() {
+        // Arrange
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, appLogger, Level.WARN, "msg", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, appLogger, Level.ERROR, "msg", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(TraceSamplingFilter.KEEP, appLogger, Level.INFO, "msg", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, frameworkLogger, Level.INFO, "msg", null, null));
+        MDC.remove("traceId");
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, appLogger, Level.INFO, "msg", null, null));
+        assertEquals(2.0, registry.get(TraceSamplingFilter.METRIC)
+                .tags("logger", appLogger.getName(), "level", "INFO", "outcome", "written").counter().count());
+    }
+
+    @Test
+    void decide_BelowLoggerLevel_ShouldLeaveDecisionToLevelCheckAndNotCount() {
+        // Act
+        FilterReply reply = filter.decide(null, appLogger, Level.DEBUG, "msg", null, null);
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, reply);
+        assertTrue(registry.find(TraceSamplingFilter.METRIC).counters().isEmpty());
+    }
+
+    @Test
+    void decide_WithFullRate_ShouldKeepEverything() {
+        // Arrange
+        filter.setRate(1.0);
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        // Act & Assert
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, appLogger, Level.INFO, "msg", null, null));
+    }
+
+    @Test
+    void sampled_ShouldBeStablePerTraceAndCloseToRate() {
+        // Arrange
+        int kept = 0;
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            String traceId = String.format("%032x", (long) i * 0x9E3779B97F4A7C15L);
+            if (TraceSamplingFilter.sampled(traceId, 1_000)) {
+                kept++;
+            }
+            assertEquals(TraceSamplingFilter.sampled(traceId, 1_000), TraceSamplingFilter.sampled(traceId, 1_000));
+        }
+
+        // Assert
+        assertTrue(kept > 800 && kept < 1_200, "kept " + kept + " of 10000 at a 10% rate");
+    }
+
+    @Test
+    void setRate_OutOfRange_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> filter.setRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> filter.setRate(-0.1));
+    }
+}
@@ -0,0 +1,110 @@
+package com.Switchboard.InterviewService.mapper;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
+import com.Switchboard.InterviewService.metrics.RequestTimings;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterviewExperienceMapperTest {
+
+    private final InterviewExperienceMapper mapper = new InterviewExperienceMapper();
+
+    @Test
+    void toEntity_ShouldCopyEditableFieldsOnly() {
+        // Arrange
+        InterviewExperienceRequest request = InterviewExperienceRequest.builder()
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .title("Interview at Google")
+                .content("Great experience at Google with multiple technical rounds.")
+                .companyTag("Google")
+                .image(new MockMultipartFile("image", "photo.jpg", "image/jpeg", "bytes".getBytes()))
+                .build();
+
+        // Act
+        InterviewExperience result = mapper.toEntity(request);
+
+        // Assert
+        assertEquals("John Doe", result.getUserName());
+        assertEquals("john.doe@example.com", result.getUserEmail());
+        assertEquals("Interview at Google", result.getTitle());
+        assertEquals("Great experience at Google with multiple technical rounds.", result.getContent());
+        assertEquals("Google", result.getCompanyTag());
+        assertNull(result.getId());
+        assertNull(result.getImageName(), "the multipart field name must not leak into imageName");
+        assertNull(result.getVersion());
+    }
+
+    @Test
+    void toResponse_ShouldCopyAllFields() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 2, 15, 30);
+        InterviewExperience experience = new InterviewExperience(id, "Jane Smith", "jane.smith@example.com",
+                "Interview at Amazon", "Amazing interview process at Amazon.", "Amazon",
+                "https://s3.amazonaws.com/bucket/amazon.jpg", createdAt, updatedAt, 4L);
+
+        // Act
+        InterviewExperienceResponse result = mapper.toResponse(experience);
+
+        // Assert
+        assertEquals(id, result.getId());
+        assertEquals("Jane Smith", result.getUserName());
+        assertEquals("jane.smith@example.com", result.getUserEmail());
+        assertEquals("Interview at Amazon", result.getTitle());
+        assertEquals("Amazing interview process at Amazon.", result.getContent());
+        assertEquals("Amazon", result.getCompanyTag());
+        assertEquals("https://s3.amazonaws.com/bucket/amazon.jpg", result.getImageName());
+        assertEquals(createdAt, result.getCreatedAt());
+        assertEquals(updatedAt, result.getUpdatedAt());
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    void toResponses_ShouldPreserveOrder() {
+        // Arrange
+        InterviewExperience first = InterviewExperience.builder().id(UUID.randomUUID()).title("First").build();
+        InterviewExperience second = InterviewExperience.builder().id(UUID.randomUUID()).title("Second").build();
+
+        // Act
+        List<InterviewExperienceResponse> result = mapper.toResponses(List.of(first, second));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(first.getId(), result.get(0).getId());
+        assertEquals(second.getId(), result.get(1).getId());
+    }
+
+    @Test
+    void toResponses_ShouldRecordOneMappingPhasePerList() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        InterviewExperience first = InterviewExperience.builder().id(UUID.randomUUID()).build();
+        InterviewExperience second = InterviewExperience.builder().id(UUID.randomUUID()).build();
+
+        // Act
+        try {
+            mapper.toResponses(List.of(first, second));
+        } finally {
+            RequestTimings.end();
+        }
+
+        // Assert
+        assertEquals(1, timings.calls(RequestTimings.Phase.MAPPING));
+    }
+
+    @Test
+    void nullInput_ShouldMapToNull() {
+        assertNull(mapper.toEntity(null));
+        assertNull(mapper.toResponse(null));
+    }
+}
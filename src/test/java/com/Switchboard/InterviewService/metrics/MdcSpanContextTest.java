@@ -0,0 +1,39 @@
+package com.Switchboard.InterviewService.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MdcSpanContextTest {
+
+    private final MdcSpanContext spanContext = new MdcSpanContext();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void withoutRequest_ShouldNotSample() {
+        // Act & Assert
+        assertFalse(spanContext.isCurrentSpanSampled());
+        assertNull(spanContext.getCurrentTraceId());
+    }
+
+    @Test
+    void withinRequest_ShouldExposeTraceAndSpanIds() {
+        // Arrange
+        MDC.put("traceId", "trace-1");
+        MDC.put("spanId", "span-1");
+
+        // Act
+        spanContext.markCurrentSpanAsExemplar();
+
+        // Assert
+        assertTrue(spanContext.isCurrentSpanSampled());
+        assertEquals("trace-1", spanContext.getCurrentTraceId());
+        assertEquals("span-1", spanContext.getCurrentSpanId());
+    }
+}
@@ -0,0 +1,166 @@
+package com.Switchboard.InterviewService.metrics;
+
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredProxyPostProcessorTest {
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private InterviewExperienceRepository repository;
+
+    private MeterRegistry registry;
+    private MeteredProxyPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        postProcessor = new MeteredProxyPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class), Map.of(
+                FileService.class, MeteredProxyPostProcessor.S3,
+                InterviewExperienceRepository.class, MeteredProxyPostProcessor.DB));
+    }
+
+    @Test
+    void postProcess_ShouldLeaveOtherBeansAlone() {
+        // Arrange
+        Object bean = new Object();
+
+        // Act & Assert
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+
+    @Test
+    void upload_ShouldTimeRequestAndCountBytes() {
+        // Arrange
+        FileService metered = (FileService) postProcessor.postProcessAfterInitialization(fileService, "fileService");
+        when(fileService.uploadBytes(any(), any(), any())).thenReturn("https://bucket/key");
+
+        // Act
+        metered.uploadBytes("key", new byte[1024], "image/png");
+        metered.uploadBytes("key", new byte[512], "image/png");
+
+        // Assert
+        assertEquals(2, registry.get("interview.s3.requests")
+                .tags("method", "uploadBytes", "outcome", "SUCCESS", "exception", "none").timer().count());
+        assertEquals(1536, registry.get("interview.s3.bytes").tag("direction", "uploaded").counter().count());
+        assertEquals(2, registry.get("interview.s3.objects").tag("direction", "uploaded").counter().count());
+    }
+
+    @Test
+    void delete_ShouldCountDeletedObjects() {
+        // Arrange
+        FileService metered = (FileService) postProcessor.postProcessAfterInitialization(fileService, "fileService");
+
+        // Act
+        metered.deleteImage("https://bucket/key");
+
+        // Assert
+        assertEquals(1, registry.get("interview.s3.objects").tag("direction", "deleted").counter().count());
+    }
+
+    @Test
+    void localMethods_ShouldNotBeTimedAsS3Requests() {
+        // Arrange
+        FileService metered = (FileService) postProcessor.postProcessAfterInitialization(fileService, "fileService");
+
+        // Act
+        metered.publicUrl("key");
+
+        // Assert
+        assertNull(registry.find("interview.s3.requests").timer());
+    }
+
+    @Test
+    void failure_ShouldBeTaggedWithExceptionAndRethrown() {
+        // Arrange
+        FileService metered = (FileService) postProcessor.postProcessAfterInitialization(fileService, "fileService");
+        S3Exception failure = (S3Exception) S3Exception.builder().statusCode(503).build();
+        when(fileService.uploadBytes(any(), any(), any())).thenThrow(failure);
+
+        // Act & Assert
+        assertSame(failure, assertThrows(S3Exception.class, () -> metered.uploadBytes("key", new byte[8], "image/png")));
+        assertEquals(1, registry.get("interview.s3.requests")
+                .tags("method", "uploadBytes", "outcome", "ERROR", "exception", "S3Exception").timer().count());
+        assertNull(registry.find("interview.s3.bytes").counter());
+    }
+
+    @Test
+    void failures_ShouldKeepOneTimerPerExceptionType() {
+        // Arrange
+        FileService metered = (FileService) postProcessor.postProcessAfterInitialization(fileService, "fileService");
+        S3Exception unavailable = (S3Exception) S3Exception.builder().statusCode(503).build();
+        when(fileService.uploadBytes(any(), any(), any()))
+                .thenThrow(unavailable, unavailable)
+                .thenThrow(new IllegalStateException("closed"))
+                .thenReturn("https://bucket/key");
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RuntimeException.class, () -> metered.uploadBytes("key", new byte[8], "image/png"));
+        }
+        metered.uploadBytes("key", new byte[8], "image/png");
+
+        // Assert
+        assertEquals(2, registry.get("interview.s3.requests").tag("exception", "S3Exception").timer().count());
+        assertEquals(1, registry.get("interview.s3.requests").tag("exception", "IllegalStateException").timer().count());
+        assertEquals(1, registry.get("interview.s3.requests").tag("outcome", "SUCCESS").timer().count());
+        assertEquals(8, registry.get("interview.s3.bytes").counter().count());
+    }
+
+    @Test
+    void query_ShouldRecordRowsReturned() {
+        // Arrange
+        InterviewExperienceRepository metered =
+                (InterviewExperienceRepository) postProcessor.postProcessAfterInitialization(repository, "repository");
+        when(repository.findByCompanyTagOrderByCreatedAtDesc("Google"))
+                .thenReturn(List.of(new InterviewExperience(), new InterviewExperience(), new InterviewExperience()));
+        when(repository.findImageNameById(any())).thenReturn(Optional.empty());
+
+        // Act
+        metered.findByCompanyTagOrderByCreatedAtDesc("Google");
+        metered.findImageNameById(UUID.randomUUID());
+
+        // Assert
+        assertEquals(1, registry.get("interview.db.queries")
+                .tag("method", "findByCompanyTagOrderByCreatedAtDesc").timer().count());
+        assertEquals(3, registry.get("interview.db.rows").tag("method", "findByCompanyTagOrderByCreatedAtDesc").summary().totalAmount());
+        assertEquals(0, registry.get("interview.db.rows").tag("method", "findImageNameById").summary().totalAmount());
+    }
+
+    @Test
+    void update_ShouldRecordRowsAffected() {
+        // Arrange
+        InterviewExperienceRepository metered =
+                (InterviewExperienceRepository) postProcessor.postProcessAfterInitialization(repository, "repository");
+        when(repository.updateChangedColumns(any(), any(), any())).thenReturn(1);
+
+        // Act
+        metered.updateChangedColumns(UUID.randomUUID(), 0L, Map.of("title", "t"));
+
+        // Assert
+        assertEquals(1, registry.get("interview.db.rows").tag("method", "updateChangedColumns").summary().totalAmount());
+    }
+}
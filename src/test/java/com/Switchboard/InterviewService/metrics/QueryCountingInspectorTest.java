@@ -0,0 +1,26 @@
+package com.Switchboard.InterviewService.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCountingInspectorTest {
+
+    @Test
+    void inspect_ShouldCountAndReturnSqlUnchanged() {
+        // Arrange
+        QueryCountingInspector inspector = new QueryCountingInspector();
+        RequestTimings timings = RequestTimings.begin();
+
+        try {
+            // Act
+            String sql = inspector.inspect("select 1");
+
+            // Assert
+            assertEquals("select 1", sql);
+            assertEquals(1, timings.queries());
+        } finally {
+            RequestTimings.end();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.Switchboard.InterviewService.metrics;
+
+import com.Switchboard.InterviewService.metrics.RequestTimings.Phase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.end();
+    }
+
+    @Test
+    void record_OutsideRequest_ShouldBeIgnored() {
+        // Act & Assert
+        assertDoesNotThrow(() -> {
+            RequestTimings.record(Phase.DB, 1_000_000);
+            RequestTimings.countQuery();
+        });
+    }
+
+    @Test
+    void record_ShouldAccumulatePerPhase() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+
+        // Act
+        RequestTimings.record(Phase.DB, 2_000_000);
+        RequestTimings.record(Phase.DB, 3_000_000);
+        RequestTimings.record(Phase.MAPPING, 400_000);
+        RequestTimings.countQuery();
+
+        // Assert
+        assertEquals(5_000_000, timings.nanos(Phase.DB));
+        assertEquals(2, timings.calls(Phase.DB));
+        assertEquals(400_000, timings.nanos(Phase.MAPPING));
+        assertEquals(0, timings.calls(Phase.S3));
+        assertEquals(1, timings.queries());
+    }
+
+    @Test
+    void serverTiming_ShouldListPhasesThatRan() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimings.record(Phase.DB, 12_345_678);
+        RequestTimings.countQuery();
+        RequestTimings.countQuery();
+        RequestTimings.record(Phase.MAPPING, 250_000);
+
+        // Act
+        String header = timings.serverTiming();
+
+        // Assert
+        assertTrue(header.startsWith("db;dur=12.3;desc=\"Database, 2 queries\", map;dur=0.2;desc=\"DTO mapping\", app;dur="), header);
+        assertFalse(header.contains("s3;"));
+    }
+
+    @Test
+    void serverTiming_ShouldReportQueriesOutsideRepositoryCalls() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimings.countQuery();
+
+        // Act & Assert
+        assertTrue(timings.serverTiming().startsWith("db;dur=0.0;desc=\"Database, 1 query\", app;dur="));
+    }
+
+    @Test
+    void end_ShouldStopRecording() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimings.end();
+
+        // Act
+        RequestTimings.record(Phase.S3, 1_000_000);
+
+        // Assert
+        assertEquals(0, timings.nanos(Phase.S3));
+    }
+
+    @Test
+    void allocatedBytes_ShouldGrowWithAllocationsOnRequestThread() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+
+        // Act
+        byte[] buffer = new byte[1 << 20];
+
+        // Assert
+        assertTrue(timings.allocatedBytes() >= buffer.length);
+    }
+
+    @Test
+    void addOffloadedAllocation_ShouldSumPositiveShares() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+
+        // Act
+        timings.addOffloadedAllocation(1024);
+        timings.addOffloadedAllocation(-1);
+        timings.addOffloadedAllocation(512);
+
+        // Assert
+        assertEquals(1536, timings.offloadedAllocatedBytes());
+    }
+
+    @Test
+    void merge_ShouldAddWhatTheForkRecorded() {
+        // Arrange
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimings.record(Phase.DB, 1_000_000);
+        RequestTimings worker = timings.fork();
+        RequestTimings.attach(worker);
+        RequestTimings.record(Phase.DB, 2_000_000);
+        RequestTimings.countQuery();
+        worker.addOffloadedAllocation(256);
+
+        // Act
+        timings.merge(worker);
+
+        // Assert
+        assertEquals(3_000_000, timings.nanos(Phase.DB));
+        assertEquals(2, timings.calls(Phase.DB));
+        assertEquals(1, timings.queries());
+        assertEquals(256, timings.offloadedAllocatedBytes());
+    }
+}
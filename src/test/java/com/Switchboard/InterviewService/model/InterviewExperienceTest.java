@@ -117,7 +117,8 @@ class InterviewExperienceTest {
                 "Google",
                 "https://s3.amazonaws.com/bucket/image.jpg",
                 now,
-                now
+                now,
+                3L
         );
 
         // Assert
@@ -131,6 +132,7 @@ class InterviewExperienceTest {
         assertEquals("https://s3.amazonaws.com/bucket/image.jpg", result.getImageName());
         assertEquals(now, result.getCreatedAt());
         assertEquals(now, result.getUpdatedAt());
+        assertEquals(3L, result.getVersion());
     }
 
     @Test
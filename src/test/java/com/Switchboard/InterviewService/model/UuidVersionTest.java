@@ -0,0 +1,76 @@
+package com.Switchboard.InterviewService.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidVersionTest {
+
+    @Test
+    void v7_ShouldSetVersionAndVariantBits() {
+        // Act
+        UUID uuid = UuidVersion.V7.generate();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void v7_ShouldEmbedMillisecondTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidVersion.V7.generate();
+
+        // Assert
+        long embedded = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(embedded >= before, "timestamp prefix should not predate the call");
+        assertTrue(embedded <= System.currentTimeMillis() + 1, "timestamp prefix should not run ahead of the clock");
+    }
+
+    @Test
+    void v7_ShouldBeStrictlyIncreasingWithinSameMillisecond() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        List<UUID> ids = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(UuidVersion.timeOrdered(now));
+        }
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, "ids should sort in generation order");
+        }
+    }
+
+    @Test
+    void v7_ShouldKeepOrderWhenClockStepsBack() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        UUID first = UuidVersion.timeOrdered(now);
+
+        // Act
+        UUID second = UuidVersion.timeOrdered(now - 5_000);
+
+        // Assert
+        assertTrue(first.compareTo(second) < 0);
+    }
+
+    @Test
+    void v4_ShouldBeRandomUuid() {
+        // Act
+        UUID uuid = UuidVersion.V4.generate();
+
+        // Assert
+        assertEquals(4, uuid.version());
+        assertNotEquals(uuid, UuidVersion.V4.generate());
+    }
+}
@@ -0,0 +1,46 @@
+package com.Switchboard.InterviewService.profiler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfilerAttributionInterceptorTest {
+
+    private final ProfilerAttributionInterceptor interceptor = new ProfilerAttributionInterceptor();
+
+    @Test
+    void preHandle_ShouldTagThreadWithRouteUntilCompletion() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/interview-experiences/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/interview-experiences/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long threadId = Thread.currentThread().threadId();
+
+        // Act
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        String during = ThreadAttribution.of(threadId);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Assert
+        assertEquals("GET /api/v1/interview-experiences/{id}", during);
+        assertNull(ThreadAttribution.of(threadId));
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_ShouldReleaseServletThread() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/interview/");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/interview/");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+
+        // Act
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // Assert
+        assertNull(ThreadAttribution.of(Thread.currentThread().threadId()));
+    }
+}
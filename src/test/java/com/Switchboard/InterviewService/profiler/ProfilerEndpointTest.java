@@ -0,0 +1,58 @@
+package com.Switchboard.InterviewService.profiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilerEndpointTest {
+
+    @Mock
+    private SamplingProfiler profiler;
+
+    @InjectMocks
+    private ProfilerEndpoint endpoint;
+
+    @Test
+    void collapsed_ShouldPassParsedRange() {
+        // Arrange
+        Instant from = Instant.parse("2025-01-01T10:00:00Z");
+        when(profiler.collapsed(from, null)).thenReturn("root;frame 3\n");
+
+        // Act
+        String result = endpoint.collapsed("collapsed", "2025-01-01T10:00:00Z", "");
+
+        // Assert
+        assertEquals("root;frame 3\n", result);
+    }
+
+    @Test
+    void collapsed_WithInvalidInstant_ShouldRejectRequest() {
+        // Act & Assert
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.collapsed("collapsed", "yesterday", null));
+    }
+
+    @Test
+    void collapsed_WithUnknownFormat_ShouldRejectRequest() {
+        // Act & Assert
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.collapsed("svg", null, null));
+    }
+
+    @Test
+    void windows_ShouldListRetainedWindows() {
+        // Act
+        endpoint.windows();
+
+        // Assert
+        verify(profiler).windows();
+    }
+}
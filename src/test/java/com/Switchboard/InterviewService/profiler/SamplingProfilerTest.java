@@ -0,0 +1,152 @@
+package com.Switchboard.InterviewService.profiler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingProfilerTest {
+
+    private static final long WINDOW = 60_000;
+    private static final long T0 = 1_700_000_040_000L - Math.floorMod(1_700_000_040_000L, WINDOW);
+
+    @AfterEach
+    void tearDown() {
+        ThreadAttribution.clear();
+    }
+
+    private SamplingProfiler profilerForThisThread(int windows, int maxStacks) {
+        return new SamplingProfiler(20, WINDOW, windows, 64, maxStacks, Pattern.compile(Pattern.quote(Thread.currentThread().getName())));
+    }
+
+    @Test
+    void sample_ShouldAttributeStacksToTaggedEndpoint() {
+        // Arrange
+        SamplingProfiler profiler = profilerForThisThread(3, 100);
+        ThreadAttribution.tag("GET /api/v1/interview-experiences");
+
+        // Act
+        profiler.sample(T0);
+        profiler.sample(T0 + 20);
+
+        // Assert
+        String collapsed = profiler.collapsed(null, null);
+        assertTrue(collapsed.startsWith("GET /api/v1/interview-experiences;"), collapsed);
+        assertTrue(collapsed.contains(";" + SamplingProfilerTest.class.getName() + ".sample_ShouldAttributeStacksToTaggedEndpoint;"));
+        assertEquals(Map.of(Instant.ofEpochMilli(T0), 2L), profiler.windows());
+    }
+
+    @Test
+    void collapsed_ShouldOnlyIncludeWindowsInRange() {
+        // Arrange
+        SamplingProfiler profiler = profilerForThisThread(3, 100);
+        ThreadAttribution.tag("first");
+        profiler.sample(T0);
+        ThreadAttribution.tag("second");
+        profiler.sample(T0 + WINDOW);
+
+        // Act
+        String firstOnly = profiler.collapsed(null, Instant.ofEpochMilli(T0 + WINDOW));
+        String secondOnly = profiler.collapsed(Instant.ofEpochMilli(T0 + WINDOW), null);
+
+        // Assert
+        assertTrue(firstOnly.startsWith("first;") && !firstOnly.contains("second;"));
+        assertTrue(secondOnly.startsWith("second;") && !secondOnly.contains("first;"));
+    }
+
+    @Test
+    void sample_ShouldReuseOldestWindowWhenRingWraps() {
+        // Arrange
+        SamplingProfiler profiler = profilerForThisThread(2, 100);
+        ThreadAttribution.tag("old");
+        profiler.sample(T0);
+
+        // Act
+        ThreadAttribution.tag("new");
+        profiler.sample(T0 + 2 * WINDOW);
+
+        // Assert
+        assertFalse(profiler.collapsed(null, null).contains("old;"));
+        assertEquals(1, profiler.windows().size());
+    }
+
+    @Test
+    void sample_ShouldBoundDistinctStacksPerWindow() {
+        // Arrange
+        SamplingProfiler profiler = profilerForThisThread(1, 1);
+        ThreadAttribution.tag("a");
+        profiler.sample(T0);
+
+        // Act
+        ThreadAttribution.tag("b");
+        profiler.sample(T0 + 1);
+
+        // Assert
+        assertTrue(profiler.collapsed(null, null).contains(SamplingProfiler.TRUNCATED + " 1"));
+    }
+
+    @Test
+    void sample_ShouldSkipIdleUnattributedThreads() throws InterruptedException {
+        // Arrange
+        Object lock = new Object();
+        Thread idle = new Thread(() -> {
+            synchronized (lock) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "idle-worker-1");
+        idle.setDaemon(true);
+        idle.start();
+        while (idle.getState() != Thread.State.WAITING) {
+            Thread.sleep(5);
+        }
+        SamplingProfiler profiler = new SamplingProfiler(20, WINDOW, 1, 64, 100, Pattern.compile("idle-worker-\\d+"));
+
+        // Act
+        profiler.sample(T0);
+
+        // Assert
+        assertEquals("", profiler.collapsed(null, null));
+        idle.interrupt();
+    }
+
+    @Test
+    void poolName_ShouldDropThreadNumber() {
+        // Act & Assert
+        assertEquals("[http-nio-8080-exec]", SamplingProfiler.poolName("http-nio-8080-exec-12"));
+        assertEquals("[upload-spool-drainer]", SamplingProfiler.poolName("upload-spool-drainer"));
+    }
+
+    @Test
+    void collapse_ShouldListFramesRootFirst() {
+        // Arrange
+        StackTraceElement[] stack = {
+                new StackTraceElement("com.example.Leaf", "work", "Leaf.java", 10),
+                new StackTraceElement("com.example.Root", "run", "Root.java", 5)
+        };
+
+        // Act & Assert
+        assertEquals("GET /x;com.example.Root.run;com.example.Leaf.work", SamplingProfiler.collapse("GET /x", stack));
+    }
+
+    @Test
+    void startAndStop_ShouldRunSamplingThread() throws InterruptedException {
+        // Arrange
+        SamplingProfiler profiler = new SamplingProfiler(5, WINDOW, 2, 64, 100, Pattern.compile("sampling-profiler"));
+
+        // Act
+        profiler.start();
+        Thread.sleep(50);
+        profiler.stop();
+
+        // Assert
+        assertFalse(profiler.collapsed(null, null).isEmpty(), "the sampler sees itself running");
+    }
+}
@@ -9,7 +9,10 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -194,6 +197,17 @@ class InterviewExperienceRepositoryTest {
         assertEquals("test@example.com", saved.getUserEmail());
     }
 
+    @Test
+    void save_ShouldAssignTimeOrderedIds() {
+        // Act
+        InterviewExperience first = repository.saveAndFlush(experience1);
+        InterviewExperience second = repository.saveAndFlush(experience2);
+
+        // Assert
+        assertEquals(7, first.getId().version());
+        assertTrue(first.getId().compareTo(second.getId()) < 0, "later inserts should get larger ids");
+    }
+
     @Test
     void findById_ShouldReturnExperience() {
         // Arrange
@@ -224,4 +238,178 @@ class InterviewExperienceRepositoryTest {
         var result = repository.findById(id);
         assertFalse(result.isPresent());
     }
+
+    @Test
+    void updateChangedColumns_ShouldWriteOnlyGivenColumnsAndBumpVersion() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+        entityManager.clear();
+        Long version = persisted.getVersion();
+
+        // Act
+        int updated = repository.updateChangedColumns(persisted.getId(), version, Map.of("title", "Interview at Google (edited)"));
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, updated);
+        InterviewExperience reloaded = repository.findById(persisted.getId()).orElseThrow();
+        assertEquals("Interview at Google (edited)", reloaded.getTitle());
+        assertEquals("Great experience at Google with multiple technical rounds.", reloaded.getContent());
+        assertEquals(version + 1, reloaded.getVersion());
+    }
+
+    @Test
+    void updateChangedColumns_WithStaleVersion_ShouldMatchNothing() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act
+        int updated = repository.updateChangedColumns(persisted.getId(), persisted.getVersion() + 1, Map.of("title", "Changed title"));
+
+        // Assert
+        assertEquals(0, updated);
+    }
+
+    @Test
+    void updateChangedColumns_WhenValuesUnchanged_ShouldMatchNothing() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act
+        int updated = repository.updateChangedColumns(persisted.getId(), null,
+                Map.of("title", "Interview at Google", "imageName", "https://s3.amazonaws.com/bucket/google.jpg"));
+
+        // Assert
+        assertEquals(0, updated);
+    }
+
+    @Test
+    void updateChangedColumns_WithNullValue_ShouldClearColumn() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+        entityManager.clear();
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("imageName", null);
+
+        // Act
+        int updated = repository.updateChangedColumns(persisted.getId(), null, changes);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, updated);
+        assertNull(repository.findById(persisted.getId()).orElseThrow().getImageName());
+    }
+
+    @Test
+    void updateReturning_ShouldReturnUpdatedRowAndReplacedImage() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+        Long version = persisted.getVersion();
+
+        // Act
+        Optional<UpdatedExperience> updated = repository.updateReturning(persisted.getId(), version,
+                Map.of("imageName", "https://s3.amazonaws.com/bucket/google-v2.jpg"));
+
+        // Assert
+        assertTrue(updated.isPresent());
+        assertEquals("https://s3.amazonaws.com/bucket/google.jpg", updated.get().previousImageName());
+        assertEquals("https://s3.amazonaws.com/bucket/google-v2.jpg", updated.get().experience().getImageName());
+        assertEquals(version + 1, updated.get().experience().getVersion());
+        assertEquals(experience1.getTitle(), updated.get().experience().getTitle());
+    }
+
+    @Test
+    void updateReturning_WhenCompanyChanges_ShouldReturnPreviousCompany() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act
+        Optional<UpdatedExperience> updated = repository.updateReturning(persisted.getId(), null, Map.of("companyTag", "Alphabet"));
+
+        // Assert
+        assertTrue(updated.isPresent());
+        assertEquals("Google", updated.get().previousCompanyTag());
+        assertEquals("Alphabet", updated.get().experience().getCompanyTag());
+    }
+
+    @Test
+    void updateReturning_WhenNothingMatches_ShouldReturnEmpty() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act & Assert
+        assertTrue(repository.updateReturning(persisted.getId(), persisted.getVersion() + 1, Map.of("title", "Changed title")).isEmpty());
+        assertTrue(repository.updateReturning(persisted.getId(), null, Map.of("title", "Interview at Google")).isEmpty());
+        assertTrue(repository.updateReturning(UUID.randomUUID(), null, Map.of("title", "Changed title")).isEmpty());
+        assertTrue(repository.updateReturning(persisted.getId(), null, Map.of()).isEmpty());
+    }
+
+    @Test
+    void deleteReturning_ShouldDeleteAndReturnImageAndCompany() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        experience2.setImageName(null);
+        InterviewExperience withoutImage = entityManager.persist(experience2);
+        entityManager.flush();
+
+        // Act
+        Optional<DeletedExperience> deleted = repository.deleteReturning(persisted.getId());
+        Optional<DeletedExperience> deletedWithoutImage = repository.deleteReturning(withoutImage.getId());
+        Optional<DeletedExperience> missing = repository.deleteReturning(UUID.randomUUID());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(Optional.of(new DeletedExperience("https://s3.amazonaws.com/bucket/google.jpg", experience1.getCompanyTag())), deleted);
+        assertEquals(Optional.of(new DeletedExperience("", experience2.getCompanyTag())), deletedWithoutImage);
+        assertTrue(missing.isEmpty());
+        assertTrue(repository.findById(persisted.getId()).isEmpty());
+    }
+
+    @Test
+    void findImageNameById_ShouldReturnOnlyImageColumn() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act & Assert
+        assertEquals(Optional.of("https://s3.amazonaws.com/bucket/google.jpg"), repository.findImageNameById(persisted.getId()));
+    }
+
+    @Test
+    void findCompanyTagById_ShouldReturnOnlyCompanyColumn() {
+        // Arrange
+        InterviewExperience persisted = entityManager.persist(experience1);
+        entityManager.flush();
+
+        // Act & Assert
+        assertEquals(Optional.of(experience1.getCompanyTag()), repository.findCompanyTagById(persisted.getId()));
+        assertTrue(repository.findCompanyTagById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void updateImageName_ShouldOnlyFillMissingImage() {
+        // Arrange
+        experience2.setImageName(null);
+        InterviewExperience withImage = entityManager.persist(experience1);
+        InterviewExperience withoutImage = entityManager.persist(experience2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        int filled = repository.updateImageName(withoutImage.getId(), "https://s3.amazonaws.com/bucket/spooled.jpg", LocalDateTime.now());
+        int overwritten = repository.updateImageName(withImage.getId(), "https://s3.amazonaws.com/bucket/spooled.jpg", LocalDateTime.now());
+
+        // Assert
+        assertEquals(1, filled);
+        assertEquals(0, overwritten);
+        assertEquals(Optional.of("https://s3.amazonaws.com/bucket/spooled.jpg"), repository.findImageNameById(withoutImage.getId()));
+        assertEquals(Optional.of("https://s3.amazonaws.com/bucket/google.jpg"), repository.findImageNameById(withImage.getId()));
+    }
 }
@@ -1,8 +1,12 @@
 package com.Switchboard.InterviewService.service.impl;
 
+import com.Switchboard.InterviewService.deadline.DeadlineExceededException;
+import com.Switchboard.InterviewService.deadline.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -14,9 +18,12 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +44,11 @@ class FileServiceImplTest {
         ReflectionTestUtils.setField(fileService, "region", testRegion);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.end();
+    }
+
     @Test
     void uploadImage_WithValidFile_ShouldUploadToS3AndReturnUrl() throws IOException {
         // Arrange
@@ -136,6 +148,63 @@ class FileServiceImplTest {
         verify(s3Client, times(4)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
 
+    @Test
+    void buildKey_ShouldPrefixPathAndKeepOriginalName() {
+        // Act
+        String key = fileService.buildKey("interview-experience", "photo.png");
+
+        // Assert
+        assertTrue(key.startsWith("interview-experience/"));
+        assertTrue(key.endsWith("_photo.png"));
+        assertNotEquals(key, fileService.buildKey("interview-experience", "photo.png"));
+    }
+
+    @Test
+    void uploadBytes_ShouldPutToGivenKeyAndReturnUrl() {
+        // Arrange
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().build());
+
+        // Act
+        String result = fileService.uploadBytes("interview-experience/fixed_key.jpg", "bytes".getBytes(), "image/jpeg");
+
+        // Assert
+        assertEquals("https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/fixed_key.jpg", result);
+        verify(s3Client, times(1)).putObject(argThat((PutObjectRequest r) ->
+                r.key().equals("interview-experience/fixed_key.jpg") && r.contentType().equals("image/jpeg")), any(RequestBody.class));
+    }
+
+    @Test
+    void contentKeyPrefix_ShouldBeStableForSameOwnerAndBytes() {
+        // Arrange
+        java.util.UUID owner = java.util.UUID.randomUUID();
+
+        // Act
+        String first = fileService.contentKeyPrefix("interview-experience", owner, "bytes".getBytes());
+        String second = fileService.contentKeyPrefix("interview-experience", owner, "bytes".getBytes());
+        String otherBytes = fileService.contentKeyPrefix("interview-experience", owner, "other".getBytes());
+
+        // Assert
+        assertEquals(first, second);
+        assertNotEquals(first, otherBytes);
+        assertTrue(first.startsWith("interview-experience/" + owner + "_"));
+    }
+
+    @Test
+    void buildContentKey_ShouldBeUniquePerUploadUnderThePrefix() {
+        // Arrange
+        String prefix = fileService.contentKeyPrefix("interview-experience", java.util.UUID.randomUUID(), "bytes".getBytes());
+
+        // Act
+        String first = fileService.buildContentKey(prefix, "photo.png");
+        String second = fileService.buildContentKey(prefix, "photo.png");
+
+        // Assert
+        assertNotEquals(first, second);
+        assertTrue(first.startsWith(prefix));
+        assertTrue(first.endsWith("_photo.png"));
+    }
+
     @Test
     void deleteImage_WithValidUrl_ShouldDeleteFromS3() {
         // Arrange
@@ -195,7 +264,86 @@ class FileServiceImplTest {
             fileService.deleteImage(fileUrl);
         });
     }
+
+    @Test
+    void uploadBytes_WhenS3Fails_ShouldReleasePermit() {
+        // Arrange
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(new RuntimeException("S3 upload failed"));
+
+        // Act
+        assertThrows(RuntimeException.class, () -> fileService.uploadBytes("interview-experience/a.jpg", new byte[1], "image/jpeg"));
+
+        // Assert
+        assertEquals(FileServiceImpl.DEFAULT_MAX_CONCURRENCY, fileService.availablePermits());
+    }
+
+    @Test
+    void uploadBytes_WhenConcurrencyLimitReached_ShouldRejectWithoutCallingS3() {
+        // Arrange
+        fileService.setMaxConcurrency(0);
+        ReflectionTestUtils.setField(fileService, "acquireTimeoutMs", 1L);
+
+        // Act & Assert
+        assertThrows(RejectedExecutionException.class,
+                () -> fileService.uploadBytes("interview-experience/a.jpg", new byte[1], "image/jpeg"));
+        assertThrows(RejectedExecutionException.class,
+                () -> fileService.deleteImage("https://" + testBucket + ".s3." + testRegion + ".amazonaws.com/interview-experience/a.jpg"));
+        verifyNoInteractions(s3Client);
+    }
     
+    @Test
+    void uploadBytes_WithinDeadline_ShouldCapTheS3CallAtTheRemainingTime() {
+        // Arrange
+        RequestDeadline.begin(5000);
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        when(s3Client.putObject(request.capture(), any(RequestBody.class))).thenReturn(PutObjectResponse.builder().build());
+
+        // Act
+        fileService.uploadBytes("interview-experience/a.jpg", new byte[1], "image/jpeg");
+
+        // Assert
+        Duration timeout = request.getValue().overrideConfiguration().orElseThrow().apiCallTimeout().orElseThrow();
+        assertTrue(timeout.toMillis() > 0 && timeout.toMillis() <= 5000, "timeout was " + timeout);
+    }
+
+    @Test
+    void uploadBytes_WithoutDeadline_ShouldLeaveTheSdkTimeoutAlone() {
+        // Arrange
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        when(s3Client.putObject(request.capture(), any(RequestBody.class))).thenReturn(PutObjectResponse.builder().build());
+
+        // Act
+        fileService.uploadBytes("interview-experience/a.jpg", new byte[1], "image/jpeg");
+
+        // Assert
+        assertTrue(request.getValue().overrideConfiguration().isEmpty());
+    }
+
+    @Test
+    void uploadBytes_AfterDeadline_ShouldFailWithoutCallingS3() {
+        // Arrange
+        RequestDeadline.begin(0);
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class,
+                () -> fileService.uploadBytes("interview-experience/a.jpg", new byte[1], "image/jpeg"));
+        verifyNoInteractions(s3Client);
+        assertEquals(FileServiceImpl.DEFAULT_MAX_CONCURRENCY, fileService.availablePermits());
+    }
+
+    @Test
+    void uploadBytes_WhenDeadlinePassesWaitingForPermit_ShouldFailWithDeadlineExceeded() {
+        // Arrange
+        fileService.setMaxConcurrency(0);
+        RequestDeadline.begin(20);
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class,
+                () -> fileService.uploadBytes("interview-experience/a.jpg", new byte[1], "image/jpeg"));
+        verifyNoInteractions(s3Client);
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> java.util.function.Consumer<T> anyConsumer() {
         return any(java.util.function.Consumer.class);
@@ -3,27 +3,40 @@ package com.Switchboard.InterviewService.service.impl;
 import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
 import com.Switchboard.InterviewService.dto.InterviewExperienceResponse;
 import com.Switchboard.InterviewService.dto.PageResponseDTO;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
 import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.DeletedExperience;
 import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.repository.UpdatedExperience;
 import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.InterviewExperienceChangedEvent;
+import com.Switchboard.InterviewService.spool.UploadSpool;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,7 +53,16 @@ class InterviewExperienceServiceImplTest {
     private FileService fileService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private UploadSpool uploadSpool;
+
+    @Spy
+    private InterviewExperienceMapper mapper = new InterviewExperienceMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private InterviewExperienceServiceImpl service;
@@ -90,9 +112,9 @@ class InterviewExperienceServiceImplTest {
     @Test
     void createInterviewExperience_WithoutImage_ShouldSaveAndReturnResponse() {
         // Arrange
-        when(modelMapper.map(request, InterviewExperience.class)).thenReturn(entity);
+        doReturn(entity).when(mapper).toEntity(request);
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
         InterviewExperienceResponse result = service.createInterviewExperience(request, null);
@@ -102,15 +124,33 @@ class InterviewExperienceServiceImplTest {
         assertEquals(response.getUserName(), result.getUserName());
         assertEquals(response.getUserEmail(), result.getUserEmail());
         verify(repository, times(1)).save(any(InterviewExperience.class));
+        verify(eventPublisher).publishEvent(new InterviewExperienceChangedEvent(Set.of("Amazon")));
+    }
+
+    @Test
+    void createInterviewExperienceWithSpooledImage_ShouldSpoolImageUnderTheNewId() throws IOException {
+        // Arrange
+        request.setImage(new MockMultipartFile("image", "photo.jpg", "image/jpeg", "image".getBytes()));
+        doReturn(entity).when(mapper).toEntity(request);
+        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
+        doReturn(response).when(mapper).toResponse(entity);
+        when(fileService.buildKey(anyString(), eq("photo.jpg"))).thenReturn("interview-experience/abc_photo.jpg");
+
+        // Act
+        InterviewExperienceResponse result = service.createInterviewExperienceWithSpooledImage(request);
+
+        // Assert
+        assertEquals(response, result);
+        verify(uploadSpool).append(response.getId(), "interview-experience/abc_photo.jpg", "image/jpeg", "image".getBytes());
     }
 
     @Test
     void createInterviewExperience_WithImage_ShouldSetImageUrlAndSave() {
         // Arrange
         String imageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
-        when(modelMapper.map(request, InterviewExperience.class)).thenReturn(entity);
+        doReturn(entity).when(mapper).toEntity(request);
         when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
         InterviewExperienceResponse result = service.createInterviewExperience(request, imageUrl);
@@ -128,7 +168,7 @@ class InterviewExperienceServiceImplTest {
         String email = "jane.smith@example.com";
         List<InterviewExperience> experiences = Arrays.asList(entity);
         when(repository.findByUserEmailOrderByCreatedAtDesc(email)).thenReturn(experiences);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(List.of(response)).when(mapper).toResponses(experiences);
 
         // Act
         List<InterviewExperienceResponse> result = service.searchByEmail(email);
@@ -161,7 +201,7 @@ class InterviewExperienceServiceImplTest {
         String company = "Amazon";
         List<InterviewExperience> experiences = Arrays.asList(entity);
         when(repository.findByCompanyTagOrderByCreatedAtDesc(company)).thenReturn(experiences);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(List.of(response)).when(mapper).toResponses(experiences);
 
         // Act
         List<InterviewExperienceResponse> result = service.searchByCompany(company);
@@ -196,7 +236,7 @@ class InterviewExperienceServiceImplTest {
         Page<InterviewExperience> page = new PageImpl<>(experiences, pageRequest, 1);
         
         when(repository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(List.of(response)).when(mapper).toResponses(experiences);
 
         // Act
         PageResponseDTO result = service.getAllInterviews(0, 10, "updatedAt", "asc");
@@ -220,7 +260,7 @@ class InterviewExperienceServiceImplTest {
         Page<InterviewExperience> page = new PageImpl<>(experiences, pageRequest, 25);
         
         when(repository.findAll(any(PageRequest.class))).thenReturn(page);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(List.of(response)).when(mapper).toResponses(experiences);
 
         // Act
         PageResponseDTO result = service.getAllInterviews(1, 20, "createdAt", "desc");
@@ -237,7 +277,7 @@ class InterviewExperienceServiceImplTest {
     void getInterviewById_WhenExists_ShouldReturnResponse() {
         // Arrange
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
         InterviewExperienceResponse result = service.getInterviewById(testId);
@@ -266,119 +306,126 @@ class InterviewExperienceServiceImplTest {
     @Test
     void deleteInterviewExperience_WithoutImage_ShouldDeleteEntity() {
         // Arrange
-        entity.setImageName(null);
-        when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        doNothing().when(repository).delete(entity);
+        when(repository.deleteReturning(testId)).thenReturn(Optional.of(new DeletedExperience("", "Amazon")));
 
         // Act
         service.deleteInterviewExperience(testId);
 
         // Assert
-        verify(repository, times(1)).findById(testId);
-        verify(repository, times(1)).delete(entity);
+        verify(repository, times(1)).deleteReturning(testId);
+        verify(repository, never()).findById(any());
         verify(fileService, never()).deleteImage(anyString());
+        verify(eventPublisher).publishEvent(new InterviewExperienceChangedEvent(Set.of("Amazon")));
     }
 
     @Test
     void deleteInterviewExperience_WithImage_ShouldDeleteImageAndEntity() {
         // Arrange
-        when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        doNothing().when(fileService).deleteImage(entity.getImageName());
-        doNothing().when(repository).delete(entity);
+        when(repository.deleteReturning(testId)).thenReturn(Optional.of(new DeletedExperience(entity.getImageName(), "Amazon")));
 
         // Act
         service.deleteInterviewExperience(testId);
 
         // Assert
-        verify(repository, times(1)).findById(testId);
+        verify(repository, times(1)).deleteReturning(testId);
         verify(fileService, times(1)).deleteImage(entity.getImageName());
-        verify(repository, times(1)).delete(entity);
-    }
-
-    @Test
-    void deleteInterviewExperience_WithEmptyImageName_ShouldNotDeleteImage() {
-        // Arrange
-        entity.setImageName("");
-        when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        doNothing().when(repository).delete(entity);
-
-        // Act
-        service.deleteInterviewExperience(testId);
-
-        // Assert
-        verify(repository, times(1)).findById(testId);
-        verify(fileService, never()).deleteImage(anyString());
-        verify(repository, times(1)).delete(entity);
     }
 
     @Test
     void deleteInterviewExperience_WhenNotFound_ShouldThrowException() {
         // Arrange
-        when(repository.findById(testId)).thenReturn(Optional.empty());
+        when(repository.deleteReturning(testId)).thenReturn(Optional.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             service.deleteInterviewExperience(testId);
         });
-        
+
         assertEquals("Interview Experience not found", exception.getMessage());
-        verify(repository, times(1)).findById(testId);
-        verify(repository, never()).delete(any());
+        verify(fileService, never()).deleteImage(anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
     void deleteInterviewExperience_WhenS3DeleteFails_ShouldStillDeleteEntity() {
         // Arrange
-        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        when(repository.deleteReturning(testId)).thenReturn(Optional.of(new DeletedExperience(entity.getImageName(), "Amazon")));
         doThrow(new RuntimeException("S3 delete failed")).when(fileService).deleteImage(anyString());
-        doNothing().when(repository).delete(entity);
 
-        // Act
-        service.deleteInterviewExperience(testId);
-
-        // Assert
-        verify(repository, times(1)).findById(testId);
+        // Act & Assert
+        assertDoesNotThrow(() -> service.deleteInterviewExperience(testId));
+        verify(repository, times(1)).deleteReturning(testId);
         verify(fileService, times(1)).deleteImage(entity.getImageName());
-        verify(repository, times(1)).delete(entity);
     }
 
     @Test
-    void updateInterviewExperience_WithoutNewImage_ShouldUpdateFields() throws IOException {
+    void updateInterviewExperience_WithoutNewImage_ShouldIssueSingleConditionalUpdate() throws IOException {
         // Arrange
-        when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, entity.getImageName(), entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
-        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, null);
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, null, null);
 
         // Assert
         assertNotNull(result);
-        verify(repository, times(1)).findById(testId);
-        verify(repository, times(1)).save(any(InterviewExperience.class));
-        verify(fileService, never()).uploadImage(anyString(), any());
+        verify(repository, times(1)).updateReturning(eq(testId), isNull(), anyMap());
+        verify(repository, never()).save(any());
+        verify(repository, never()).findImageNameById(any());
+        verify(fileService, never()).uploadBytes(anyString(), any(), any());
         verify(fileService, never()).deleteImage(anyString());
     }
 
+    @Test
+    void updateInterviewExperience_ShouldWriteAllProvidedFields() throws IOException {
+        // Arrange
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, entity.getImageName(), entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        service.updateInterviewExperience(testId, request, null, null);
+
+        // Assert
+        verify(repository, times(1)).updateReturning(eq(testId), isNull(), eq(Map.of(
+                "userName", request.getUserName(),
+                "userEmail", request.getUserEmail(),
+                "title", request.getTitle(),
+                "content", request.getContent(),
+                "companyTag", request.getCompanyTag())));
+    }
+
+    @Test
+    void updateInterviewExperience_WithOmittedFields_ShouldOnlyWriteProvidedColumns() throws IOException {
+        // Arrange
+        InterviewExperienceRequest titleOnly = InterviewExperienceRequest.builder().title("Fixed typo in title").build();
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, entity.getImageName(), entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        service.updateInterviewExperience(testId, titleOnly, null, null);
+
+        // Assert
+        verify(repository, times(1)).updateReturning(eq(testId), isNull(), eq(Map.of("title", "Fixed typo in title")));
+    }
+
     @Test
     void updateInterviewExperience_WithEmptyImage_ShouldNotUploadOrDelete() throws IOException {
         // Arrange
         MockMultipartFile emptyFile = new MockMultipartFile("image", "", "image/jpeg", new byte[0]);
-        when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, entity.getImageName(), entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
-        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, emptyFile);
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, emptyFile, null);
 
         // Assert
         assertNotNull(result);
-        verify(fileService, never()).uploadImage(anyString(), any());
+        verify(fileService, never()).uploadBytes(anyString(), any(), any());
         verify(fileService, never()).deleteImage(anyString());
     }
 
     @Test
-    void updateInterviewExperience_WithNewImage_ShouldDeleteOldAndUploadNew() throws IOException {
+    void updateInterviewExperience_WithNewImage_ShouldUploadThenUpdateThenDeleteOld() throws IOException {
         // Arrange
         MockMultipartFile newFile = new MockMultipartFile(
                 "image",
@@ -386,29 +433,56 @@ class InterviewExperienceServiceImplTest {
                 "image/jpeg",
                 "new image content".getBytes()
         );
-        String newImageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
-        String oldImageUrl = entity.getImageName(); // Get old image URL before the test
-        
+        String key = "interview-experience/" + testId + "_abc_new-image.jpg";
+        String newImageUrl = "https://s3.amazonaws.com/bucket/" + key;
+        String oldImageUrl = entity.getImageName();
+
+        when(fileService.contentKeyPrefix(anyString(), eq(testId), any())).thenReturn("prefix_");
+        when(repository.findImageNameById(testId)).thenReturn(Optional.of(entity.getImageName()));
+        when(fileService.publicUrl("prefix_")).thenReturn("https://s3.amazonaws.com/bucket/prefix_");
+        when(fileService.buildContentKey("prefix_", "new-image.jpg")).thenReturn(key);
+        when(fileService.uploadBytes(eq(key), any(), eq("image/jpeg"))).thenReturn(newImageUrl);
+        entity.setImageName(newImageUrl);
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, oldImageUrl, entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newFile, null);
+
+        // Assert
+        assertNotNull(result);
+        InOrder inOrder = inOrder(fileService, repository);
+        inOrder.verify(fileService).uploadBytes(eq(key), any(), eq("image/jpeg"));
+        inOrder.verify(repository).updateReturning(eq(testId), isNull(), argThat(changes -> newImageUrl.equals(changes.get("imageName"))));
+        inOrder.verify(fileService).deleteImage(oldImageUrl);
+    }
+
+    @Test
+    void updateInterviewExperience_WithSameImageBytes_ShouldSkipUploadAndWriteNothing() throws IOException {
+        // Arrange
+        MockMultipartFile sameFile = new MockMultipartFile("image", "image.jpg", "image/jpeg", "same".getBytes());
+        entity.setImageName("https://s3.amazonaws.com/bucket/prefix_" + UUID.randomUUID() + "_image.jpg");
+        when(fileService.contentKeyPrefix(anyString(), eq(testId), any())).thenReturn("prefix_");
+        when(repository.findImageNameById(testId)).thenReturn(Optional.of(entity.getImageName()));
+        when(fileService.publicUrl("prefix_")).thenReturn("https://s3.amazonaws.com/bucket/prefix_");
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.empty());
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        doNothing().when(fileService).deleteImage(anyString());
-        when(fileService.uploadImage(anyString(), any())).thenReturn(newImageUrl);
-        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
-        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newFile);
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, sameFile, null);
 
         // Assert
         assertNotNull(result);
-        verify(fileService, times(1)).deleteImage(oldImageUrl);  // Verify old image was deleted
-        verify(fileService, times(1)).uploadImage(anyString(), any());
-        verify(repository, times(1)).save(any(InterviewExperience.class));
+        verify(fileService, never()).uploadBytes(anyString(), any(), anyString());
+        verify(repository).updateReturning(eq(testId), isNull(), argThat(changes -> !changes.containsKey("imageName")));
+        verify(fileService, never()).deleteImage(anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
     void updateInterviewExperience_WithNewImageButNoOldImage_ShouldOnlyUploadNew() throws IOException {
         // Arrange
-        entity.setImageName(null);
         MockMultipartFile newFile = new MockMultipartFile(
                 "image",
                 "new-image.jpg",
@@ -416,53 +490,248 @@ class InterviewExperienceServiceImplTest {
                 "new image content".getBytes()
         );
         String newImageUrl = "https://s3.amazonaws.com/bucket/new-image.jpg";
-        
-        when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        when(fileService.uploadImage(anyString(), any())).thenReturn(newImageUrl);
-        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+
+        when(fileService.contentKeyPrefix(anyString(), eq(testId), any())).thenReturn("prefix_");
+        when(repository.findImageNameById(testId)).thenReturn(Optional.empty());
+        when(fileService.buildContentKey(eq("prefix_"), anyString())).thenReturn("key");
+        when(fileService.uploadBytes(eq("key"), any(), anyString())).thenReturn(newImageUrl);
+        entity.setImageName(newImageUrl);
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, null, entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
-        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newFile);
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, newFile, null);
 
         // Assert
         assertNotNull(result);
         verify(fileService, never()).deleteImage(anyString());
-        verify(fileService, times(1)).uploadImage(anyString(), any());
+        verify(fileService, times(1)).uploadBytes(eq("key"), any(), anyString());
+    }
+
+    @Test
+    void updateInterviewExperience_WithSameImageAndOtherChanges_ShouldKeepCurrentObject() throws IOException {
+        // Arrange
+        MockMultipartFile sameFile = new MockMultipartFile("image", "image.jpg", "image/jpeg", "same".getBytes());
+        entity.setImageName("https://s3.amazonaws.com/bucket/prefix_" + UUID.randomUUID() + "_image.jpg");
+        when(fileService.contentKeyPrefix(anyString(), eq(testId), any())).thenReturn("prefix_");
+        when(repository.findImageNameById(testId)).thenReturn(Optional.of(entity.getImageName()));
+        when(fileService.publicUrl("prefix_")).thenReturn("https://s3.amazonaws.com/bucket/prefix_");
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, entity.getImageName(), entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        service.updateInterviewExperience(testId, request, sameFile, null);
+
+        // Assert
+        verify(fileService, never()).uploadBytes(anyString(), any(), anyString());
+        verify(fileService, never()).deleteImage(anyString());
     }
 
     @Test
     void updateInterviewExperience_WhenNotFound_ShouldThrowException() {
         // Arrange
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.empty());
         when(repository.findById(testId)).thenReturn(Optional.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            service.updateInterviewExperience(testId, request, null);
+            service.updateInterviewExperience(testId, request, null, null);
         });
-        
+
         assertEquals("Interview Experience not found", exception.getMessage());
-        verify(repository, times(1)).findById(testId);
         verify(repository, never()).save(any());
     }
 
     @Test
-    void updateInterviewExperience_ShouldUpdateAllFields() throws IOException {
+    void updateInterviewExperience_WithStaleVersion_ShouldThrowConflictAndDiscardUpload() throws IOException {
         // Arrange
+        entity.setVersion(3L);
+        MockMultipartFile newFile = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes());
+        String newImageUrl = "https://s3.amazonaws.com/bucket/new.jpg";
+        when(fileService.contentKeyPrefix(anyString(), eq(testId), any())).thenReturn("prefix_");
+        when(repository.findImageNameById(testId)).thenReturn(Optional.of(entity.getImageName()));
+        when(fileService.publicUrl("prefix_")).thenReturn("https://s3.amazonaws.com/bucket/prefix_");
+        when(fileService.buildContentKey(eq("prefix_"), anyString())).thenReturn("key");
+        when(fileService.uploadBytes(eq("key"), any(), anyString())).thenReturn(newImageUrl);
+        when(repository.updateReturning(eq(testId), eq(2L), anyMap())).thenReturn(Optional.empty());
         when(repository.findById(testId)).thenReturn(Optional.of(entity));
-        when(repository.save(any(InterviewExperience.class))).thenReturn(entity);
-        when(modelMapper.map(entity, InterviewExperienceResponse.class)).thenReturn(response);
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+            service.updateInterviewExperience(testId, request, newFile, 2L);
+        });
+        verify(fileService, times(1)).deleteImage(newImageUrl);
+        verify(fileService, never()).deleteImage(entity.getImageName());
+    }
+
+    @Test
+    void updateInterviewExperience_WhenNothingChanged_ShouldReturnCurrentState() throws IOException {
+        // Arrange
+        entity.setVersion(2L);
+        when(repository.updateReturning(eq(testId), eq(2L), anyMap())).thenReturn(Optional.empty());
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        doReturn(response).when(mapper).toResponse(entity);
 
         // Act
-        service.updateInterviewExperience(testId, request, null);
+        InterviewExperienceResponse result = service.updateInterviewExperience(testId, request, null, 2L);
 
         // Assert
-        verify(repository, times(1)).save(argThat(exp ->
-            exp.getUserName().equals(request.getUserName()) &&
-            exp.getUserEmail().equals(request.getUserEmail()) &&
-            exp.getTitle().equals(request.getTitle()) &&
-            exp.getContent().equals(request.getContent()) &&
-            exp.getCompanyTag().equals(request.getCompanyTag())
-        ));
+        assertEquals(response, result);
+        verify(fileService, never()).deleteImage(anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void patchInterviewExperience_ShouldWriteOnlyPatchedColumns() {
+        // Arrange
+        entity.setVersion(4L);
+        when(repository.updateReturning(eq(testId), eq(3L), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, entity.getImageName(), entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        InterviewExperienceResponse result = service.patchInterviewExperience(testId, Map.of("title", "Fixed typo in title"), 3L);
+
+        // Assert
+        assertEquals(response, result);
+        verify(repository, times(1)).updateReturning(eq(testId), eq(3L), eq(Map.of("title", "Fixed typo in title")));
+        verify(repository, never()).findImageNameById(any());
+        verify(repository, never()).findCompanyTagById(any());
+        verifyNoInteractions(fileService);
+        verify(eventPublisher).publishEvent(new InterviewExperienceChangedEvent(Set.of("Amazon")));
+    }
+
+    @Test
+    void patchInterviewExperience_WhenCompanyChanges_ShouldNameOldAndNewCompany() {
+        // Arrange
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, entity.getImageName(), "Google")));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        service.patchInterviewExperience(testId, Map.of("companyTag", "Amazon"), null);
+
+        // Assert
+        verify(repository, never()).findCompanyTagById(any());
+        verify(eventPublisher).publishEvent(new InterviewExperienceChangedEvent(Set.of("Google", "Amazon")));
+    }
+
+    @Test
+    void patchInterviewExperience_WithUnknownField_ShouldThrowWithoutTouchingRepository() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            service.patchInterviewExperience(testId, Map.of("imageName", "https://evil.example.com/x.jpg"), null);
+        });
+
+        assertEquals("Field 'imageName' cannot be patched", exception.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void patchInterviewExperience_WithNullMember_ShouldRejectRemovalOfRequiredField() {
+        // Arrange
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("content", null);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            service.patchInterviewExperience(testId, patch, null);
+        });
+
+        assertEquals("Field 'content' must be a non-null string", exception.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void patchInterviewExperience_WithInvalidValue_ShouldReportConstraintMessage() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            service.patchInterviewExperience(testId, Map.of("userEmail", "not-an-email"), null);
+        });
+
+        assertEquals("Invalid email format", exception.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void patchInterviewExperience_WithStaleVersion_ShouldThrowConflict() {
+        // Arrange
+        entity.setVersion(5L);
+        when(repository.updateReturning(eq(testId), eq(4L), anyMap())).thenReturn(Optional.empty());
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+            service.patchInterviewExperience(testId, Map.of("companyTag", "Meta"), 4L);
+        });
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void replaceImage_ShouldUploadThenUpdateThenDeleteOld() throws IOException {
+        // Arrange
+        MockMultipartFile newFile = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes());
+        String newImageUrl = "https://s3.amazonaws.com/bucket/new.jpg";
+        String oldImageUrl = entity.getImageName();
+        when(fileService.contentKeyPrefix(anyString(), eq(testId), any())).thenReturn("prefix_");
+        when(repository.findImageNameById(testId)).thenReturn(Optional.of(entity.getImageName()));
+        when(fileService.publicUrl("prefix_")).thenReturn("https://s3.amazonaws.com/bucket/prefix_");
+        when(fileService.buildContentKey("prefix_", "new.jpg")).thenReturn("key");
+        when(fileService.uploadBytes(eq("key"), any(), eq("image/jpeg"))).thenReturn(newImageUrl);
+        entity.setImageName(newImageUrl);
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, oldImageUrl, entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        InterviewExperienceResponse result = service.replaceImage(testId, newFile, null);
+
+        // Assert
+        assertNotNull(result);
+        InOrder inOrder = inOrder(fileService, repository);
+        inOrder.verify(fileService).uploadBytes(eq("key"), any(), eq("image/jpeg"));
+        inOrder.verify(repository).updateReturning(eq(testId), isNull(), eq(Map.of("imageName", newImageUrl)));
+        inOrder.verify(fileService).deleteImage(oldImageUrl);
+    }
+
+    @Test
+    void replaceImage_WithEmptyFile_ShouldThrow() {
+        // Arrange
+        MockMultipartFile emptyFile = new MockMultipartFile("image", "", "image/jpeg", new byte[0]);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.replaceImage(testId, emptyFile, null));
+        verifyNoInteractions(repository, fileService);
+    }
+
+    @Test
+    void removeImage_ShouldClearColumnThenDeleteObject() {
+        // Arrange
+        String oldImageUrl = entity.getImageName();
+        Map<String, Object> expectedChanges = new HashMap<>();
+        expectedChanges.put("imageName", null);
+        entity.setImageName(null);
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.of(new UpdatedExperience(entity, oldImageUrl, entity.getCompanyTag())));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        service.removeImage(testId, null);
+
+        // Assert
+        InOrder inOrder = inOrder(repository, fileService);
+        inOrder.verify(repository).updateReturning(eq(testId), isNull(), eq(expectedChanges));
+        inOrder.verify(fileService).deleteImage(oldImageUrl);
+    }
+
+    @Test
+    void removeImage_WhenAlreadyWithoutImage_ShouldNotTouchS3() {
+        // Arrange
+        entity.setImageName(null);
+        when(repository.updateReturning(eq(testId), isNull(), anyMap())).thenReturn(Optional.empty());
+        when(repository.findById(testId)).thenReturn(Optional.of(entity));
+        doReturn(response).when(mapper).toResponse(entity);
+
+        // Act
+        service.removeImage(testId, null);
+
+        // Assert
+        verifyNoInteractions(fileService);
     }
 }
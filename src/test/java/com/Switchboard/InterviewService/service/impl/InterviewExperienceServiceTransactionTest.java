@@ -0,0 +1,161 @@
+package com.Switchboard.InterviewService.service.impl;
+
+import com.Switchboard.InterviewService.dto.InterviewExperienceRequest;
+import com.Switchboard.InterviewService.mapper.InterviewExperienceMapper;
+import com.Switchboard.InterviewService.model.InterviewExperience;
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.spool.UploadSpool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies against a real transaction manager that S3 calls never run while a database transaction is open.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({InterviewExperienceServiceImpl.class, InterviewExperienceMapper.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InterviewExperienceServiceTransactionTest {
+
+    @Autowired
+    private InterviewExperienceServiceImpl service;
+
+    @Autowired
+    private InterviewExperienceRepository repository;
+
+    @MockitoBean
+    private FileService fileService;
+
+    @MockitoBean
+    private UploadSpool uploadSpool;
+
+    private UUID id;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        id = repository.save(InterviewExperience.builder()
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .title("Interview at Google")
+                .content("Great experience at Google with multiple technical rounds.")
+                .companyTag("Google")
+                .imageName("https://bucket.s3.us-east-1.amazonaws.com/interview-experience/old.jpg")
+                .build()).getId();
+
+        when(fileService.contentKeyPrefix(anyString(), any(), any())).thenReturn("interview-experience/abc_");
+        when(fileService.buildContentKey(anyString(), anyString())).thenReturn("interview-experience/new.jpg");
+        when(fileService.publicUrl(anyString())).thenAnswer(inv -> "https://bucket.s3.us-east-1.amazonaws.com/" + inv.getArgument(0));
+        when(fileService.uploadBytes(anyString(), any(), anyString())).thenAnswer(inv -> {
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive(), "upload ran inside a transaction");
+            return "https://bucket.s3.us-east-1.amazonaws.com/interview-experience/new.jpg";
+        });
+        doAnswer(inv -> {
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive(), "delete ran inside a transaction");
+            return null;
+        }).when(fileService).deleteImage(anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void updateInterviewExperience_ShouldRunS3CallsOutsideTransactions() throws IOException {
+        // Arrange
+        InterviewExperienceRequest request = InterviewExperienceRequest.builder()
+                .userName("John Doe")
+                .userEmail("john.doe@example.com")
+                .title("Interview at Google, revisited")
+                .content("Updated experience at Google with multiple technical rounds.")
+                .companyTag("Google")
+                .build();
+        MockMultipartFile image = new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes());
+
+        // Act
+        service.updateInterviewExperience(id, request, image, null);
+
+        // Assert
+        verify(fileService).uploadBytes(anyString(), any(), anyString());
+        verify(fileService).deleteImage("https://bucket.s3.us-east-1.amazonaws.com/interview-experience/old.jpg");
+        assertEquals("https://bucket.s3.us-east-1.amazonaws.com/interview-experience/new.jpg",
+                repository.findById(id).orElseThrow().getImageName());
+    }
+
+    @Test
+    void deleteInterviewExperience_ShouldDeleteRowBeforeS3OutsideTransactions() {
+        // Act
+        service.deleteInterviewExperience(id);
+
+        // Assert
+        verify(fileService).deleteImage(anyString());
+        assertTrue(repository.findById(id).isEmpty());
+    }
+
+    @Test
+    void patchInterviewExperience_ShouldUpdatePatchedColumnAndBumpVersion() {
+        // Arrange
+        Long version = repository.findById(id).orElseThrow().getVersion();
+
+        // Act
+        service.patchInterviewExperience(id, Map.of("title", "Interview at Google, patched"), version);
+
+        // Assert
+        InterviewExperience stored = repository.findById(id).orElseThrow();
+        assertEquals("Interview at Google, patched", stored.getTitle());
+        assertEquals("Great experience at Google with multiple technical rounds.", stored.getContent());
+        assertEquals(version + 1, stored.getVersion());
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void removeImage_ShouldClearColumnThenDeleteObjectOutsideTransactions() {
+        // Act
+        service.removeImage(id, null);
+
+        // Assert
+        assertNull(repository.findById(id).orElseThrow().getImageName());
+        verify(fileService).deleteImage("https://bucket.s3.us-east-1.amazonaws.com/interview-experience/old.jpg");
+    }
+
+    @Test
+    void createInterviewExperienceWithSpooledImage_WhenAppendFails_ShouldRollBackTheRow() throws IOException {
+        // Arrange
+        InterviewExperienceRequest request = InterviewExperienceRequest.builder()
+                .userName("Jane Roe")
+                .userEmail("jane.roe@example.com")
+                .title("Interview at Amazon")
+                .content("Loop interview at Amazon with a bar raiser round.")
+                .companyTag("Amazon")
+                .image(new MockMultipartFile("image", "photo.jpg", "image/jpeg", "image".getBytes()))
+                .build();
+        when(fileService.buildKey(anyString(), anyString())).thenReturn("interview-experience/abc_photo.jpg");
+        when(uploadSpool.append(any(), anyString(), anyString(), any())).thenThrow(new IOException("No space left on device"));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> service.createInterviewExperienceWithSpooledImage(request));
+        assertEquals(1, repository.count());
+    }
+}
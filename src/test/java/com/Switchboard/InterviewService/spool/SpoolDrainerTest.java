@@ -0,0 +1,213 @@
+package com.Switchboard.InterviewService.spool;
+
+import com.Switchboard.InterviewService.repository.InterviewExperienceRepository;
+import com.Switchboard.InterviewService.service.FileService;
+import com.Switchboard.InterviewService.service.InterviewExperienceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpoolDrainerTest {
+
+    @Mock
+    private UploadSpool spool;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private InterviewExperienceRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry registry;
+    private SpoolDrainer drainer;
+
+    private SpoolEntry first;
+    private SpoolEntry second;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        drainer = new SpoolDrainer(spool, fileService, repository, eventPublisher, registry, 3);
+        first = new SpoolEntry(1, UUID.randomUUID(), "interview-experience/1.jpg", "image/jpeg", 1, 0, 3);
+        second = new SpoolEntry(2, UUID.randomUUID(), "interview-experience/2.jpg", "image/jpeg", 1, 64, 3);
+    }
+
+    @Test
+    void drain_ShouldUploadPatchAndAckEachEntry() throws IOException {
+        // Arrange
+        when(spool.pending()).thenReturn(List.of(first, second));
+        when(spool.read(any())).thenReturn(new byte[]{1, 2, 3});
+        when(fileService.uploadBytes(anyString(), any(), anyString())).thenAnswer(inv -> "https://cdn/" + inv.getArgument(0));
+        when(repository.updateImageName(any(UUID.class), anyString(), any(LocalDateTime.class))).thenReturn(1);
+        when(repository.findCompanyTagById(any(UUID.class))).thenReturn(Optional.of("Google"));
+
+        // Act
+        int drained = drainer.drain();
+
+        // Assert
+        assertEquals(2, drained);
+        verify(eventPublisher, times(2)).publishEvent(new InterviewExperienceChangedEvent(Set.of("Google")));
+        verify(repository).updateImageName(eq(first.getExperienceId()), eq("https://cdn/interview-experience/1.jpg"), any(LocalDateTime.class));
+        verify(spool).ack(first);
+        verify(spool).ack(second);
+        verify(fileService, never()).deleteImage(anyString());
+    }
+
+    @Test
+    void drain_WhenRowWasDeleted_ShouldRemoveUploadedObjectAndAck() throws IOException {
+        // Arrange
+        when(spool.pending()).thenReturn(List.of(first));
+        when(spool.read(first)).thenReturn(new byte[]{1, 2, 3});
+        when(fileService.uploadBytes(anyString(), any(), anyString())).thenReturn("https://cdn/1.jpg");
+        when(repository.updateImageName(any(UUID.class), anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(repository.findImageNameById(first.getExperienceId())).thenReturn(Optional.empty());
+
+        // Act
+        drainer.drain();
+
+        // Assert
+        verify(fileService).deleteImage("https://cdn/1.jpg");
+        verify(spool).ack(first);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void drain_WhenRowAlreadyHasNewerImage_ShouldRemoveUploadedObjectAndAck() throws IOException {
+        // Arrange
+        when(spool.pending()).thenReturn(List.of(first));
+        when(spool.read(first)).thenReturn(new byte[]{1, 2, 3});
+        when(fileService.uploadBytes(anyString(), any(), anyString())).thenReturn("https://cdn/1.jpg");
+        when(repository.updateImageName(any(UUID.class), anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(repository.findImageNameById(first.getExperienceId())).thenReturn(Optional.of("https://cdn/newer.jpg"));
+
+        // Act
+        drainer.drain();
+
+        // Assert
+        verify(fileService).deleteImage("https://cdn/1.jpg");
+        verify(spool).ack(first);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void drain_WhenReplayFindsItsOwnImage_ShouldKeepObjectAndAck() throws IOException {
+        // Arrange
+        when(spool.pending()).thenReturn(List.of(first));
+        when(spool.read(first)).thenReturn(new byte[]{1, 2, 3});
+        when(fileService.uploadBytes(anyString(), any(), anyString())).thenReturn("https://cdn/1.jpg");
+        when(repository.updateImageName(any(UUID.class), anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(repository.findImageNameById(first.getExperienceId())).thenReturn(Optional.of("https://cdn/1.jpg"));
+
+        // Act
+        drainer.drain();
+
+        // Assert
+        verify(fileService, never()).deleteImage(anyString());
+        verify(spool).ack(first);
+    }
+
+    @Test
+    void drain_WhenOneUploadFails_ShouldLeaveItPendingAndDrainTheRest() throws IOException {
+        // Arrange
+        when(spool.pending()).thenReturn(List.of(first, second));
+        when(spool.read(any())).thenReturn(new byte[]{1, 2, 3});
+        when(fileService.uploadBytes(eq(first.getKey()), any(), anyString())).thenThrow(new RuntimeException("S3 unavailable"));
+        when(fileService.uploadBytes(eq(second.getKey()), any(), anyString())).thenReturn("https://cdn/2.jpg");
+        when(repository.updateImageName(any(UUID.class), anyString(), any(LocalDateTime.class))).thenReturn(1);
+        when(repository.findCompanyTagById(any(UUID.class))).thenReturn(Optional.of("Google"));
+
+        // Act
+        int drained = drainer.drain();
+
+        // Assert
+        assertEquals(1, drained);
+        verify(spool, never()).ack(first);
+        verify(spool).ack(second);
+        verify(spool, never()).quarantine(any(), any());
+    }
+
+    @Test
+    void drain_WhenEntryExhaustsItsAttempts_ShouldQuarantineAndCountIt() throws IOException {
+        // Arrange
+        byte[] content = {1, 2, 3};
+        when(spool.pending()).thenReturn(List.of(first));
+        when(spool.read(first)).thenReturn(content);
+        when(fileService.uploadBytes(anyString(), any(), anyString())).thenThrow(new RuntimeException("403 Forbidden"));
+
+        // Act
+        drainer.drain();
+        drainer.drain();
+        drainer.drain();
+
+        // Assert
+        verify(fileService, times(3)).uploadBytes(anyString(), any(), anyString());
+        verify(spool).quarantine(first, content);
+        verify(spool, never()).ack(any());
+        assertEquals(1.0, registry.get("interview.spool.quarantined").counter().count());
+    }
+
+    @Test
+    void drain_WhenEntryIsUnreadable_ShouldQuarantineWithoutContent() throws IOException {
+        // Arrange
+        when(spool.pending()).thenReturn(List.of(first));
+        when(spool.read(first)).thenThrow(new IOException("Checksum mismatch for spool sequence 1"));
+
+        // Act
+        drainer.drain();
+        drainer.drain();
+        drainer.drain();
+
+        // Assert
+        verify(spool).quarantine(first, null);
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void drain_WhenQuarantineFails_ShouldRetryItOnTheNextPass() throws IOException {
+        // Arrange
+        when(spool.pending()).thenReturn(List.of(first));
+        when(spool.read(first)).thenThrow(new IOException("Checksum mismatch for spool sequence 1"));
+        doThrow(new IOException("disk full")).doNothing().when(spool).quarantine(first, null);
+
+        // Act
+        drainer.drain();
+        drainer.drain();
+        drainer.drain();
+        drainer.drain();
+
+        // Assert
+        verify(spool, times(2)).quarantine(first, null);
+        assertEquals(1.0, registry.get("interview.spool.quarantined").counter().count());
+    }
+
+    @Test
+    void start_WhenSpoolDisabled_ShouldNotSchedule() {
+        // Arrange
+        when(spool.isEnabled()).thenReturn(false);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> {
+            drainer.start();
+            drainer.stop();
+        });
+    }
+}
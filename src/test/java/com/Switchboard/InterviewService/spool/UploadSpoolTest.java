@@ -0,0 +1,192 @@
+package com.Switchboard.InterviewService.spool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadSpoolTest {
+
+    @TempDir
+    Path dir;
+
+    private UploadSpool spool;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    private UploadSpool openSpool(long segmentSize) throws IOException {
+        UploadSpool opened = new UploadSpool(true, dir.toString(), segmentSize, true);
+        opened.open();
+        return opened;
+    }
+
+    @Test
+    void append_ShouldMakeEntryPendingAndReadable() throws IOException {
+        // Arrange
+        spool = openSpool(4096);
+        UUID id = UUID.randomUUID();
+
+        // Act
+        SpoolEntry entry = spool.append(id, "interview-experience/a.jpg", "image/jpeg", "image-bytes".getBytes());
+
+        // Assert
+        assertEquals(1, spool.pending().size());
+        assertEquals(id, entry.getExperienceId());
+        assertArrayEquals("image-bytes".getBytes(), spool.read(entry));
+    }
+
+    @Test
+    void open_AfterRestart_ShouldReplayUnacknowledgedEntriesOnly() throws IOException {
+        // Arrange
+        spool = openSpool(4096);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        SpoolEntry acked = spool.append(first, "k/1.png", "image/png", new byte[]{1, 2, 3});
+        spool.append(second, "k/2.png", null, new byte[]{4, 5});
+        spool.ack(acked);
+        spool.close();
+
+        // Act
+        spool = openSpool(4096);
+
+        // Assert
+        List<SpoolEntry> pending = spool.pending();
+        assertEquals(1, pending.size());
+        assertEquals(second, pending.get(0).getExperienceId());
+        assertEquals("k/2.png", pending.get(0).getKey());
+        assertNull(pending.get(0).getContentType());
+        assertArrayEquals(new byte[]{4, 5}, spool.read(pending.get(0)));
+
+        SpoolEntry next = spool.append(UUID.randomUUID(), "k/3.png", "image/png", new byte[]{6});
+        assertTrue(next.getSequence() > pending.get(0).getSequence());
+    }
+
+    @Test
+    void open_WithCorruptTail_ShouldDiscardCorruptRecord() throws IOException {
+        // Arrange
+        spool = openSpool(4096);
+        SpoolEntry good = spool.append(UUID.randomUUID(), "k/good.png", "image/png", new byte[]{1, 1, 1});
+        SpoolEntry torn = spool.append(UUID.randomUUID(), "k/torn.png", "image/png", new byte[]{2, 2, 2});
+        spool.close();
+
+        Path segment = singleSegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{9}), torn.getOffset() + UploadSpool.HEADER_SIZE + 3);
+        }
+
+        // Act
+        spool = openSpool(4096);
+
+        // Assert
+        List<SpoolEntry> pending = spool.pending();
+        assertEquals(1, pending.size());
+        assertEquals(good.getSequence(), pending.get(0).getSequence());
+    }
+
+    @Test
+    void ack_ShouldReclaimFullyAcknowledgedSegments() throws IOException {
+        // Arrange - each record fills a segment so every append rolls to a new one
+        spool = openSpool(64);
+        SpoolEntry first = spool.append(UUID.randomUUID(), "k/1.png", "image/png", new byte[40]);
+        SpoolEntry second = spool.append(UUID.randomUUID(), "k/2.png", "image/png", new byte[40]);
+        assertEquals(2, spool.segmentCount());
+
+        // Act
+        spool.ack(first);
+        spool.ack(second);
+
+        // Assert
+        assertTrue(spool.pending().isEmpty());
+        assertEquals(1, spool.segmentCount());
+    }
+
+    @Test
+    void ack_WhenAlreadyAcknowledged_ShouldBeNoOp() throws IOException {
+        // Arrange
+        spool = openSpool(4096);
+        SpoolEntry entry = spool.append(UUID.randomUUID(), "k/1.png", "image/png", new byte[]{1});
+        spool.ack(entry);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> spool.ack(entry));
+        assertTrue(spool.pending().isEmpty());
+    }
+
+    @Test
+    void quarantine_ShouldKeepImageInDeadLetterAndNotReplayIt() throws IOException {
+        // Arrange
+        spool = openSpool(4096);
+        UUID id = UUID.randomUUID();
+        SpoolEntry entry = spool.append(id, "k/1.png", "image/png", new byte[]{7, 8, 9});
+
+        // Act
+        spool.quarantine(entry, new byte[]{7, 8, 9});
+        spool.close();
+        spool = openSpool(4096);
+
+        // Assert
+        assertTrue(spool.pending().isEmpty());
+        assertArrayEquals(new byte[]{7, 8, 9}, Files.readAllBytes(dir.resolve("dead-letter").resolve(entry.getSequence() + "_" + id)));
+    }
+
+    @Test
+    void append_WithLongKey_ShouldRoundTripItsLength() throws IOException {
+        // Arrange - longer than Short.MAX_VALUE, which a signed length would read back as negative
+        spool = openSpool(1 << 17);
+        String key = "k/" + "a".repeat(40_000);
+        spool.append(UUID.randomUUID(), key, "image/png", new byte[]{1});
+        spool.close();
+
+        // Act
+        spool = openSpool(1 << 17);
+
+        // Assert
+        assertEquals(key, spool.pending().get(0).getKey());
+    }
+
+    @Test
+    void append_WithKeyOverTheLengthLimit_ShouldThrow() throws IOException {
+        // Arrange
+        spool = openSpool(4096);
+        String key = "a".repeat(UploadSpool.MAX_STRING_BYTES + 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> spool.append(UUID.randomUUID(), key, "image/png", new byte[]{1}));
+        assertTrue(spool.pending().isEmpty());
+    }
+
+    @Test
+    void append_WhenDisabled_ShouldThrow() throws IOException {
+        // Arrange
+        spool = new UploadSpool(false, dir.toString(), 4096, true);
+        spool.open();
+
+        // Act & Assert
+        assertFalse(spool.isEnabled());
+        assertThrows(IllegalStateException.class, () -> spool.append(UUID.randomUUID(), "k", "image/png", new byte[]{1}));
+    }
+
+    private Path singleSegment() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+}
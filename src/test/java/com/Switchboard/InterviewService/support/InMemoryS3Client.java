@@ -0,0 +1,77 @@
+package com.Switchboard.InterviewService.support;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * S3 stand-in that keeps objects in memory. Supports the calls {@code FileServiceImpl} makes; everything
+ * else falls through to the SDK defaults, which throw {@link UnsupportedOperationException}.
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private static final byte[] DISCARDED = new byte[0];
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final boolean retainContent;
+
+    public InMemoryS3Client() {
+        this(true);
+    }
+
+    /**
+     * @param retainContent false reads every body fully but stores only the key, for long-running load
+     *                      where keeping each object would exhaust the heap
+     */
+    public InMemoryS3Client(boolean retainContent) {
+        this.retainContent = retainContent;
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            byte[] content = in.readAllBytes();
+            objects.put(request.bucket() + "/" + request.key(), retainContent ? content : DISCARDED);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return PutObjectResponse.builder().eTag("\"" + request.key().hashCode() + "\"").build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.bucket() + "/" + request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    public byte[] get(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    public void clear() {
+        objects.clear();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+}